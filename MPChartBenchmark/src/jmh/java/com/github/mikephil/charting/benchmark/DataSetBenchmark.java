@@ -0,0 +1,95 @@
+package com.github.mikephil.charting.benchmark;
+
+import com.github.mikephil.charting.data.DataSet;
+import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.data.FloatColumnDataSet;
+import com.github.mikephil.charting.data.LineDataSet;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lookups on the Entry based LineDataSet and the FloatColumnDataSet.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DataSetBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    public int count;
+
+    private LineDataSet mEntrySet;
+    private FloatColumnDataSet mColumnSet;
+
+    private float[] mQueries = new float[1024];
+    private int mQuery = 0;
+
+    @Setup
+    public void setUp() {
+
+        Random random = new Random(42);
+
+        List<Entry> entries = new ArrayList<Entry>(count);
+        float[] xVals = new float[count];
+        float[] yVals = new float[count];
+
+        float y = 0f;
+
+        for (int i = 0; i < count; i++) {
+            y += random.nextFloat() - 0.5f;
+            entries.add(new Entry(i, y));
+            xVals[i] = i;
+            yVals[i] = y;
+        }
+
+        mEntrySet = new LineDataSet(entries, "entries");
+        mColumnSet = new FloatColumnDataSet(xVals, yVals, "columns");
+
+        for (int i = 0; i < mQueries.length; i++)
+            mQueries[i] = random.nextFloat() * count;
+    }
+
+    private float nextQuery() {
+        mQuery = (mQuery + 1) & (mQueries.length - 1);
+        return mQueries[mQuery];
+    }
+
+    @Benchmark
+    public int entryGetEntryIndex() {
+        return mEntrySet.getEntryIndex(nextQuery(), Float.NaN, DataSet.Rounding.CLOSEST);
+    }
+
+    @Benchmark
+    public int columnGetEntryIndex() {
+        return mColumnSet.getEntryIndex(nextQuery(), Float.NaN, DataSet.Rounding.CLOSEST);
+    }
+
+    /**
+     * y-range of a window of 10% of the values, as done by the auto scaling of the chart
+     */
+    @Benchmark
+    public float entryCalcMinMaxY() {
+        float from = nextQuery() * 0.9f;
+        mEntrySet.calcMinMaxY(from, from + count * 0.1f);
+        return mEntrySet.getYMax();
+    }
+
+    @Benchmark
+    public float columnCalcMinMaxY() {
+        float from = nextQuery() * 0.9f;
+        mColumnSet.calcMinMaxY(from, from + count * 0.1f);
+        return mColumnSet.getYMax();
+    }
+}
@@ -0,0 +1,71 @@
+package com.github.mikephil.charting.benchmark;
+
+import com.github.mikephil.charting.data.FloatColumnDataSet;
+import com.github.mikephil.charting.data.filter.Approximator;
+import com.github.mikephil.charting.data.filter.M4Decimator;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Line simplification and decimation of a random walk.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FilterBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    public int count;
+
+    private float[] mPoints;
+    private FloatColumnDataSet mColumnSet;
+
+    private Approximator mApproximator = new Approximator();
+    private M4Decimator mDecimator = new M4Decimator();
+
+    @Setup
+    public void setUp() {
+
+        Random random = new Random(42);
+
+        mPoints = new float[count * 2];
+        float[] xVals = new float[count];
+        float[] yVals = new float[count];
+
+        float y = 0f;
+
+        for (int i = 0; i < count; i++) {
+            y += random.nextFloat() - 0.5f;
+            mPoints[i * 2] = i;
+            mPoints[i * 2 + 1] = y;
+            xVals[i] = i;
+            yVals[i] = y;
+        }
+
+        mColumnSet = new FloatColumnDataSet(xVals, yVals, "columns");
+    }
+
+    @Benchmark
+    public float[] reduceWithDouglasPeucker() {
+        return mApproximator.reduceWithDouglasPeucker(mPoints, 1f);
+    }
+
+    /**
+     * all values on a 1080 pixel wide chart
+     */
+    @Benchmark
+    public int decimateM4() {
+        mDecimator.invalidate();
+        return mDecimator.decimate(mColumnSet, 0, count - 1, 1080f / count, 0f);
+    }
+}
@@ -0,0 +1,64 @@
+package com.github.mikephil.charting.benchmark;
+
+import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.data.LineDataSet;
+import com.github.mikephil.charting.data.RingBufferDataSet;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Appending a value and evicting the oldest one, as done by real-time charts.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class StreamingBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    public int count;
+
+    private LineDataSet mEntrySet;
+    private RingBufferDataSet mRingSet;
+
+    private float mX;
+
+    @Setup
+    public void setUp() {
+
+        List<Entry> entries = new ArrayList<Entry>(count);
+        mRingSet = new RingBufferDataSet(count, "ring");
+
+        for (mX = 0; mX < count; mX++) {
+            entries.add(new Entry(mX, (float) Math.sin(mX)));
+            mRingSet.addEntry(mX, (float) Math.sin(mX));
+        }
+
+        mEntrySet = new LineDataSet(entries, "entries");
+    }
+
+    @Benchmark
+    public float entryAppendAndEvict() {
+        mX++;
+        mEntrySet.addEntry(new Entry(mX, (float) Math.sin(mX)));
+        mEntrySet.removeFirst();
+        return mEntrySet.getYMax();
+    }
+
+    @Benchmark
+    public float ringAppendAndEvict() {
+        mX++;
+        mRingSet.addEntry(mX, (float) Math.sin(mX));
+        return mRingSet.getYMax();
+    }
+}
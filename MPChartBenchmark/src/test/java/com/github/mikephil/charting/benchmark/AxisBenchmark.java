@@ -0,0 +1,76 @@
+package com.github.mikephil.charting.benchmark;
+
+import com.github.mikephil.charting.components.XAxis;
+import com.github.mikephil.charting.components.YAxis;
+import com.github.mikephil.charting.renderer.XAxisRenderer;
+import com.github.mikephil.charting.renderer.YAxisRenderer;
+import com.github.mikephil.charting.utils.Transformer;
+import com.github.mikephil.charting.utils.ViewPortHandler;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.ParameterizedRobolectricTestRunner;
+
+/**
+ * Computation of the axis values (and the x-axis label size) for an axis spanning count values.
+ * The cost depends on the range and the label count, not on the number of entries.
+ */
+@RunWith(ParameterizedRobolectricTestRunner.class)
+public class AxisBenchmark extends GraphicsBenchmark {
+
+    private XAxis mXAxis;
+    private YAxis mYAxis;
+
+    private XAxisRenderer mXAxisRenderer;
+    private YAxisRenderer mYAxisRenderer;
+
+    public AxisBenchmark(int count) {
+        super(count);
+    }
+
+    @Before
+    public void setUp() {
+
+        ViewPortHandler viewPortHandler = new ViewPortHandler();
+        viewPortHandler.setChartDimens(CHART_WIDTH, CHART_HEIGHT);
+
+        Transformer transformer = new Transformer(viewPortHandler);
+        transformer.prepareMatrixValuePx(0f, count, count, 0f);
+        transformer.prepareMatrixOffset(false);
+
+        mXAxis = new XAxis();
+        mXAxis.setLabelCount(25);
+        mXAxis.setGranularity(1f);
+        mXAxis.setAxisMinimum(0f);
+        mXAxis.setAxisMaximum(count);
+
+        mYAxis = new YAxis();
+        mYAxis.setLabelCount(25);
+        mYAxis.setAxisMinimum(0f);
+        mYAxis.setAxisMaximum(count);
+
+        mXAxisRenderer = new XAxisRenderer(viewPortHandler, mXAxis, transformer);
+        mYAxisRenderer = new YAxisRenderer(viewPortHandler, mYAxis, transformer);
+    }
+
+    @Test
+    public void computeXAxis() {
+        measure("computeXAxis", new Runnable() {
+            @Override
+            public void run() {
+                mXAxisRenderer.computeAxis(mXAxis.getAxisMinimum(), mXAxis.getAxisMaximum(), false);
+            }
+        });
+    }
+
+    @Test
+    public void computeYAxis() {
+        measure("computeYAxis", new Runnable() {
+            @Override
+            public void run() {
+                mYAxisRenderer.computeAxis(mYAxis.getAxisMinimum(), mYAxis.getAxisMaximum(), false);
+            }
+        });
+    }
+}
@@ -0,0 +1,117 @@
+package com.github.mikephil.charting.benchmark;
+
+import android.graphics.Canvas;
+import android.view.View;
+
+import com.github.mikephil.charting.charts.Chart;
+
+import org.robolectric.ParameterizedRobolectricTestRunner;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Locale;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Base of the benchmarks that need the Android graphics classes. They run in the Robolectric
+ * runtime, which shadows the native parts of Paint, Path and Matrix. Drawing goes to a stub-only
+ * mocked Canvas, so nothing that is drawn is recorded.
+ */
+public abstract class GraphicsBenchmark {
+
+    public static final int WARMUP_ITERATIONS = 3;
+    public static final int ITERATIONS = 5;
+
+    public static final int CHART_WIDTH = 1080;
+    public static final int CHART_HEIGHT = 1920;
+
+    @ParameterizedRobolectricTestRunner.Parameters(name = "count = {0}")
+    public static Collection<Object[]> counts() {
+        return Arrays.asList(new Object[][]{{1000}, {100000}, {1000000}});
+    }
+
+    /**
+     * the number of points (or entries) the benchmark works on
+     */
+    protected final int count;
+
+    protected final Canvas canvas = mock(Canvas.class, withSettings().stubOnly());
+
+    protected GraphicsBenchmark(int count) {
+        this.count = count;
+    }
+
+    /**
+     * Sizes the given chart to CHART_WIDTH x CHART_HEIGHT, which prepares its matrices and
+     * buffers the same way they are prepared on a device.
+     *
+     * @param chart
+     * @return
+     */
+    protected <T extends Chart<?>> T layout(T chart) {
+
+        chart.measure(View.MeasureSpec.makeMeasureSpec(CHART_WIDTH, View.MeasureSpec.EXACTLY),
+                View.MeasureSpec.makeMeasureSpec(CHART_HEIGHT, View.MeasureSpec.EXACTLY));
+        chart.layout(0, 0, CHART_WIDTH, CHART_HEIGHT);
+
+        return chart;
+    }
+
+    /**
+     * Runs the given operation WARMUP_ITERATIONS times, then reports the average time of
+     * ITERATIONS runs. The result is printed and appended as csv to the file given by the
+     * "benchmark.results" system property.
+     *
+     * @param name
+     * @param operation
+     */
+    protected void measure(String name, Runnable operation) {
+
+        for (int i = 0; i < WARMUP_ITERATIONS; i++)
+            operation.run();
+
+        long start = System.nanoTime();
+
+        for (int i = 0; i < ITERATIONS; i++)
+            operation.run();
+
+        double millis = (System.nanoTime() - start) / 1e6 / ITERATIONS;
+
+        String result = String.format(Locale.US, "%s.%s,%d,%.3f",
+                getClass().getSimpleName(), name, count, millis);
+
+        System.out.println(result + " ms/op");
+
+        String path = System.getProperty("benchmark.results");
+
+        if (path != null)
+            append(new File(path), result);
+    }
+
+    private static synchronized void append(File file, String line) {
+
+        file.getParentFile().mkdirs();
+
+        FileWriter writer = null;
+
+        try {
+            writer = new FileWriter(file, true);
+            writer.write(line);
+            writer.write('\n');
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        } finally {
+            if (writer != null) {
+                try {
+                    writer.close();
+                } catch (IOException ignored) {
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.github.mikephil.charting.benchmark;
+
+import com.github.mikephil.charting.components.Legend;
+import com.github.mikephil.charting.components.LegendEntry;
+import com.github.mikephil.charting.data.PieData;
+import com.github.mikephil.charting.data.PieDataSet;
+import com.github.mikephil.charting.data.PieEntry;
+import com.github.mikephil.charting.renderer.LegendRenderer;
+import com.github.mikephil.charting.utils.ColorTemplate;
+import com.github.mikephil.charting.utils.ViewPortHandler;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.ParameterizedRobolectricTestRunner;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Layout of a wrapping legend with count entries, and the legend of a pie chart with count
+ * slices, which has one entry per slice.
+ */
+@RunWith(ParameterizedRobolectricTestRunner.class)
+public class LegendBenchmark extends GraphicsBenchmark {
+
+    private ViewPortHandler mViewPortHandler;
+
+    private Legend mCustomLegend;
+    private LegendRenderer mCustomLegendRenderer;
+
+    private Legend mPieLegend;
+    private LegendRenderer mPieLegendRenderer;
+    private PieData mPieData;
+
+    public LegendBenchmark(int count) {
+        super(count);
+    }
+
+    @Before
+    public void setUp() {
+
+        mViewPortHandler = new ViewPortHandler();
+        mViewPortHandler.setChartDimens(CHART_WIDTH, CHART_HEIGHT);
+
+        List<LegendEntry> legendEntries = new ArrayList<>(count);
+        List<PieEntry> pieEntries = new ArrayList<>(count);
+
+        for (int i = 0; i < count; i++) {
+            legendEntries.add(new LegendEntry("Entry " + i, Legend.LegendForm.SQUARE, 8f, 3f,
+                    null, ColorTemplate.MATERIAL_COLORS[i % ColorTemplate.MATERIAL_COLORS.length]));
+            pieEntries.add(new PieEntry(1f, "Slice " + i));
+        }
+
+        mCustomLegend = new Legend();
+        mCustomLegend.setWordWrapEnabled(true);
+        mCustomLegend.setCustom(legendEntries);
+        mCustomLegendRenderer = new LegendRenderer(mViewPortHandler, mCustomLegend);
+
+        PieDataSet pieSet = new PieDataSet(pieEntries, "pie");
+        pieSet.setColors(ColorTemplate.MATERIAL_COLORS);
+        mPieData = new PieData(pieSet);
+
+        mPieLegend = new Legend();
+        mPieLegend.setWordWrapEnabled(true);
+        mPieLegendRenderer = new LegendRenderer(mViewPortHandler, mPieLegend);
+    }
+
+    @Test
+    public void calculateDimensions() {
+        measure("calculateDimensions", new Runnable() {
+            @Override
+            public void run() {
+                mCustomLegend.calculateDimensions(mCustomLegendRenderer.getLabelPaint(),
+                        mViewPortHandler);
+            }
+        });
+    }
+
+    /**
+     * What every notifyDataSetChanged() of a pie chart costs for the legend.
+     */
+    @Test
+    public void computePieLegend() {
+        measure("computePieLegend", new Runnable() {
+            @Override
+            public void run() {
+                mPieLegendRenderer.computeLegend(mPieData);
+            }
+        });
+    }
+}
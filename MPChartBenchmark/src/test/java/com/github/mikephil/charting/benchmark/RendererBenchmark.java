@@ -0,0 +1,283 @@
+package com.github.mikephil.charting.benchmark;
+
+import android.content.Context;
+import android.graphics.Canvas;
+
+import com.github.mikephil.charting.animation.ChartAnimator;
+import com.github.mikephil.charting.charts.BarChart;
+import com.github.mikephil.charting.charts.BubbleChart;
+import com.github.mikephil.charting.charts.CandleStickChart;
+import com.github.mikephil.charting.charts.Chart;
+import com.github.mikephil.charting.charts.CombinedChart;
+import com.github.mikephil.charting.charts.HorizontalBarChart;
+import com.github.mikephil.charting.charts.LineChart;
+import com.github.mikephil.charting.charts.PieChart;
+import com.github.mikephil.charting.charts.RadarChart;
+import com.github.mikephil.charting.charts.ScatterChart;
+import com.github.mikephil.charting.data.BarData;
+import com.github.mikephil.charting.data.BarDataSet;
+import com.github.mikephil.charting.data.BarEntry;
+import com.github.mikephil.charting.data.BubbleData;
+import com.github.mikephil.charting.data.BubbleDataSet;
+import com.github.mikephil.charting.data.BubbleEntry;
+import com.github.mikephil.charting.data.CandleData;
+import com.github.mikephil.charting.data.CandleDataSet;
+import com.github.mikephil.charting.data.CandleEntry;
+import com.github.mikephil.charting.data.CombinedData;
+import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.data.LineData;
+import com.github.mikephil.charting.data.LineDataSet;
+import com.github.mikephil.charting.data.PieData;
+import com.github.mikephil.charting.data.PieDataSet;
+import com.github.mikephil.charting.data.PieEntry;
+import com.github.mikephil.charting.data.RadarData;
+import com.github.mikephil.charting.data.RadarDataSet;
+import com.github.mikephil.charting.data.RadarEntry;
+import com.github.mikephil.charting.data.ScatterData;
+import com.github.mikephil.charting.data.ScatterDataSet;
+import com.github.mikephil.charting.renderer.DataRenderer;
+import com.github.mikephil.charting.renderer.PieChartRenderer;
+import com.github.mikephil.charting.utils.ViewPortHandler;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.ParameterizedRobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * DataRenderer.drawData(...) of every chart type for a single DataSet with count entries
+ * (count slices for the pie chart).
+ */
+@RunWith(ParameterizedRobolectricTestRunner.class)
+public class RendererBenchmark extends GraphicsBenchmark {
+
+    private Context mContext;
+
+    /**
+     * the y-values of a random walk
+     */
+    private float[] mValues;
+
+    public RendererBenchmark(int count) {
+        super(count);
+    }
+
+    @Before
+    public void setUp() {
+
+        mContext = RuntimeEnvironment.application;
+
+        Random random = new Random(42);
+
+        mValues = new float[count];
+
+        float y = 0f;
+
+        for (int i = 0; i < count; i++) {
+            y += random.nextFloat() - 0.5f;
+            mValues[i] = y;
+        }
+    }
+
+    @Test
+    public void lineDrawData() {
+
+        LineChart chart = new LineChart(mContext);
+        chart.setData(new LineData(createLineDataSet()));
+
+        measureDrawData("lineDrawData", chart);
+    }
+
+    @Test
+    public void cubicLineDrawData() {
+
+        LineDataSet set = createLineDataSet();
+        set.setMode(LineDataSet.Mode.CUBIC_BEZIER);
+        set.setDrawFilled(true);
+
+        LineChart chart = new LineChart(mContext);
+        chart.setDirectDrawEnabled(true);
+        chart.setData(new LineData(set));
+
+        measureDrawData("cubicLineDrawData", chart);
+    }
+
+    @Test
+    public void barDrawData() {
+
+        BarChart chart = new BarChart(mContext);
+        chart.setData(new BarData(createBarDataSet()));
+
+        measureDrawData("barDrawData", chart);
+    }
+
+    @Test
+    public void horizontalBarDrawData() {
+
+        HorizontalBarChart chart = new HorizontalBarChart(mContext);
+        chart.setData(new BarData(createBarDataSet()));
+
+        measureDrawData("horizontalBarDrawData", chart);
+    }
+
+    @Test
+    public void scatterDrawData() {
+
+        ScatterChart chart = new ScatterChart(mContext);
+        chart.setData(new ScatterData(createScatterDataSet()));
+
+        measureDrawData("scatterDrawData", chart);
+    }
+
+    @Test
+    public void candleDrawData() {
+
+        CandleStickChart chart = new CandleStickChart(mContext);
+        chart.setData(new CandleData(createCandleDataSet()));
+
+        measureDrawData("candleDrawData", chart);
+    }
+
+    @Test
+    public void bubbleDrawData() {
+
+        List<BubbleEntry> entries = new ArrayList<>(count);
+
+        for (int i = 0; i < count; i++)
+            entries.add(new BubbleEntry(i, mValues[i], i % 10));
+
+        BubbleChart chart = new BubbleChart(mContext);
+        chart.setData(new BubbleData(new BubbleDataSet(entries, "bubble")));
+
+        measureDrawData("bubbleDrawData", chart);
+    }
+
+    @Test
+    public void pieDrawData() {
+
+        List<PieEntry> entries = new ArrayList<>(count);
+
+        for (int i = 0; i < count; i++)
+            entries.add(new PieEntry(Math.abs(mValues[i]) + 1f));
+
+        PieChart chart = new PieChart(mContext);
+        chart.setRenderer(new StubBitmapPieChartRenderer(chart, chart.getAnimator(),
+                chart.getViewPortHandler(), canvas));
+        chart.setData(new PieData(new PieDataSet(entries, "pie")));
+
+        measureDrawData("pieDrawData", chart);
+    }
+
+    @Test
+    public void radarDrawData() {
+
+        List<RadarEntry> entries = new ArrayList<>(count);
+
+        for (int i = 0; i < count; i++)
+            entries.add(new RadarEntry(Math.abs(mValues[i])));
+
+        RadarChart chart = new RadarChart(mContext);
+        chart.setData(new RadarData(new RadarDataSet(entries, "radar")));
+
+        measureDrawData("radarDrawData", chart);
+    }
+
+    @Test
+    public void combinedDrawData() {
+
+        CombinedData data = new CombinedData();
+        data.setData(new LineData(createLineDataSet()));
+        data.setData(new BarData(createBarDataSet()));
+        data.setData(new ScatterData(createScatterDataSet()));
+        data.setData(new CandleData(createCandleDataSet()));
+
+        CombinedChart chart = new CombinedChart(mContext);
+        chart.setData(data);
+
+        measureDrawData("combinedDrawData", chart);
+    }
+
+    private void measureDrawData(String name, Chart<?> chart) {
+
+        layout(chart);
+
+        final DataRenderer renderer = chart.getRenderer();
+
+        measure(name, new Runnable() {
+            @Override
+            public void run() {
+                renderer.drawData(canvas);
+            }
+        });
+    }
+
+    private LineDataSet createLineDataSet() {
+
+        List<Entry> entries = new ArrayList<>(count);
+
+        for (int i = 0; i < count; i++)
+            entries.add(new Entry(i, mValues[i]));
+
+        return new LineDataSet(entries, "line");
+    }
+
+    private BarDataSet createBarDataSet() {
+
+        List<BarEntry> entries = new ArrayList<>(count);
+
+        for (int i = 0; i < count; i++)
+            entries.add(new BarEntry(i, mValues[i]));
+
+        return new BarDataSet(entries, "bar");
+    }
+
+    private ScatterDataSet createScatterDataSet() {
+
+        List<Entry> entries = new ArrayList<>(count);
+
+        for (int i = 0; i < count; i++)
+            entries.add(new Entry(i, mValues[i]));
+
+        return new ScatterDataSet(entries, "scatter");
+    }
+
+    private CandleDataSet createCandleDataSet() {
+
+        List<CandleEntry> entries = new ArrayList<>(count);
+
+        for (int i = 0; i < count; i++) {
+            float open = i == 0 ? 0f : mValues[i - 1];
+            float close = mValues[i];
+            entries.add(new CandleEntry(i, Math.max(open, close) + 0.5f,
+                    Math.min(open, close) - 0.5f, open, close));
+        }
+
+        return new CandleDataSet(entries, "candle");
+    }
+
+    /**
+     * Draws the slices onto the stub canvas instead of the bitmap once the bitmap exists,
+     * Robolectric would otherwise record every path drawn onto the bitmap canvas.
+     */
+    private static class StubBitmapPieChartRenderer extends PieChartRenderer {
+
+        private final Canvas mStubCanvas;
+
+        StubBitmapPieChartRenderer(PieChart chart, ChartAnimator animator,
+                                   ViewPortHandler viewPortHandler, Canvas stubCanvas) {
+            super(chart, animator, viewPortHandler);
+            mStubCanvas = stubCanvas;
+        }
+
+        @Override
+        public void drawData(Canvas c) {
+            super.drawData(c);
+            mBitmapCanvas = mStubCanvas;
+        }
+    }
+}
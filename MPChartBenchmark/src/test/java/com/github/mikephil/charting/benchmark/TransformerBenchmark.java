@@ -0,0 +1,117 @@
+package com.github.mikephil.charting.benchmark;
+
+import com.github.mikephil.charting.data.BubbleDataSet;
+import com.github.mikephil.charting.data.BubbleEntry;
+import com.github.mikephil.charting.data.CandleDataSet;
+import com.github.mikephil.charting.data.CandleEntry;
+import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.data.LineDataSet;
+import com.github.mikephil.charting.data.ScatterDataSet;
+import com.github.mikephil.charting.utils.Transformer;
+import com.github.mikephil.charting.utils.ViewPortHandler;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.ParameterizedRobolectricTestRunner;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Transformation of all values of a DataSet into pixels, as done by the renderers on every draw.
+ */
+@RunWith(ParameterizedRobolectricTestRunner.class)
+public class TransformerBenchmark extends GraphicsBenchmark {
+
+    private Transformer mTransformer;
+
+    private LineDataSet mLineSet;
+    private ScatterDataSet mScatterSet;
+    private BubbleDataSet mBubbleSet;
+    private CandleDataSet mCandleSet;
+
+    public TransformerBenchmark(int count) {
+        super(count);
+    }
+
+    @Before
+    public void setUp() {
+
+        Random random = new Random(42);
+
+        List<Entry> entries = new ArrayList<>(count);
+        List<Entry> scatterEntries = new ArrayList<>(count);
+        List<BubbleEntry> bubbleEntries = new ArrayList<>(count);
+        List<CandleEntry> candleEntries = new ArrayList<>(count);
+
+        float y = 0f;
+
+        for (int i = 0; i < count; i++) {
+            float open = y;
+            y += random.nextFloat() - 0.5f;
+
+            entries.add(new Entry(i, y));
+            scatterEntries.add(new Entry(i, y));
+            bubbleEntries.add(new BubbleEntry(i, y, random.nextFloat()));
+            candleEntries.add(new CandleEntry(i, Math.max(open, y) + 0.5f,
+                    Math.min(open, y) - 0.5f, open, y));
+        }
+
+        mLineSet = new LineDataSet(entries, "line");
+        mScatterSet = new ScatterDataSet(scatterEntries, "scatter");
+        mBubbleSet = new BubbleDataSet(bubbleEntries, "bubble");
+        mCandleSet = new CandleDataSet(candleEntries, "candle");
+
+        ViewPortHandler viewPortHandler = new ViewPortHandler();
+        viewPortHandler.setChartDimens(CHART_WIDTH, CHART_HEIGHT);
+
+        mTransformer = new Transformer(viewPortHandler);
+        mTransformer.prepareMatrixValuePx(mLineSet.getXMin(),
+                mLineSet.getXMax() - mLineSet.getXMin(),
+                mLineSet.getYMax() - mLineSet.getYMin(),
+                mLineSet.getYMin());
+        mTransformer.prepareMatrixOffset(false);
+    }
+
+    @Test
+    public void generateTransformedValuesLine() {
+        measure("generateTransformedValuesLine", new Runnable() {
+            @Override
+            public void run() {
+                mTransformer.generateTransformedValuesLine(mLineSet, 1f, 1f, 0, count - 1);
+            }
+        });
+    }
+
+    @Test
+    public void generateTransformedValuesScatter() {
+        measure("generateTransformedValuesScatter", new Runnable() {
+            @Override
+            public void run() {
+                mTransformer.generateTransformedValuesScatter(mScatterSet, 1f, 1f, 0, count - 1);
+            }
+        });
+    }
+
+    @Test
+    public void generateTransformedValuesBubble() {
+        measure("generateTransformedValuesBubble", new Runnable() {
+            @Override
+            public void run() {
+                mTransformer.generateTransformedValuesBubble(mBubbleSet, 1f, 0, count - 1);
+            }
+        });
+    }
+
+    @Test
+    public void generateTransformedValuesCandle() {
+        measure("generateTransformedValuesCandle", new Runnable() {
+            @Override
+            public void run() {
+                mTransformer.generateTransformedValuesCandle(mCandleSet, 1f, 1f, 0, count - 1);
+            }
+        });
+    }
+}
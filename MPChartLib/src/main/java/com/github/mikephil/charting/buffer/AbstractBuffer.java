@@ -16,7 +16,7 @@ public abstract class AbstractBuffer<T> {
     protected int index = 0;
 
     /** float-buffer that holds the data points to draw, order: x,y,x,y,... */
-    public final float[] buffer;
+    public float[] buffer;
 
     /** animation phase x-axis */
     protected float phaseX = 1f;
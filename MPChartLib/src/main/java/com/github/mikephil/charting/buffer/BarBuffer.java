@@ -14,10 +14,22 @@ public class BarBuffer extends AbstractBuffer<IBarDataSet> {
     /** width of the bar on the x-axis, in values (not pixels) */
     protected float mBarWidth = 1f;
 
+    /** number of values the last feed(...) wrote into the buffer */
+    protected int mSize = 0;
+
+    /** index of the last entry the last feed(...) wrote into the buffer, -1 if none */
+    protected int mLastEntryIndex = -1;
+
+    /** index of the first bar in the buffer, counted over all bars of the DataSet */
+    protected int mFirstBarIndex = 0;
+
     public BarBuffer(int size, int dataSetCount, boolean containsStacks) {
         super(size);
         this.mDataSetCount = dataSetCount;
         this.mContainsStacks = containsStacks;
+
+        // feed all entries until limitTo(...) is called
+        this.mTo = Integer.MAX_VALUE;
     }
 
     public void setBarWidth(float barWidth) {
@@ -32,6 +44,87 @@ public class BarBuffer extends AbstractBuffer<IBarDataSet> {
         this.mInverted = inverted;
     }
 
+    /**
+     * Returns the number of values the last feed(...) wrote into the buffer, 4 per bar.
+     *
+     * @return
+     */
+    @Override
+    public int size() {
+        return mSize;
+    }
+
+    /**
+     * Empties the buffer without feeding it, e.g. when the bars are drawn in another way.
+     */
+    public void clear() {
+        mSize = 0;
+        mLastEntryIndex = -1;
+        index = 0;
+    }
+
+    /**
+     * Returns the index of the entry the first bar in the buffer belongs to.
+     *
+     * @return
+     */
+    public int getFirstEntryIndex() {
+        return mFrom;
+    }
+
+    /**
+     * Returns the index of the last entry that was written into the buffer, -1 if the buffer
+     * is empty.
+     *
+     * @return
+     */
+    public int getLastEntryIndex() {
+        return mLastEntryIndex;
+    }
+
+    /**
+     * Returns the index of the first bar in the buffer, counted over all bars (stack entries)
+     * of the DataSet. For DataSets that mix stacked and non-stacked entries, this assumes
+     * that all entries before the buffer have the full stack size.
+     *
+     * @return
+     */
+    public int getFirstBarIndex() {
+        return mFirstBarIndex;
+    }
+
+    /**
+     * Clamps the entry range to the DataSet and the animation phase and makes sure the buffer
+     * is large enough to hold it. Returns the index of the last entry to feed.
+     *
+     * @param data
+     * @return
+     */
+    protected int prepareFeed(IBarDataSet data) {
+
+        // entries beyond this are not drawn yet while animating
+        final int count = Math.min((int) Math.ceil(data.getEntryCount() * phaseX), data.getEntryCount());
+        final int last = Math.min(mTo, count - 1);
+        final int barsPerEntry = mContainsStacks ? Math.max(data.getStackSize(), 1) : 1;
+
+        if (mFrom > last) {
+            mLastEntryIndex = -1;
+            return -1;
+        }
+
+        final int required = (last - mFrom + 1) * 4 * barsPerEntry;
+
+        // grow with some headroom, so that scrolling does not reallocate on every frame
+        if (buffer.length < required)
+            buffer = new float[required + (required >> 1)];
+
+        mLastEntryIndex = last;
+        mFirstBarIndex = mFrom * barsPerEntry;
+        index = 0;
+
+        return last;
+    }
+
     protected void addBar(float left, float top, float right, float bottom) {
 
         buffer[index++] = left;
@@ -40,13 +133,19 @@ public class BarBuffer extends AbstractBuffer<IBarDataSet> {
         buffer[index++] = bottom;
     }
 
+    /**
+     * Writes the bars of the entries from the limitFrom(...) index to the limitTo(...) index
+     * (inclusive) into the buffer.
+     *
+     * @param data
+     */
     @Override
     public void feed(IBarDataSet data) {
 
-        float size = data.getEntryCount() * phaseX;
+        final int last = prepareFeed(data);
         float barWidthHalf = mBarWidth / 2f;
 
-        for (int i = 0; i < size; i++) {
+        for (int i = mFrom; i <= last; i++) {
 
             BarEntry e = data.getEntryForIndex(i);
 
@@ -125,6 +224,7 @@ public class BarBuffer extends AbstractBuffer<IBarDataSet> {
             }
         }
 
+        mSize = index;
         reset();
     }
 }
@@ -13,10 +13,10 @@ public class HorizontalBarBuffer extends BarBuffer {
     @Override
     public void feed(IBarDataSet data) {
 
-        float size = data.getEntryCount() * phaseX;
+        final int last = prepareFeed(data);
         float barWidthHalf = mBarWidth / 2f;
 
-        for (int i = 0; i < size; i++) {
+        for (int i = mFrom; i <= last; i++) {
 
             BarEntry e = data.getEntryForIndex(i);
 
@@ -89,6 +89,7 @@ public class HorizontalBarBuffer extends BarBuffer {
             }
         }
 
+        mSize = index;
         reset();
     }
 }
@@ -5,6 +5,7 @@ import android.graphics.RectF;
 import android.util.AttributeSet;
 import android.util.Log;
 
+import com.github.mikephil.charting.components.XAxis;
 import com.github.mikephil.charting.components.YAxis;
 import com.github.mikephil.charting.data.BarData;
 import com.github.mikephil.charting.data.BarEntry;
@@ -63,17 +64,17 @@ public class BarChart extends BarLineChartBase<BarData> implements BarDataProvid
     }
 
     @Override
-    protected void calcMinMax() {
+    protected void calcMinMax(BarData data, XAxis xAxis, YAxis axisLeft, YAxis axisRight) {
 
         if (mFitBars) {
-            mXAxis.calculate(mData.getXMin() - mData.getBarWidth() / 2f, mData.getXMax() + mData.getBarWidth() / 2f);
+            xAxis.calculate(data.getXMin() - data.getBarWidth() / 2f, data.getXMax() + data.getBarWidth() / 2f);
         } else {
-            mXAxis.calculate(mData.getXMin(), mData.getXMax());
+            xAxis.calculate(data.getXMin(), data.getXMax());
         }
 
         // calculate axis range (min / max) according to provided data
-        mAxisLeft.calculate(mData.getYMin(YAxis.AxisDependency.LEFT), mData.getYMax(YAxis.AxisDependency.LEFT));
-        mAxisRight.calculate(mData.getYMin(YAxis.AxisDependency.RIGHT), mData.getYMax(YAxis.AxisDependency
+        axisLeft.calculate(data.getYMin(YAxis.AxisDependency.LEFT), data.getYMax(YAxis.AxisDependency.LEFT));
+        axisRight.calculate(data.getYMin(YAxis.AxisDependency.RIGHT), data.getYMax(YAxis.AxisDependency
                 .RIGHT));
     }
 
@@ -4,6 +4,7 @@ package com.github.mikephil.charting.charts;
 import android.annotation.SuppressLint;
 import android.annotation.TargetApi;
 import android.content.Context;
+import android.graphics.Bitmap;
 import android.graphics.Canvas;
 import android.graphics.Color;
 import android.graphics.Matrix;
@@ -14,15 +15,18 @@ import android.util.AttributeSet;
 import android.util.Log;
 import android.view.MotionEvent;
 
+import com.github.mikephil.charting.components.XAxis;
 import com.github.mikephil.charting.components.XAxis.XAxisPosition;
 import com.github.mikephil.charting.components.YAxis;
 import com.github.mikephil.charting.components.YAxis.AxisDependency;
 import com.github.mikephil.charting.data.BarLineScatterCandleBubbleData;
 import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.data.EntryFeed;
 import com.github.mikephil.charting.highlight.ChartHighlighter;
 import com.github.mikephil.charting.highlight.Highlight;
 import com.github.mikephil.charting.interfaces.dataprovider.BarLineScatterCandleBubbleDataProvider;
 import com.github.mikephil.charting.interfaces.datasets.IBarLineScatterCandleBubbleDataSet;
+import com.github.mikephil.charting.interfaces.datasets.IVersionedDataSet;
 import com.github.mikephil.charting.jobs.AnimatedMoveViewJob;
 import com.github.mikephil.charting.jobs.AnimatedZoomJob;
 import com.github.mikephil.charting.jobs.MoveViewJob;
@@ -33,9 +37,12 @@ import com.github.mikephil.charting.renderer.XAxisRenderer;
 import com.github.mikephil.charting.renderer.YAxisRenderer;
 import com.github.mikephil.charting.utils.MPPointD;
 import com.github.mikephil.charting.utils.MPPointF;
+import com.github.mikephil.charting.utils.RenderStats;
 import com.github.mikephil.charting.utils.Transformer;
 import com.github.mikephil.charting.utils.Utils;
 
+import java.util.concurrent.ExecutorService;
+
 /**
  * Base-class of LineChart, BarChart, ScatterChart and CandleStickChart.
  *
@@ -57,6 +64,44 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
      */
     protected boolean mAutoScaleMinMaxEnabled = false;
 
+    // the input of the last autoScale(), which is skipped while the visible x-range and the
+    // data stay the same
+    private T mAutoScaleData = null;
+    private int[] mAutoScaleDataVersions = new int[0];
+    private float mAutoScaleFromX, mAutoScaleToX;
+
+    /**
+     * flag that indicates if notifyDataAppended() keeps the newest values in view
+     */
+    protected boolean mFollowTailEnabled = false;
+
+    /**
+     * the maximum visible x-range set by setVisibleXRangeMaximum(...), NaN if not set
+     */
+    protected float mVisibleXRangeMaximum = Float.NaN;
+
+    /**
+     * the minimum visible x-range set by setVisibleXRangeMinimum(...), NaN if not set
+     */
+    protected float mVisibleXRangeMinimum = Float.NaN;
+
+    /**
+     * flag that indicates if the static layers of the chart are cached in a bitmap
+     */
+    protected boolean mLayerCacheEnabled = false;
+
+    /**
+     * bitmap holding everything but highlights and markers, only used if the layer cache is enabled
+     */
+    private Bitmap mLayerBitmap;
+    private Canvas mLayerCanvas;
+
+    // the state the layer bitmap was drawn in
+    private boolean mLayerCacheValid = false;
+    private Matrix mLayerMatrix = new Matrix();
+    private RectF mLayerContentRect = new RectF();
+    private float mLayerPhaseX, mLayerPhaseY;
+
     /**
      * flag that indicates if pinch-zoom is enabled. if true, both x and y axis
      * can be scaled with 2 fingers, if false, x and y axis can be scaled
@@ -191,14 +236,89 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
             return;
 
         long starttime = System.currentTimeMillis();
+        long frameStart = startRenderStats();
+
+        if (mLayerCacheEnabled && getWidth() > 0 && getHeight() > 0) {
+
+            if (!isLayerCacheValid()) {
+
+                if (mLayerBitmap == null
+                        || mLayerBitmap.getWidth() != getWidth()
+                        || mLayerBitmap.getHeight() != getHeight()) {
+
+                    releaseLayerBitmap();
+                    mLayerBitmap = Bitmap.createBitmap(getWidth(), getHeight(), Bitmap.Config.ARGB_8888);
+                    mLayerCanvas = new Canvas(mLayerBitmap);
+                }
+
+                mLayerBitmap.eraseColor(Color.TRANSPARENT);
+
+                drawChart(mLayerCanvas, false);
+
+                mLayerMatrix.set(mViewPortHandler.getMatrixTouch());
+                mLayerContentRect.set(mViewPortHandler.getContentRect());
+                mLayerPhaseX = mAnimator.getPhaseX();
+                mLayerPhaseY = mAnimator.getPhaseY();
+                mLayerCacheValid = true;
+            }
+
+            canvas.drawBitmap(mLayerBitmap, 0, 0, null);
+
+            // only the highlights and markers are drawn every time
+            if (valuesToHighlight()) {
+
+                long phaseStart = startPhase();
+                int clipRestoreCount = canvas.save();
+                canvas.clipRect(mViewPortHandler.getContentRect());
+
+                mRenderer.drawHighlighted(canvas, mIndicesToHighlight);
+
+                canvas.restoreToCount(clipRestoreCount);
+                endPhase(RenderStats.Phase.HIGHLIGHT, phaseStart);
+            }
+
+            long phaseStart = startPhase();
+            drawMarkers(canvas);
+            endPhase(RenderStats.Phase.MARKERS, phaseStart);
+        } else {
+            drawChart(canvas, true);
+        }
+
+        dispatchRenderStats(frameStart);
+
+        if (mLogEnabled) {
+            long drawtime = (System.currentTimeMillis() - starttime);
+            totalTime += drawtime;
+            drawCycles += 1;
+            long average = totalTime / drawCycles;
+            Log.i(LOG_TAG, "Drawtime: " + drawtime + " ms, average: " + average + " ms, cycles: "
+                    + drawCycles);
+        }
+    }
+
+    /**
+     * Draws all layers of the chart.
+     *
+     * @param canvas
+     * @param drawHighlights false to leave out the highlights and markers
+     */
+    protected void drawChart(Canvas canvas, boolean drawHighlights) {
+
+        long phaseStart = startPhase();
 
         // execute all drawing commands
         drawGridBackground(canvas);
 
+        endPhase(RenderStats.Phase.GRID, phaseStart);
+
         if (mAutoScaleMinMaxEnabled) {
+            phaseStart = startPhase();
             autoScale();
+            endPhase(RenderStats.Phase.AUTO_SCALE, phaseStart);
         }
 
+        phaseStart = startPhase();
+
         if (mAxisLeft.isEnabled())
             mAxisRendererLeft.computeAxis(mAxisLeft.mAxisMinimum, mAxisLeft.mAxisMaximum, mAxisLeft.isInverted());
 
@@ -208,6 +328,9 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
         if (mXAxis.isEnabled())
             mXAxisRenderer.computeAxis(mXAxis.mAxisMinimum, mXAxis.mAxisMaximum, false);
 
+        endPhase(RenderStats.Phase.COMPUTE_AXIS, phaseStart);
+        phaseStart = startPhase();
+
         mXAxisRenderer.renderAxisLine(canvas);
         mAxisRendererLeft.renderAxisLine(canvas);
         mAxisRendererRight.renderAxisLine(canvas);
@@ -230,11 +353,17 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
         if (mAxisRight.isEnabled() && mAxisRight.isDrawLimitLinesBehindDataEnabled())
             mAxisRendererRight.renderLimitLines(canvas);
 
+        endPhase(RenderStats.Phase.GRID, phaseStart);
+
         // make sure the data cannot be drawn outside the content-rect
         int clipRestoreCount = canvas.save();
         canvas.clipRect(mViewPortHandler.getContentRect());
 
+        phaseStart = startPhase();
         mRenderer.drawData(canvas);
+        endPhase(RenderStats.Phase.DATA, phaseStart);
+
+        phaseStart = startPhase();
 
         if (!mXAxis.isDrawGridLinesBehindDataEnabled())
             mXAxisRenderer.renderGridLines(canvas);
@@ -245,14 +374,23 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
         if (!mAxisRight.isDrawGridLinesBehindDataEnabled())
             mAxisRendererRight.renderGridLines(canvas);
 
+        endPhase(RenderStats.Phase.GRID, phaseStart);
+
         // if highlighting is enabled
-        if (valuesToHighlight())
+        if (drawHighlights && valuesToHighlight()) {
+            phaseStart = startPhase();
             mRenderer.drawHighlighted(canvas, mIndicesToHighlight);
+            endPhase(RenderStats.Phase.HIGHLIGHT, phaseStart);
+        }
 
         // Removes clipping rectangle
         canvas.restoreToCount(clipRestoreCount);
 
+        phaseStart = startPhase();
         mRenderer.drawExtras(canvas);
+        endPhase(RenderStats.Phase.DATA, phaseStart);
+
+        phaseStart = startPhase();
 
         if (mXAxis.isEnabled() && !mXAxis.isDrawLimitLinesBehindDataEnabled())
             mXAxisRenderer.renderLimitLines(canvas);
@@ -267,6 +405,9 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
         mAxisRendererLeft.renderAxisLabels(canvas);
         mAxisRendererRight.renderAxisLabels(canvas);
 
+        endPhase(RenderStats.Phase.GRID, phaseStart);
+        phaseStart = startPhase();
+
         if (isClipValuesToContentEnabled()) {
             clipRestoreCount = canvas.save();
             canvas.clipRect(mViewPortHandler.getContentRect());
@@ -278,20 +419,56 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
             mRenderer.drawValues(canvas);
         }
 
+        endPhase(RenderStats.Phase.VALUES, phaseStart);
+        phaseStart = startPhase();
+
         mLegendRenderer.renderLegend(canvas);
 
         drawDescription(canvas);
 
-        drawMarkers(canvas);
+        endPhase(RenderStats.Phase.LEGEND, phaseStart);
 
-        if (mLogEnabled) {
-            long drawtime = (System.currentTimeMillis() - starttime);
-            totalTime += drawtime;
-            drawCycles += 1;
-            long average = totalTime / drawCycles;
-            Log.i(LOG_TAG, "Drawtime: " + drawtime + " ms, average: " + average + " ms, cycles: "
-                    + drawCycles);
+        if (drawHighlights) {
+            phaseStart = startPhase();
+            drawMarkers(canvas);
+            endPhase(RenderStats.Phase.MARKERS, phaseStart);
+        }
+    }
+
+    @Override
+    protected void setRenderStats(RenderStats stats) {
+        super.setRenderStats(stats);
+
+        mAxisRendererLeft.setRenderStats(stats);
+        mAxisRendererRight.setRenderStats(stats);
+        mXAxisRenderer.setRenderStats(stats);
+    }
+
+    /**
+     * Returns true if the layer bitmap was drawn with the current viewport and animation phase.
+     *
+     * @return
+     */
+    private boolean isLayerCacheValid() {
+        return mLayerCacheValid
+                && mLayerBitmap != null
+                && mLayerBitmap.getWidth() == getWidth()
+                && mLayerBitmap.getHeight() == getHeight()
+                && mLayerMatrix.equals(mViewPortHandler.getMatrixTouch())
+                && mLayerContentRect.equals(mViewPortHandler.getContentRect())
+                && mLayerPhaseX == mAnimator.getPhaseX()
+                && mLayerPhaseY == mAnimator.getPhaseY();
+    }
+
+    private void releaseLayerBitmap() {
+
+        if (mLayerBitmap != null) {
+            mLayerBitmap.recycle();
+            mLayerBitmap = null;
         }
+
+        mLayerCanvas = null;
+        mLayerCacheValid = false;
     }
 
     /**
@@ -339,18 +516,68 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
         if (mRenderer != null)
             mRenderer.initBuffers();
 
-        calcMinMax();
+        mLayerCacheValid = false;
+        invalidateAutoScale();
 
-        mAxisRendererLeft.computeAxis(mAxisLeft.mAxisMinimum, mAxisLeft.mAxisMaximum, mAxisLeft.isInverted());
-        mAxisRendererRight.computeAxis(mAxisRight.mAxisMinimum, mAxisRight.mAxisMaximum, mAxisRight.isInverted());
-        mXAxisRenderer.computeAxis(mXAxis.mAxisMinimum, mXAxis.mAxisMaximum, false);
+        BarLinePreparedData prepared = (BarLinePreparedData) mPreparedData;
+
+        // the axes prepared by setDataAsync(...) only hold the labels of the full range
+        if (prepared != null && mViewPortHandler.isFullyZoomedOut()) {
+
+            mAxisRendererLeft.setCalculatedAxis(prepared.axisLeft);
+            mAxisRendererRight.setCalculatedAxis(prepared.axisRight);
+            mXAxisRenderer.setCalculatedAxis(prepared.xAxis);
+        } else {
+
+            calcMinMax();
+
+            mAxisRendererLeft.computeAxis(mAxisLeft.mAxisMinimum, mAxisLeft.mAxisMaximum, mAxisLeft.isInverted());
+            mAxisRendererRight.computeAxis(mAxisRight.mAxisMinimum, mAxisRight.mAxisMaximum, mAxisRight.isInverted());
+            mXAxisRenderer.computeAxis(mXAxis.mAxisMinimum, mXAxis.mAxisMaximum, false);
+        }
 
         if (mLegend != null)
-            mLegendRenderer.computeLegend(mData);
+            mLegendRenderer.computeLegend(mData, getPreparedLegendEntries());
 
         calculateOffsets();
     }
 
+    /**
+     * Lightweight alternative to notifyDataSetChanged() for streaming data. Call this after
+     * values were appended to (or removed from the start of) the DataSets of this chart. Only
+     * the min and max values and the axis ranges are recalculated, the legend and the offsets
+     * are kept. If follow tail is enabled, the viewport is moved to show the newest values.
+     * Refreshes the chart.
+     */
+    public void notifyDataAppended() {
+
+        if (mData == null)
+            return;
+
+        mData.notifyDataChanged();
+
+        mLayerCacheValid = false;
+
+        calcMinMax();
+        prepareValuePxMatrix();
+
+        if (mFollowTailEnabled) {
+
+            // the minimum and maximum scale depend on the x-range, which has just changed
+            if (!Float.isNaN(mVisibleXRangeMinimum) && !Float.isNaN(mVisibleXRangeMaximum))
+                setVisibleXRange(mVisibleXRangeMinimum, mVisibleXRangeMaximum);
+            else if (!Float.isNaN(mVisibleXRangeMaximum))
+                setVisibleXRangeMaximum(mVisibleXRangeMaximum);
+            else if (!Float.isNaN(mVisibleXRangeMinimum))
+                setVisibleXRangeMinimum(mVisibleXRangeMinimum);
+
+            // moves the viewport as far right as possible, refreshes the chart
+            moveViewToX(mXAxis.mAxisMaximum);
+        } else {
+            invalidate();
+        }
+    }
+
     /**
      * Performs auto scaling of the axis by recalculating the minimum and maximum y-values based on the entries currently in view.
      */
@@ -358,6 +585,16 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
 
         final float fromX = getLowestVisibleX();
         final float toX = getHighestVisibleX();
+        final boolean versionsChanged = updateDataVersions();
+
+        // nothing moved and nothing changed since the last frame, e.g. while a marker is updated
+        if (mData == mAutoScaleData && !versionsChanged
+                && fromX == mAutoScaleFromX && toX == mAutoScaleToX)
+            return;
+
+        mAutoScaleData = mData;
+        mAutoScaleFromX = fromX;
+        mAutoScaleToX = toX;
 
         mData.calcMinMaxY(fromX, toX);
 
@@ -376,17 +613,119 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
         calculateOffsets();
     }
 
+    /**
+     * Forces the next autoScale() to recalculate the axis ranges and offsets even if the visible
+     * x-range and the data did not change, e.g. after the axes were configured differently.
+     * Called by notifyDataSetChanged().
+     */
+    public void invalidateAutoScale() {
+        mAutoScaleData = null;
+    }
+
+    /**
+     * Stores the version of the data and the versions of its DataSets for the next autoScale().
+     * Returns true if any of them changed since the last call.
+     */
+    private boolean updateDataVersions() {
+
+        final int count = mData.getDataSetCount() + 1;
+
+        int[] versions = mAutoScaleDataVersions;
+        boolean changed = false;
+
+        if (versions.length != count) {
+            versions = mAutoScaleDataVersions = new int[count];
+            changed = true;
+        }
+
+        for (int i = 0; i < count; i++) {
+
+            int version;
+
+            if (i == 0) {
+                version = mData.getVersion();
+            } else {
+                Object set = mData.getDataSetByIndex(i - 1);
+                version = set instanceof IVersionedDataSet ? ((IVersionedDataSet) set).getVersion() : 0;
+            }
+
+            if (versions[i] != version) {
+                versions[i] = version;
+                changed = true;
+            }
+        }
+
+        return changed;
+    }
+
     @Override
     protected void calcMinMax() {
+        calcMinMax(mData, mXAxis, mAxisLeft, mAxisRight);
+    }
 
-        mXAxis.calculate(mData.getXMin(), mData.getXMax());
+    /**
+     * Calculates the ranges of the given axes from the given data. Called on a background
+     * thread by setDataAsync(...) with copies of the axes of this chart.
+     *
+     * @param data
+     * @param xAxis
+     * @param axisLeft
+     * @param axisRight
+     */
+    protected void calcMinMax(T data, XAxis xAxis, YAxis axisLeft, YAxis axisRight) {
+
+        xAxis.calculate(data.getXMin(), data.getXMax());
 
         // calculate axis range (min / max) according to provided data
-        mAxisLeft.calculate(mData.getYMin(AxisDependency.LEFT), mData.getYMax(AxisDependency.LEFT));
-        mAxisRight.calculate(mData.getYMin(AxisDependency.RIGHT), mData.getYMax(AxisDependency
+        axisLeft.calculate(data.getYMin(AxisDependency.LEFT), data.getYMax(AxisDependency.LEFT));
+        axisRight.calculate(data.getYMin(AxisDependency.RIGHT), data.getYMax(AxisDependency
                 .RIGHT));
     }
 
+    @Override
+    protected PreparedData createPreparedData() {
+
+        BarLinePreparedData prepared = new BarLinePreparedData();
+
+        prepared.xAxis = (XAxis) mXAxis.copyForCalculation();
+        prepared.axisLeft = (YAxis) mAxisLeft.copyForCalculation();
+        prepared.axisRight = (YAxis) mAxisRight.copyForCalculation();
+
+        prepared.xAxisRenderer = mXAxisRenderer;
+        prepared.axisRendererLeft = mAxisRendererLeft;
+        prepared.axisRendererRight = mAxisRendererRight;
+
+        return prepared;
+    }
+
+    @Override
+    protected void prepareData(T data, PreparedData prepared) {
+        super.prepareData(data, prepared);
+
+        BarLinePreparedData p = (BarLinePreparedData) prepared;
+
+        calcMinMax(data, p.xAxis, p.axisLeft, p.axisRight);
+
+        p.axisRendererLeft.computeAxisValues(p.axisLeft, p.axisLeft.mAxisMinimum, p.axisLeft.mAxisMaximum);
+        p.axisRendererRight.computeAxisValues(p.axisRight, p.axisRight.mAxisMinimum, p.axisRight.mAxisMaximum);
+        p.xAxisRenderer.computeAxisValues(p.xAxis, p.xAxis.mAxisMinimum, p.xAxis.mAxisMaximum);
+    }
+
+    /**
+     * The prepared state of a chart with axes: copies of the axes, with the ranges and labels
+     * calculated from the prepared data, and the renderers that calculated the labels.
+     */
+    protected static class BarLinePreparedData extends PreparedData {
+
+        public XAxis xAxis;
+        public YAxis axisLeft;
+        public YAxis axisRight;
+
+        public XAxisRenderer xAxisRenderer;
+        public YAxisRenderer axisRendererLeft;
+        public YAxisRenderer axisRendererRight;
+    }
+
     protected void calculateLegendOffsets(RectF offsets) {
 
         offsets.left = 0.f;
@@ -760,6 +1099,7 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
      * @param maxXRange The maximum visible range of x-values.
      */
     public void setVisibleXRangeMaximum(float maxXRange) {
+        mVisibleXRangeMaximum = maxXRange;
         float xScale = mXAxis.mAxisRange / (maxXRange);
         mViewPortHandler.setMinimumScaleX(xScale);
     }
@@ -773,6 +1113,7 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
      * @param minXRange The minimum visible range of x-values.
      */
     public void setVisibleXRangeMinimum(float minXRange) {
+        mVisibleXRangeMinimum = minXRange;
         float xScale = mXAxis.mAxisRange / (minXRange);
         mViewPortHandler.setMaximumScaleX(xScale);
     }
@@ -786,6 +1127,8 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
      * @param maxXRange
      */
     public void setVisibleXRange(float minXRange, float maxXRange) {
+        mVisibleXRangeMinimum = minXRange;
+        mVisibleXRangeMaximum = maxXRange;
         float minScale = mXAxis.mAxisRange / minXRange;
         float maxScale = mXAxis.mAxisRange / maxXRange;
         mViewPortHandler.setMinMaxScaleX(minScale, maxScale);
@@ -1595,6 +1938,7 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
      */
     public void setAutoScaleMinMaxEnabled(boolean enabled) {
         mAutoScaleMinMaxEnabled = enabled;
+        invalidateAutoScale();
     }
 
     /**
@@ -1605,6 +1949,144 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
         return mAutoScaleMinMaxEnabled;
     }
 
+    /**
+     * If enabled, everything but the highlights and markers is drawn into a bitmap that is
+     * reused as long as the data, the viewport and the animation stay the same. Dragging the
+     * highlight then only draws the highlight and the markers. Highlights are drawn on top of
+     * all other layers in this mode. Call invalidateLayerCache() after changing the appearance
+     * of the chart. The bitmap needs width * height * 4 bytes of memory.
+     *
+     * @param enabled
+     */
+    public void setLayerCacheEnabled(boolean enabled) {
+        mLayerCacheEnabled = enabled;
+
+        if (!enabled)
+            releaseLayerBitmap();
+    }
+
+    /**
+     * @return true if the static layers of the chart are cached in a bitmap.
+     * @default false
+     */
+    public boolean isLayerCacheEnabled() {
+        return mLayerCacheEnabled;
+    }
+
+    /**
+     * Forces the cached layers to be redrawn on the next draw, and refreshes the chart. Only
+     * needed if the layer cache is enabled and the appearance of the chart was changed without
+     * calling notifyDataSetChanged().
+     */
+    public void invalidateLayerCache() {
+        mLayerCacheValid = false;
+        invalidate();
+    }
+
+    /**
+     * If enabled, a touch highlights the entry of every scatter and bubble DataSet that is
+     * closest to it in both x and y, found with a SpatialIndex in O(log n), instead of only
+     * looking at the entries with the closest x-value. Only works with the default
+     * highlighters. Default: false
+     *
+     * @param enabled
+     */
+    public void setSpatialHighlightEnabled(boolean enabled) {
+        if (mHighlighter instanceof ChartHighlighter)
+            ((ChartHighlighter) mHighlighter).setSpatialIndexEnabled(enabled);
+    }
+
+    /**
+     * Sets an executor the renderer uses to prepare the render geometry of several DataSets in
+     * parallel (visible range, buffers and pixel positions), one task per visible DataSet. The
+     * drawing thread waits for all tasks and then only issues the draw calls. Only worth it
+     * for charts with several large DataSets. The executor is not shut down by the chart. Set
+     * this again after replacing the renderer. Null (the default) prepares everything on the
+     * drawing thread.
+     *
+     * @param executor
+     */
+    public void setPreparationExecutor(ExecutorService executor) {
+        mRenderer.setPreparationExecutor(executor);
+    }
+
+    /**
+     * Returns the executor the renderer prepares the DataSets on, null if none.
+     *
+     * @return
+     */
+    public ExecutorService getPreparationExecutor() {
+        return mRenderer.getPreparationExecutor();
+    }
+
+    /**
+     * Lets the chart add the entries published into the given feed from other threads. Every
+     * time entries are published, the chart drains the feed on the main thread and calls
+     * notifyDataAppended(), so the DataSets are never modified while they are drawn. Set
+     * null to stop.
+     *
+     * @param feed
+     */
+    public void setEntryFeed(EntryFeed feed) {
+
+        if (mEntryFeed != null)
+            mEntryFeed.setOnPublishListener(null);
+
+        mEntryFeed = feed;
+
+        if (feed != null) {
+            feed.setOnPublishListener(mEntryFeedListener);
+
+            // entries published before the listener was set
+            if (feed.hasPending())
+                getMainHandler().post(mDrainEntryFeed);
+        }
+    }
+
+    public EntryFeed getEntryFeed() {
+        return mEntryFeed;
+    }
+
+    private EntryFeed mEntryFeed;
+
+    private final EntryFeed.OnPublishListener mEntryFeedListener = new EntryFeed.OnPublishListener() {
+        @Override
+        public void onPublish(EntryFeed feed) {
+            getMainHandler().post(mDrainEntryFeed);
+        }
+    };
+
+    private final Runnable mDrainEntryFeed = new Runnable() {
+        @Override
+        public void run() {
+
+            if (mEntryFeed == null || mData == null)
+                return;
+
+            if (mEntryFeed.drainTo(mData) > 0)
+                notifyDataAppended();
+        }
+    };
+
+    /**
+     * If enabled, notifyDataAppended() moves the viewport to the newest values every time it
+     * is called, and reapplies the maximum visible x-range set by setVisibleXRangeMaximum(...)
+     * to the growing x-axis. Use this for real-time charts.
+     *
+     * @param enabled
+     */
+    public void setFollowTailEnabled(boolean enabled) {
+        mFollowTailEnabled = enabled;
+    }
+
+    /**
+     * @return true if follow tail is enabled.
+     * @default false
+     */
+    public boolean isFollowTailEnabled() {
+        return mFollowTailEnabled;
+    }
+
     @Override
     public void setPaint(Paint p, int which) {
         super.setPaint(p, which);
@@ -1630,6 +2112,13 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
         return null;
     }
 
+    @Override
+    protected void onDetachedFromWindow() {
+        // releases the layer bitmap to avoid oom error
+        releaseLayerBitmap();
+        super.onDetachedFromWindow();
+    }
+
     protected float[] mOnSizeChangedBuffer = new float[2];
 
     @Override
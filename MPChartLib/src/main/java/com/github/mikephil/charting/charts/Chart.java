@@ -16,6 +16,8 @@ import android.graphics.Typeface;
 import android.graphics.drawable.Drawable;
 import android.os.Build;
 import android.os.Environment;
+import android.os.Handler;
+import android.os.Looper;
 import android.provider.MediaStore.Images;
 import android.support.annotation.RequiresApi;
 import android.text.TextUtils;
@@ -31,6 +33,7 @@ import com.github.mikephil.charting.animation.Easing.EasingFunction;
 import com.github.mikephil.charting.components.Description;
 import com.github.mikephil.charting.components.IMarker;
 import com.github.mikephil.charting.components.Legend;
+import com.github.mikephil.charting.components.LegendEntry;
 import com.github.mikephil.charting.components.XAxis;
 import com.github.mikephil.charting.data.ChartData;
 import com.github.mikephil.charting.data.Entry;
@@ -41,12 +44,16 @@ import com.github.mikephil.charting.highlight.Highlight;
 import com.github.mikephil.charting.highlight.IHighlighter;
 import com.github.mikephil.charting.interfaces.dataprovider.ChartInterface;
 import com.github.mikephil.charting.interfaces.datasets.IDataSet;
+import com.github.mikephil.charting.interfaces.datasets.ILodDataSet;
 import com.github.mikephil.charting.listener.ChartTouchListener;
 import com.github.mikephil.charting.listener.OnChartGestureListener;
 import com.github.mikephil.charting.listener.OnChartValueSelectedListener;
+import com.github.mikephil.charting.listener.OnDataPreparedListener;
+import com.github.mikephil.charting.listener.OnRenderStatsListener;
 import com.github.mikephil.charting.renderer.DataRenderer;
 import com.github.mikephil.charting.renderer.LegendRenderer;
 import com.github.mikephil.charting.utils.MPPointF;
+import com.github.mikephil.charting.utils.RenderStats;
 import com.github.mikephil.charting.utils.Utils;
 import com.github.mikephil.charting.utils.ViewPortHandler;
 
@@ -55,6 +62,8 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
 
 /**
  * Baseclass of all Chart-Views.
@@ -150,6 +159,33 @@ public abstract class Chart<T extends ChartData<? extends IDataSet<? extends Ent
      */
     private OnChartGestureListener mGestureListener;
 
+    /**
+     * listener for the timings and counts of every frame, null if disabled
+     */
+    protected OnRenderStatsListener mRenderStatsListener;
+
+    /**
+     * the timings and counts of the current frame, reused for every frame
+     */
+    protected RenderStats mRenderStats;
+
+    /**
+     * incremented every time data is set, so that data prepared by setDataAsync(...) is
+     * dropped if other data was set in the meantime
+     */
+    private int mDataGeneration = 0;
+
+    /**
+     * handler for posting to the main thread, created when first needed
+     */
+    private Handler mMainHandler;
+
+    /**
+     * the state prepared by setDataAsync(...) for the data that is being set, only set while
+     * setData(...) is called with that data
+     */
+    protected PreparedData mPreparedData;
+
     protected LegendRenderer mLegendRenderer;
 
     /**
@@ -286,6 +322,7 @@ public abstract class Chart<T extends ChartData<? extends IDataSet<? extends Ent
      */
     public void setData(T data) {
 
+        mDataGeneration++;
         mData = data;
         mOffsetsCalculated = false;
 
@@ -308,11 +345,179 @@ public abstract class Chart<T extends ChartData<? extends IDataSet<? extends Ent
             Log.i(LOG_TAG, "Data is set.");
     }
 
+    /**
+     * Sets new data without blocking the main thread with the work that grows with the number
+     * of entries. The min and max values of all DataSets and of the data, the level-of-detail
+     * pyramids, the legend entries and, for charts with axes, the axis ranges and labels are
+     * calculated on the given executor. The prepared data is then set to the chart on the main
+     * thread, which takes over the prepared state, lays out the legend and calculates the
+     * offsets, and the chart is refreshed once.
+     * <p/>
+     * The data is read on the executor, so it must neither be set to the chart nor share a
+     * DataSet with the data of the chart, and must not be modified until the listener was
+     * called. Changes to the settings of the axes that are made before the listener was called
+     * take effect with the next notifyDataSetChanged(). If setData(...) or setDataAsync(...) is
+     * called again before the data was prepared, the data is dropped and the listener is not
+     * called. Call this only from the main thread.
+     *
+     * @param data
+     * @param executor executor to prepare the data on
+     * @param listener called after the data was set to the chart, may be null
+     */
+    public void setDataAsync(final T data, Executor executor, final OnDataPreparedListener listener) {
+
+        if (data == null)
+            throw new IllegalArgumentException("data must not be null");
+
+        if (mData != null) {
+
+            if (data == mData)
+                throw new IllegalArgumentException("data is already set to the chart, pass a copy");
+
+            for (IDataSet set : data.getDataSets()) {
+                for (IDataSet current : mData.getDataSets()) {
+                    if (set == current)
+                        throw new IllegalArgumentException("DataSet \"" + set.getLabel()
+                                + "\" belongs to the data of the chart, pass a copy");
+                }
+            }
+        }
+
+        final Handler handler = getMainHandler();
+        final int generation = ++mDataGeneration;
+
+        // everything the preparation reads from the chart is captured here, on the main thread
+        final PreparedData prepared = createPreparedData();
+        prepared.prepareLegend = mLegend != null && !mLegend.isLegendCustom();
+
+        executor.execute(new Runnable() {
+            @Override
+            public void run() {
+
+                prepareData(data, prepared);
+
+                handler.post(new Runnable() {
+                    @Override
+                    public void run() {
+
+                        // other data was set in the meantime
+                        if (generation != mDataGeneration)
+                            return;
+
+                        setPreparedData(data, prepared);
+                        invalidate();
+
+                        if (listener != null)
+                            listener.onDataPrepared(data);
+                    }
+                });
+            }
+        });
+    }
+
+    /**
+     * Returns a handler for posting to the main thread from background threads.
+     *
+     * @return
+     */
+    protected Handler getMainHandler() {
+
+        if (mMainHandler == null)
+            mMainHandler = new Handler(Looper.getMainLooper());
+
+        return mMainHandler;
+    }
+
+    /**
+     * Creates the object that prepareData(...) stores the state prepared for new data in.
+     * Called on the main thread by setDataAsync(...), subclasses copy the settings their
+     * preparation depends on into it.
+     *
+     * @return
+     */
+    protected PreparedData createPreparedData() {
+        return new PreparedData();
+    }
+
+    /**
+     * Calculates everything of the given data that grows with the number of entries, and
+     * stores the state the chart takes over from it in the given object. Called on a
+     * background thread by setDataAsync(...), only the given data and prepared state may be
+     * accessed.
+     *
+     * @param data
+     * @param prepared
+     */
+    protected void prepareData(T data, PreparedData prepared) {
+
+        for (IDataSet set : data.getDataSets()) {
+
+            set.calcMinMax();
+
+            // built lazily on first use otherwise, which would be while drawing
+            if (set instanceof ILodDataSet && ((ILodDataSet) set).getLodPyramid() != null)
+                ((ILodDataSet) set).getLodPyramid().getLevelCount();
+        }
+
+        data.notifyDataChanged();
+
+        // one entry per slice for pie charts, so this grows with the number of entries as well
+        if (prepared.prepareLegend)
+            prepared.legendEntries = mLegendRenderer.prepareLegendEntries(data);
+    }
+
+    /**
+     * Sets the given data, which was prepared by prepareData(...), to the chart. While
+     * setData(...) is called, the prepared state is available to notifyDataSetChanged() in
+     * mPreparedData.
+     *
+     * @param data
+     * @param prepared
+     */
+    protected void setPreparedData(T data, PreparedData prepared) {
+
+        mPreparedData = prepared;
+
+        try {
+            setData(data);
+        } finally {
+            mPreparedData = null;
+        }
+    }
+
+    /**
+     * Returns the legend entries prepared by setDataAsync(...) for the data that is being set,
+     * or null if the legend entries have to be computed.
+     *
+     * @return
+     */
+    protected List<LegendEntry> getPreparedLegendEntries() {
+        return mPreparedData != null ? mPreparedData.legendEntries : null;
+    }
+
+    /**
+     * The state prepared for new data by prepareData(...) on a background thread, taken over
+     * by notifyDataSetChanged() on the main thread.
+     */
+    protected static class PreparedData {
+
+        /**
+         * true if the legend entries are computed from the data
+         */
+        public boolean prepareLegend;
+
+        /**
+         * the legend entries of the DataSets, null if not prepared
+         */
+        public List<LegendEntry> legendEntries;
+    }
+
     /**
      * Clears the chart from all data (sets it to null) and refreshes it (by
      * calling invalidate()).
      */
     public void clear() {
+        mDataGeneration++;
         mData = null;
         mOffsetsCalculated = false;
         mIndicesToHighlight = null;
@@ -1047,6 +1252,92 @@ public abstract class Chart<T extends ChartData<? extends IDataSet<? extends Ent
         return mGestureListener;
     }
 
+    /**
+     * Sets a listener that receives the timings (in nanoseconds) of the drawing phases and
+     * the counts of drawn objects after every frame. Set null to disable the recording, no
+     * work is done for the stats while no listener is set.
+     *
+     * @param l
+     */
+    public void setOnRenderStatsListener(OnRenderStatsListener l) {
+        this.mRenderStatsListener = l;
+
+        if (l != null && mRenderStats == null)
+            mRenderStats = new RenderStats();
+    }
+
+    public OnRenderStatsListener getOnRenderStatsListener() {
+        return mRenderStatsListener;
+    }
+
+    /**
+     * Clears the RenderStats for a new frame and hands them to the renderers (or removes
+     * them if no listener is set). Returns the start time of the frame.
+     *
+     * @return
+     */
+    protected long startRenderStats() {
+
+        RenderStats stats = mRenderStatsListener != null ? mRenderStats : null;
+
+        setRenderStats(stats);
+
+        if (stats == null)
+            return 0;
+
+        stats.reset();
+        return System.nanoTime();
+    }
+
+    /**
+     * Hands the given RenderStats to all renderers of the chart, null to stop recording.
+     *
+     * @param stats
+     */
+    protected void setRenderStats(RenderStats stats) {
+
+        if (mRenderer != null)
+            mRenderer.setRenderStats(stats);
+
+        if (mLegendRenderer != null)
+            mLegendRenderer.setRenderStats(stats);
+    }
+
+    /**
+     * Returns the start time of a drawing phase, 0 if no RenderStats are recorded.
+     *
+     * @return
+     */
+    protected long startPhase() {
+        return mRenderStatsListener != null ? System.nanoTime() : 0;
+    }
+
+    /**
+     * Records the time since the given start time for the given phase, if RenderStats are
+     * recorded.
+     *
+     * @param phase
+     * @param start
+     */
+    protected void endPhase(RenderStats.Phase phase, long start) {
+        if (mRenderStatsListener != null)
+            mRenderStats.addPhaseNanos(phase, System.nanoTime() - start);
+    }
+
+    /**
+     * Reports the RenderStats of the frame that started at the given time to the listener.
+     *
+     * @param frameStart
+     */
+    protected void dispatchRenderStats(long frameStart) {
+
+        if (mRenderStatsListener == null)
+            return;
+
+        mRenderStats.setFrameNanos(System.nanoTime() - frameStart);
+        mRenderStatsListener.onRenderStats(mRenderStats);
+    }
+
     /**
      * returns the current y-max value across all DataSets
      *
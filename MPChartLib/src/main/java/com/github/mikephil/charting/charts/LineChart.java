@@ -39,6 +39,18 @@ public class LineChart extends BarLineChartBase<LineData> implements LineDataPro
         return mData;
     }
 
+    /**
+     * If enabled, lines are drawn onto the canvas of the chart directly whenever it supports
+     * them, instead of into a bitmap of the size of the chart. See
+     * LineChartRenderer.setDirectDrawEnabled(...). Default: false
+     *
+     * @param enabled
+     */
+    public void setDirectDrawEnabled(boolean enabled) {
+        if (mRenderer instanceof LineChartRenderer)
+            ((LineChartRenderer) mRenderer).setDirectDrawEnabled(enabled);
+    }
+
     @Override
     protected void onDetachedFromWindow() {
         // releases the bitmap in the renderer to avoid oom error
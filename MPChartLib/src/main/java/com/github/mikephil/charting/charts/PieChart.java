@@ -15,6 +15,7 @@ import com.github.mikephil.charting.highlight.PieHighlighter;
 import com.github.mikephil.charting.interfaces.datasets.IPieDataSet;
 import com.github.mikephil.charting.renderer.PieChartRenderer;
 import com.github.mikephil.charting.utils.MPPointF;
+import com.github.mikephil.charting.utils.RenderStats;
 import com.github.mikephil.charting.utils.Utils;
 
 import java.util.List;
@@ -123,20 +124,37 @@ public class PieChart extends PieRadarChartBase<PieData> {
         if (mData == null)
             return;
 
+        long frameStart = startRenderStats();
+
+        long phaseStart = startPhase();
         mRenderer.drawData(canvas);
+        endPhase(RenderStats.Phase.DATA, phaseStart);
 
-        if (valuesToHighlight())
+        if (valuesToHighlight()) {
+            phaseStart = startPhase();
             mRenderer.drawHighlighted(canvas, mIndicesToHighlight);
+            endPhase(RenderStats.Phase.HIGHLIGHT, phaseStart);
+        }
 
+        phaseStart = startPhase();
         mRenderer.drawExtras(canvas);
+        endPhase(RenderStats.Phase.DATA, phaseStart);
 
+        phaseStart = startPhase();
         mRenderer.drawValues(canvas);
+        endPhase(RenderStats.Phase.VALUES, phaseStart);
 
+        phaseStart = startPhase();
         mLegendRenderer.renderLegend(canvas);
 
         drawDescription(canvas);
+        endPhase(RenderStats.Phase.LEGEND, phaseStart);
 
+        phaseStart = startPhase();
         drawMarkers(canvas);
+        endPhase(RenderStats.Phase.MARKERS, phaseStart);
+
+        dispatchRenderStats(frameStart);
     }
 
     @Override
@@ -102,8 +102,11 @@ public abstract class PieRadarChartBase<T extends ChartData<? extends IDataSet<?
 
         calcMinMax();
 
+        if (mRenderer != null)
+            mRenderer.initBuffers();
+
         if (mLegend != null)
-            mLegendRenderer.computeLegend(mData);
+            mLegendRenderer.computeLegend(mData, getPreparedLegendEntries());
 
         calculateOffsets();
     }
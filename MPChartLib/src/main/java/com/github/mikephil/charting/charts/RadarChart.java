@@ -14,6 +14,7 @@ import com.github.mikephil.charting.highlight.RadarHighlighter;
 import com.github.mikephil.charting.renderer.RadarChartRenderer;
 import com.github.mikephil.charting.renderer.XAxisRendererRadarChart;
 import com.github.mikephil.charting.renderer.YAxisRendererRadarChart;
+import com.github.mikephil.charting.utils.RenderStats;
 import com.github.mikephil.charting.utils.Utils;
 
 /**
@@ -260,7 +261,7 @@ public class RadarChart extends PieRadarChartBase<RadarData> {
         mXAxisRenderer.computeAxis(mXAxis.mAxisMinimum, mXAxis.mAxisMaximum, false);
 
         if (mLegend != null && !mLegend.isLegendCustom())
-            mLegendRenderer.computeLegend(mData);
+            mLegendRenderer.computeLegend(mData, getPreparedLegendEntries());
 
         calculateOffsets();
     }
@@ -272,12 +273,19 @@ public class RadarChart extends PieRadarChartBase<RadarData> {
         if (mData == null)
             return;
 
+        long frameStart = startRenderStats();
+
 //        if (mYAxis.isEnabled())
 //            mYAxisRenderer.computeAxis(mYAxis.mAxisMinimum, mYAxis.mAxisMaximum, mYAxis.isInverted());
 
+        long phaseStart = startPhase();
+
         if (mXAxis.isEnabled())
             mXAxisRenderer.computeAxis(mXAxis.mAxisMinimum, mXAxis.mAxisMaximum, false);
 
+        endPhase(RenderStats.Phase.COMPUTE_AXIS, phaseStart);
+        phaseStart = startPhase();
+
         mXAxisRenderer.renderAxisLabels(canvas);
 
         if (mDrawWeb)
@@ -286,23 +294,50 @@ public class RadarChart extends PieRadarChartBase<RadarData> {
         if (mYAxis.isEnabled() && mYAxis.isDrawLimitLinesBehindDataEnabled())
             mYAxisRenderer.renderLimitLines(canvas);
 
+        endPhase(RenderStats.Phase.GRID, phaseStart);
+
+        phaseStart = startPhase();
         mRenderer.drawData(canvas);
+        endPhase(RenderStats.Phase.DATA, phaseStart);
 
-        if (valuesToHighlight())
+        if (valuesToHighlight()) {
+            phaseStart = startPhase();
             mRenderer.drawHighlighted(canvas, mIndicesToHighlight);
+            endPhase(RenderStats.Phase.HIGHLIGHT, phaseStart);
+        }
+
+        phaseStart = startPhase();
 
         if (mYAxis.isEnabled() && !mYAxis.isDrawLimitLinesBehindDataEnabled())
             mYAxisRenderer.renderLimitLines(canvas);
 
         mYAxisRenderer.renderAxisLabels(canvas);
 
+        endPhase(RenderStats.Phase.GRID, phaseStart);
+
+        phaseStart = startPhase();
         mRenderer.drawValues(canvas);
+        endPhase(RenderStats.Phase.VALUES, phaseStart);
 
+        phaseStart = startPhase();
         mLegendRenderer.renderLegend(canvas);
 
         drawDescription(canvas);
+        endPhase(RenderStats.Phase.LEGEND, phaseStart);
 
+        phaseStart = startPhase();
         drawMarkers(canvas);
+        endPhase(RenderStats.Phase.MARKERS, phaseStart);
+
+        dispatchRenderStats(frameStart);
+    }
+
+    @Override
+    protected void setRenderStats(RenderStats stats) {
+        super.setRenderStats(stats);
+
+        mXAxisRenderer.setRenderStats(stats);
+        mYAxisRenderer.setRenderStats(stats);
     }
 
     /**
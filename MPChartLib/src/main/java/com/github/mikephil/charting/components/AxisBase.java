@@ -17,7 +17,7 @@ import java.util.List;
  *
  * @author Philipp Jahoda
  */
-public abstract class AxisBase extends ComponentBase {
+public abstract class AxisBase extends ComponentBase implements Cloneable {
 
     /**
      * custom formatter that is used instead of the auto-formatter if set
@@ -749,6 +749,48 @@ public abstract class AxisBase extends ComponentBase {
         this.mAxisRange = Math.abs(max - min);
     }
 
+    /**
+     * Returns a copy of this axis with its own, empty label entries, so that its range and
+     * entries can be calculated on a background thread. The copy has the settings this axis
+     * has at the time of the call, objects like the formatter and the limit lines are shared.
+     *
+     * @return
+     */
+    public AxisBase copyForCalculation() {
+
+        AxisBase copy;
+
+        try {
+            copy = (AxisBase) clone();
+        } catch (CloneNotSupportedException e) {
+            throw new AssertionError(e);
+        }
+
+        copy.mEntries = new float[]{};
+        copy.mCenteredEntries = new float[]{};
+        copy.mEntryCount = 0;
+
+        return copy;
+    }
+
+    /**
+     * Takes over the range and the label entries of the given axis, which was created by
+     * copyForCalculation() and calculated since.
+     *
+     * @param axis
+     */
+    public void setCalculatedValues(AxisBase axis) {
+
+        mAxisMinimum = axis.mAxisMinimum;
+        mAxisMaximum = axis.mAxisMaximum;
+        mAxisRange = axis.mAxisRange;
+
+        mEntries = axis.mEntries;
+        mCenteredEntries = axis.mCenteredEntries;
+        mEntryCount = axis.mEntryCount;
+        mDecimals = axis.mDecimals;
+    }
+
     /**
      * Gets extra spacing for `axisMinimum` to be added to automatically calculated `axisMinimum`
      */
@@ -3,6 +3,7 @@ package com.github.mikephil.charting.components;
 
 import android.graphics.DashPathEffect;
 import android.graphics.Paint;
+import android.graphics.Typeface;
 
 import com.github.mikephil.charting.data.Entry;
 import com.github.mikephil.charting.utils.ColorTemplate;
@@ -11,6 +12,7 @@ import com.github.mikephil.charting.utils.Utils;
 import com.github.mikephil.charting.utils.ViewPortHandler;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -226,6 +228,7 @@ public class Legend extends ComponentBase {
      */
     public void setEntries(List<LegendEntry> entries) {
         mEntries = entries.toArray(new LegendEntry[entries.size()]);
+        mDimensionsValid = false;
     }
 
     public LegendEntry[] getEntries() {
@@ -834,6 +837,13 @@ public class Legend extends ComponentBase {
     private List<Boolean> mCalculatedLabelBreakPoints = new ArrayList<>(16);
     private List<FSize> mCalculatedLineSizes = new ArrayList<>(16);
 
+    // the input of the last calculateDimensions(...), which is skipped while the entries, the
+    // settings, the label paint and the available width stay the same
+    private boolean mDimensionsValid = false;
+    private float[] mDimensionsParams = new float[12];
+    private float[] mLastDimensionsParams = new float[12];
+    private Typeface mLastDimensionsTypeface;
+
     public List<FSize> getCalculatedLabelSizes() {
         return mCalculatedLabelSizes;
     }
@@ -855,6 +865,9 @@ public class Legend extends ComponentBase {
      */
     public void calculateDimensions(Paint labelpaint, ViewPortHandler viewPortHandler) {
 
+        if (!needsDimensions(labelpaint, viewPortHandler))
+            return;
+
         float defaultFormSize = Utils.convertDpToPixel(mFormSize);
         float stackSpace = Utils.convertDpToPixel(mStackSpace);
         float formToTextSpace = Utils.convertDpToPixel(mFormToTextSpace);
@@ -937,6 +950,10 @@ public class Legend extends ComponentBase {
                 int stackedStartIndex = -1;
 
                 mCalculatedLabelBreakPoints.clear();
+
+                // the sizes of the last calculation go back to the pool
+                FSize.recycleInstances(mCalculatedLabelSizes);
+                FSize.recycleInstances(mCalculatedLineSizes);
                 mCalculatedLabelSizes.clear();
                 mCalculatedLineSizes.clear();
 
@@ -1027,4 +1044,39 @@ public class Legend extends ComponentBase {
         mNeededHeight += mYOffset;
         mNeededWidth += mXOffset;
     }
+
+    /**
+     * Returns true if the dimensions have to be calculated, because the entries, a setting that
+     * affects the layout, the label paint or the available width changed since the last
+     * calculation. Custom entries can be modified in place and are always calculated.
+     */
+    private boolean needsDimensions(Paint labelpaint, ViewPortHandler viewPortHandler) {
+
+        final float[] params = mDimensionsParams;
+        params[0] = mFormSize;
+        params[1] = mStackSpace;
+        params[2] = mFormToTextSpace;
+        params[3] = mXEntrySpace;
+        params[4] = mYEntrySpace;
+        params[5] = mWordWrapEnabled ? 1f : 0f;
+        params[6] = mOrientation.ordinal();
+        params[7] = mMaxSizePercent;
+        params[8] = mXOffset;
+        params[9] = mYOffset;
+        params[10] = labelpaint.getTextSize();
+        // only horizontal legends wrap at the content width
+        params[11] = mOrientation == LegendOrientation.HORIZONTAL ? viewPortHandler.contentWidth() : 0f;
+
+        if (mDimensionsValid && !mIsLegendCustom
+                && labelpaint.getTypeface() == mLastDimensionsTypeface
+                && Arrays.equals(params, mLastDimensionsParams))
+            return false;
+
+        mDimensionsParams = mLastDimensionsParams;
+        mLastDimensionsParams = params;
+        mLastDimensionsTypeface = labelpaint.getTypeface();
+        mDimensionsValid = true;
+
+        return true;
+    }
 }
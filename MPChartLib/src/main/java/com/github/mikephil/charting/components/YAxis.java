@@ -2,6 +2,7 @@ package com.github.mikephil.charting.components;
 
 import android.graphics.Color;
 import android.graphics.Paint;
+import android.graphics.Typeface;
 
 import com.github.mikephil.charting.utils.Utils;
 
@@ -99,6 +100,14 @@ public class YAxis extends AxisBase {
      */
     protected float mMaxWidth = Float.POSITIVE_INFINITY;
 
+    // the longest label that was measured last, with the text size and typeface of the paint,
+    // so that it is only measured again when it changes
+    private String mMeasuredLabel = null;
+    private float mMeasuredTextSize = Float.NaN;
+    private Typeface mMeasuredTypeface = null;
+    private float mMeasuredLabelWidth = Float.NaN;
+    private float mMeasuredLabelHeight = Float.NaN;
+
     /**
      * Enum that specifies the axis a DataSet should be plotted against, either LEFT or RIGHT.
      *
@@ -324,7 +333,11 @@ public class YAxis extends AxisBase {
         p.setTextSize(mTextSize);
 
         String label = getLongestLabel();
-        float width = (float) Utils.calcTextWidth(p, label) + getXOffset() * 2f;
+
+        if (!isMeasured(p, label) || Float.isNaN(mMeasuredLabelWidth))
+            mMeasuredLabelWidth = Utils.calcTextWidth(p, label);
+
+        float width = mMeasuredLabelWidth + getXOffset() * 2f;
 
         float minWidth = getMinWidth();
         float maxWidth = getMaxWidth();
@@ -351,7 +364,31 @@ public class YAxis extends AxisBase {
         p.setTextSize(mTextSize);
 
         String label = getLongestLabel();
-        return (float) Utils.calcTextHeight(p, label) + getYOffset() * 2f;
+
+        if (!isMeasured(p, label) || Float.isNaN(mMeasuredLabelHeight))
+            mMeasuredLabelHeight = Utils.calcTextHeight(p, label);
+
+        return mMeasuredLabelHeight + getYOffset() * 2f;
+    }
+
+    /**
+     * Returns true if the given label was measured last with the text size and typeface of the
+     * given paint. Otherwise, the measured sizes are discarded and false is returned.
+     */
+    private boolean isMeasured(Paint p, String label) {
+
+        if (label.equals(mMeasuredLabel)
+                && p.getTextSize() == mMeasuredTextSize
+                && p.getTypeface() == mMeasuredTypeface)
+            return true;
+
+        mMeasuredLabel = label;
+        mMeasuredTextSize = p.getTextSize();
+        mMeasuredTypeface = p.getTypeface();
+        mMeasuredLabelWidth = Float.NaN;
+        mMeasuredLabelHeight = Float.NaN;
+
+        return false;
     }
 
     /**
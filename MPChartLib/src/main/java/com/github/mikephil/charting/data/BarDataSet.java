@@ -130,6 +130,24 @@ public class BarDataSet extends BarLineScatterCandleBubbleDataSet<BarEntry> impl
         }
     }
 
+    @Override
+    protected float getXForMinMax(int index) {
+        BarEntry e = mValues.get(index);
+        return Float.isNaN(e.getY()) ? Float.NaN : e.getX();
+    }
+
+    @Override
+    protected float getYLowForMinMax(int index) {
+        BarEntry e = mValues.get(index);
+        return e.getYVals() == null ? e.getY() : -e.getNegativeSum();
+    }
+
+    @Override
+    protected float getYHighForMinMax(int index) {
+        BarEntry e = mValues.get(index);
+        return e.getYVals() == null ? e.getY() : e.getPositiveSum();
+    }
+
     @Override
     public int getStackSize() {
         return mStackSize;
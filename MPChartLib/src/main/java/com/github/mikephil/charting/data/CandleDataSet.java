@@ -131,6 +131,18 @@ public class CandleDataSet extends LineScatterCandleRadarDataSet<CandleEntry> im
             mYMax = e.getLow();
     }
 
+    @Override
+    protected float getYLowForMinMax(int index) {
+        CandleEntry e = mValues.get(index);
+        return Math.min(e.getLow(), e.getHigh());
+    }
+
+    @Override
+    protected float getYHighForMinMax(int index) {
+        CandleEntry e = mValues.get(index);
+        return Math.max(e.getLow(), e.getHigh());
+    }
+
     /**
      * Sets the space that is left out on the left and right side of each
      * candle, default 0.1f (10%), max 0.45f, min 0f
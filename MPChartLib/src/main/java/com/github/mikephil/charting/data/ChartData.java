@@ -54,6 +54,12 @@ public abstract class ChartData<T extends IDataSet<? extends Entry>> {
      */
     protected List<T> mDataSets;
 
+    /**
+     * incremented every time DataSets or entries are added or removed through this object, and
+     * every time notifyDataChanged() is called
+     */
+    protected int mVersion = 0;
+
     /**
      * Default constructor.
      */
@@ -104,9 +110,22 @@ public abstract class ChartData<T extends IDataSet<? extends Entry>> {
      * the contained data has changed.
      */
     public void notifyDataChanged() {
+        mVersion++;
         calcMinMax();
     }
 
+    /**
+     * Returns a number that changes every time DataSets or entries are added or removed
+     * through this object, and every time notifyDataChanged() is called. Caches that depend
+     * on the data can compare it to find out cheaply whether they are stale. Changes of the
+     * DataSets themselves are counted by their own version, see IVersionedDataSet.
+     *
+     * @return
+     */
+    public int getVersion() {
+        return mVersion;
+    }
+
     /**
      * Calc minimum and maximum y-values over all DataSets.
      * Tell DataSets to recalculate their min and max y-values, this is only needed for autoScaleMinMax.
@@ -382,6 +401,7 @@ public abstract class ChartData<T extends IDataSet<? extends Entry>> {
         calcMinMax(d);
 
         mDataSets.add(d);
+        mVersion++;
     }
 
     /**
@@ -400,6 +420,7 @@ public abstract class ChartData<T extends IDataSet<? extends Entry>> {
 
         // if a DataSet was removed
         if (removed) {
+            mVersion++;
             calcMinMax();
         }
 
@@ -438,6 +459,8 @@ public abstract class ChartData<T extends IDataSet<? extends Entry>> {
             if (!set.addEntry(e))
                 return;
 
+            mVersion++;
+
             calcMinMax(e, set.getAxisDependency());
 
         } else {
@@ -445,6 +468,68 @@ public abstract class ChartData<T extends IDataSet<? extends Entry>> {
         }
     }
 
+    /**
+     * Adds the given entries, which must be sorted by x-value, to the DataSet at the specified
+     * index in one pass (see DataSet.addEntries(...)). The minimum and maximum values are
+     * updated once for the whole batch.
+     *
+     * @param entries
+     * @param dataSetIndex
+     */
+    @SuppressWarnings("unchecked")
+    public void addEntries(List<? extends Entry> entries, int dataSetIndex) {
+
+        if (mDataSets.size() > dataSetIndex && dataSetIndex >= 0) {
+
+            if (entries == null || entries.isEmpty())
+                return;
+
+            T set = mDataSets.get(dataSetIndex);
+
+            if (set instanceof DataSet) {
+                ((DataSet) set).addEntries(entries);
+            } else {
+                for (int i = 0; i < entries.size(); i++)
+                    ((IDataSet) set).addEntryOrdered(entries.get(i));
+            }
+
+            mVersion++;
+            calcMinMax(set);
+
+        } else {
+            Log.e("addEntries", "Cannot add Entries because dataSetIndex too high or too low.");
+        }
+    }
+
+    /**
+     * Adds the given values, which must be sorted by x-value, to the FloatColumnDataSet at the
+     * specified index in one pass and without creating Entry objects. The minimum and maximum
+     * values are updated once for the whole batch.
+     *
+     * @param xs
+     * @param ys
+     * @param dataSetIndex
+     */
+    public void addEntries(float[] xs, float[] ys, int dataSetIndex) {
+
+        if (mDataSets.size() > dataSetIndex && dataSetIndex >= 0) {
+
+            T set = mDataSets.get(dataSetIndex);
+
+            if (!(set instanceof FloatColumnDataSet))
+                throw new IllegalArgumentException("DataSet at index " + dataSetIndex
+                        + " is not a FloatColumnDataSet");
+
+            ((FloatColumnDataSet) set).addEntries(xs, ys);
+
+            mVersion++;
+            calcMinMax(set);
+
+        } else {
+            Log.e("addEntries", "Cannot add Entries because dataSetIndex too high or too low.");
+        }
+    }
+
     /**
      * Adjusts the current minimum and maximum values based on the provided Entry object.
      *
@@ -527,6 +612,7 @@ public abstract class ChartData<T extends IDataSet<? extends Entry>> {
             boolean removed = set.removeEntry(e);
 
             if (removed) {
+                mVersion++;
                 calcMinMax();
             }
 
@@ -165,6 +165,7 @@ public class CombinedData extends BarLineScatterCandleBubbleData<IBarLineScatter
         if (mBubbleData != null)
             mBubbleData.notifyDataChanged();
 
+        mVersion++;
         calcMinMax(); // recalculate everything
     }
 
@@ -1,6 +1,9 @@
 
 package com.github.mikephil.charting.data;
 
+import com.github.mikephil.charting.interfaces.datasets.ILodDataSet;
+import com.github.mikephil.charting.interfaces.datasets.IVersionedDataSet;
+
 import java.util.ArrayList;
 import java.util.List;
 
@@ -12,7 +15,7 @@ import java.util.List;
  *
  * @author Philipp Jahoda
  */
-public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
+public abstract class DataSet<T extends Entry> extends BaseDataSet<T> implements ILodDataSet, IVersionedDataSet {
 
     /**
      * the entries that this DataSet represents / holds together
@@ -39,6 +42,20 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
      */
     protected float mXMin = Float.MAX_VALUE;
 
+    /**
+     * index for fast min / max queries on ranges of entries, created when first needed
+     */
+    private MinMaxIndex mMinMaxIndex = null;
+
+    /**
+     * level-of-detail pyramid for drawing zoomed out, null if disabled
+     */
+    private LodPyramid mLodPyramid = null;
+
+    /**
+     * incremented every time the entries change
+     */
+    private int mVersion = 0;
 
     /**
      * Creates a new DataSet object with the given values (entries) it represents. Also, a
@@ -61,6 +78,9 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
     @Override
     public void calcMinMax() {
 
+        // the values may have changed in any way
+        invalidateIndices();
+
         if (mValues == null || mValues.isEmpty())
             return;
 
@@ -77,20 +97,170 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
     @Override
     public void calcMinMaxY(float fromX, float toX) {
 
-        if (mValues == null || mValues.isEmpty())
+        if (getEntryCount() == 0)
             return;
 
-        mYMax = -Float.MAX_VALUE;
-        mYMin = Float.MAX_VALUE;
-
         int indexFrom = getEntryIndex(fromX, Float.NaN, Rounding.DOWN);
         int indexTo = getEntryIndex(toX, Float.NaN, Rounding.UP);
 
-        for (int i = indexFrom; i <= indexTo; i++) {
+        // O(log n) lookup instead of looking at every entry in range
+        MinMaxIndex index = getMinMaxIndex();
 
-            // only recalculate y
-            calcMinMaxY(mValues.get(i));
-        }
+        mYMin = index.getYMin(indexFrom, indexTo);
+        mYMax = index.getYMax(indexFrom, indexTo);
+    }
+
+    /**
+     * Returns the index used for min / max queries on ranges of entries.
+     *
+     * @return
+     */
+    protected MinMaxIndex getMinMaxIndex() {
+
+        if (mMinMaxIndex == null)
+            mMinMaxIndex = new MinMaxIndex(this);
+
+        return mMinMaxIndex;
+    }
+
+    /**
+     * Enables / disables the level-of-detail pyramid of this DataSet. If enabled, the line,
+     * bar and candle renderers draw the buckets of the pyramid instead of the entries when
+     * zoomed out so far that many entries fall onto one pixel, so that drawing the whole
+     * DataSet costs O(pixels) instead of O(entries). The pyramid needs about 7 bytes per
+     * entry. Default: false
+     *
+     * @param enabled
+     */
+    public void setLodEnabled(boolean enabled) {
+
+        if (!enabled)
+            mLodPyramid = null;
+        else if (mLodPyramid == null)
+            mLodPyramid = new LodPyramid(this);
+    }
+
+    /**
+     * Returns true if the level-of-detail pyramid is enabled.
+     *
+     * @return
+     */
+    public boolean isLodEnabled() {
+        return mLodPyramid != null;
+    }
+
+    @Override
+    public LodPyramid getLodPyramid() {
+        return mLodPyramid;
+    }
+
+    /**
+     * Returns a number that changes every time entries are added or removed, and every time
+     * notifyDataSetChanged() is called. Call notifyDataSetChanged() after modifying entries
+     * in place.
+     *
+     * @return
+     */
+    @Override
+    public int getVersion() {
+        return mVersion;
+    }
+
+    /**
+     * Call this after the entries changed without going through onEntryAdded(...),
+     * onEntryRemoved(...) or invalidateIndices().
+     */
+    protected void incrementVersion() {
+        mVersion++;
+    }
+
+    /**
+     * Marks the MinMaxIndex and the LodPyramid as invalid after the entries changed in any way.
+     */
+    protected void invalidateIndices() {
+
+        mVersion++;
+
+        if (mMinMaxIndex != null)
+            mMinMaxIndex.invalidate();
+
+        if (mLodPyramid != null)
+            mLodPyramid.invalidate();
+    }
+
+    /**
+     * Tells the MinMaxIndex and the LodPyramid (if created) that an entry was inserted at the
+     * given index.
+     *
+     * @param index
+     */
+    protected void onEntryAdded(int index) {
+
+        mVersion++;
+
+        if (mMinMaxIndex != null)
+            mMinMaxIndex.onEntryAdded(index);
+
+        if (mLodPyramid != null)
+            mLodPyramid.onEntryAdded(index);
+    }
+
+    /**
+     * Updates the MinMaxIndex after the entry at the given index was removed, and takes the
+     * new minimum and maximum values from it instead of recalculating them from all entries.
+     *
+     * @param index
+     */
+    protected void onEntryRemoved(int index) {
+
+        mVersion++;
+
+        if (mLodPyramid != null)
+            mLodPyramid.onEntryRemoved(index);
+
+        MinMaxIndex minMaxIndex = getMinMaxIndex();
+        minMaxIndex.onEntryRemoved(index);
+
+        if (getEntryCount() == 0)
+            return;
+
+        mXMin = minMaxIndex.getXMin();
+        mXMax = minMaxIndex.getXMax();
+        mYMin = minMaxIndex.getYMin();
+        mYMax = minMaxIndex.getYMax();
+    }
+
+    /**
+     * Returns the x-value of the entry at the given index that is used for the min and max
+     * values of this DataSet. Return Float.NaN to ignore the entry for the x-range.
+     *
+     * @param index
+     * @return
+     */
+    protected float getXForMinMax(int index) {
+        return mValues.get(index).getX();
+    }
+
+    /**
+     * Returns the lowest y-value of the entry at the given index that is used for the min and
+     * max values of this DataSet. Override this if an entry covers more than one y-value.
+     *
+     * @param index
+     * @return
+     */
+    protected float getYLowForMinMax(int index) {
+        return mValues.get(index).getY();
+    }
+
+    /**
+     * Returns the highest y-value of the entry at the given index that is used for the min and
+     * max values of this DataSet. Override this if an entry covers more than one y-value.
+     *
+     * @param index
+     * @return
+     */
+    protected float getYHighForMinMax(int index) {
+        return mValues.get(index).getY();
     }
 
     /**
@@ -163,6 +333,7 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
      */
     protected void copy(DataSet dataSet) {
         super.copy(dataSet);
+        dataSet.setLodEnabled(isLodEnabled());
     }
 
     @Override
@@ -223,11 +394,66 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
         if (mValues.size() > 0 && mValues.get(mValues.size() - 1).getX() > e.getX()) {
             int closestIndex = getEntryIndex(e.getX(), e.getY(), Rounding.UP);
             mValues.add(closestIndex, e);
+            onEntryAdded(closestIndex);
         } else {
             mValues.add(e);
+            onEntryAdded(mValues.size() - 1);
         }
     }
 
+    /**
+     * Adds the given entries, which must be sorted by x-value, in one pass. If none of them
+     * lies before the last entry of this DataSet they are appended, otherwise both sorted
+     * sequences are merged, entries with the same x-value are placed behind the existing
+     * ones. Much faster than adding the entries one by one with addEntryOrdered(...).
+     *
+     * @param entries
+     */
+    public void addEntries(List<? extends T> entries) {
+
+        if (entries == null || entries.isEmpty())
+            return;
+
+        for (int i = 1; i < entries.size(); i++) {
+            if (entries.get(i).getX() < entries.get(i - 1).getX())
+                throw new IllegalArgumentException("entries must be sorted by x-value");
+        }
+
+        if (mValues == null)
+            mValues = new ArrayList<T>();
+
+        for (int i = 0; i < entries.size(); i++)
+            calcMinMax(entries.get(i));
+
+        final int oldSize = mValues.size();
+
+        if (oldSize == 0 || mValues.get(oldSize - 1).getX() <= entries.get(0).getX()) {
+
+            mValues.addAll(entries);
+
+            for (int i = oldSize; i < mValues.size(); i++)
+                onEntryAdded(i);
+
+            return;
+        }
+
+        // make room, then merge from the back so that every entry is moved only once
+        mValues.addAll(entries);
+
+        int i = oldSize - 1;
+        int j = entries.size() - 1;
+        int k = mValues.size() - 1;
+
+        while (j >= 0) {
+            if (i >= 0 && mValues.get(i).getX() > entries.get(j).getX())
+                mValues.set(k--, mValues.get(i--));
+            else
+                mValues.set(k--, entries.get(j--));
+        }
+
+        invalidateIndices();
+    }
+
     @Override
     public void clear() {
         mValues.clear();
@@ -248,7 +474,11 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
         calcMinMax(e);
 
         // add the entry
-        return values.add(e);
+        if (!values.add(e))
+            return false;
+
+        onEntryAdded(values.size() - 1);
+        return true;
     }
 
     @Override
@@ -260,14 +490,17 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
         if (mValues == null)
             return false;
 
+        int index = mValues.indexOf(e);
+
+        if (index < 0)
+            return false;
+
         // remove the entry
-        boolean removed = mValues.remove(e);
+        mValues.remove(index);
 
-        if (removed) {
-            calcMinMax();
-        }
+        onEntryRemoved(index);
 
-        return removed;
+        return true;
     }
 
     @Override
@@ -0,0 +1,155 @@
+package com.github.mikephil.charting.data;
+
+import android.util.Log;
+
+import com.github.mikephil.charting.interfaces.datasets.IDataSet;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Hands new entries from any number of producer threads (e.g. network or sensor threads) to
+ * a chart without locks. Producers publish batches of entries into a lock-free queue, and
+ * the thread that owns the ChartData (the main thread) adds them to the DataSets between two
+ * frames with drainTo(...). The DataSets are therefore only ever modified by the thread that
+ * draws them, so every frame is drawn from a consistent state.
+ * <p/>
+ * Use BarLineChartBase.setEntryFeed(...) to let a chart drain the feed automatically, or call
+ * drainTo(...) yourself on the main thread.
+ */
+public class EntryFeed {
+
+    /**
+     * Called by the first publish(...) after every drainTo(...), on the publishing thread.
+     */
+    public interface OnPublishListener {
+
+        void onPublish(EntryFeed feed);
+    }
+
+    private final ConcurrentLinkedQueue<Batch> mBatches = new ConcurrentLinkedQueue<>();
+
+    /**
+     * true if the listener was notified and the feed has not been drained since
+     */
+    private final AtomicBoolean mSignalled = new AtomicBoolean(false);
+
+    private volatile OnPublishListener mListener;
+
+    /**
+     * Sets the listener that is notified when entries are published into an empty feed, so
+     * that a drain can be scheduled. Further publishes before the next drain do not notify.
+     *
+     * @param listener
+     */
+    public void setOnPublishListener(OnPublishListener listener) {
+        mListener = listener;
+    }
+
+    /**
+     * Publishes one entry for the DataSet at the given index. Can be called from any thread.
+     *
+     * @param dataSetIndex
+     * @param e
+     */
+    public void publish(int dataSetIndex, Entry e) {
+
+        if (e == null)
+            throw new IllegalArgumentException("entry must not be null");
+
+        enqueue(new Batch(dataSetIndex, e, null));
+    }
+
+    /**
+     * Publishes a batch of entries for the DataSet at the given index. The batch is added as a
+     * whole, a frame never shows only a part of it. The list must not be modified afterwards.
+     * Can be called from any thread.
+     *
+     * @param dataSetIndex
+     * @param entries
+     */
+    public void publish(int dataSetIndex, List<? extends Entry> entries) {
+
+        if (entries == null)
+            throw new IllegalArgumentException("entries must not be null");
+
+        if (entries.isEmpty())
+            return;
+
+        enqueue(new Batch(dataSetIndex, null, entries));
+    }
+
+    private void enqueue(Batch batch) {
+
+        mBatches.add(batch);
+
+        OnPublishListener listener = mListener;
+
+        if (listener != null && mSignalled.compareAndSet(false, true))
+            listener.onPublish(this);
+    }
+
+    /**
+     * Returns true if there are published entries that were not drained yet.
+     *
+     * @return
+     */
+    public boolean hasPending() {
+        return !mBatches.isEmpty();
+    }
+
+    /**
+     * Adds all published entries to the DataSets of the given data, in the order they were
+     * published, and returns the number of entries added. Batches for a DataSet index the data
+     * does not have are dropped. Must be called on the thread that owns the data. Call
+     * notifyDataChanged() on the data (or notifyDataAppended() on the chart) afterwards.
+     *
+     * @param data
+     * @return
+     */
+    public int drainTo(ChartData<?> data) {
+
+        // publishes from now on notify the listener again
+        mSignalled.set(false);
+
+        int added = 0;
+        Batch batch;
+
+        while ((batch = mBatches.poll()) != null) {
+
+            // a bad index of one producer must not stop the batches of the others
+            if (batch.dataSetIndex < 0 || batch.dataSetIndex >= data.getDataSetCount()) {
+                Log.e("drainTo", "Cannot add Entries because dataSetIndex too high or too low.");
+                continue;
+            }
+
+            if (batch.entries == null) {
+                added += addEntry(data, batch.dataSetIndex, batch.entry);
+            } else {
+                for (int i = 0; i < batch.entries.size(); i++)
+                    added += addEntry(data, batch.dataSetIndex, batch.entries.get(i));
+            }
+        }
+
+        return added;
+    }
+
+    @SuppressWarnings("unchecked")
+    private int addEntry(ChartData<?> data, int dataSetIndex, Entry e) {
+        return ((IDataSet<Entry>) data.getDataSetByIndex(dataSetIndex)).addEntry(e) ? 1 : 0;
+    }
+
+    private static final class Batch {
+
+        final int dataSetIndex;
+        final Entry entry;
+        final List<? extends Entry> entries;
+
+        Batch(int dataSetIndex, Entry entry, List<? extends Entry> entries) {
+            this.dataSetIndex = dataSetIndex;
+            this.entry = entry;
+            this.entries = entries;
+        }
+    }
+}
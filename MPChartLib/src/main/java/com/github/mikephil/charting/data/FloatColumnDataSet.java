@@ -0,0 +1,598 @@
+package com.github.mikephil.charting.data;
+
+import com.github.mikephil.charting.interfaces.datasets.IColumnDataSet;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * LineDataSet that stores its x- and y-values in two growable float arrays instead of a list
+ * of Entry objects. Use this for very large line series, where one Entry object per value
+ * would cost too much memory and cause garbage collection while scrolling. The values must be
+ * added sorted by x-value.
+ * <p/>
+ * Entry objects are only created on demand by the methods of the IDataSet interface (e.g.
+ * getEntryForIndex(...)), the renderers read the values through getX(...) and getY(...).
+ */
+public class FloatColumnDataSet extends LineDataSet implements IColumnDataSet {
+
+    /**
+     * the x-values of this DataSet, only the first mCount values are valid
+     */
+    protected float[] mXVals;
+
+    /**
+     * the y-values of this DataSet, only the first mCount values are valid
+     */
+    protected float[] mYVals;
+
+    /**
+     * the number of values this DataSet holds
+     */
+    protected int mCount;
+
+    public FloatColumnDataSet(String label) {
+        this(16, label);
+    }
+
+    /**
+     * Creates an empty FloatColumnDataSet that can hold the given number of values before the
+     * columns have to grow.
+     *
+     * @param capacity
+     * @param label
+     */
+    public FloatColumnDataSet(int capacity, String label) {
+        super(null, label);
+        mXVals = new float[Math.max(capacity, 1)];
+        mYVals = new float[Math.max(capacity, 1)];
+    }
+
+    /**
+     * Creates a FloatColumnDataSet holding the given values. The arrays are used directly as
+     * columns and are NOT copied, the x-values must be sorted.
+     *
+     * @param xVals
+     * @param yVals
+     * @param label
+     */
+    public FloatColumnDataSet(float[] xVals, float[] yVals, String label) {
+        super(null, label);
+
+        if (xVals == null || yVals == null || xVals.length != yVals.length)
+            throw new IllegalArgumentException("x-values and y-values must be non-null and of the same length");
+
+        mXVals = xVals;
+        mYVals = yVals;
+        mCount = xVals.length;
+
+        calcMinMax();
+    }
+
+    @Override
+    public float getX(int index) {
+        return mXVals[index];
+    }
+
+    @Override
+    public float getY(int index) {
+        return mYVals[index];
+    }
+
+    @Override
+    public int getEntryCount() {
+        return mCount;
+    }
+
+    @Override
+    public void calcMinMax() {
+
+        invalidateIndices();
+
+        if (mCount == 0)
+            return;
+
+        mYMax = -Float.MAX_VALUE;
+        mYMin = Float.MAX_VALUE;
+        mXMax = -Float.MAX_VALUE;
+        mXMin = Float.MAX_VALUE;
+
+        for (int i = 0; i < mCount; i++) {
+            calcMinMax(getX(i), getY(i));
+        }
+    }
+
+    @Override
+    protected float getXForMinMax(int index) {
+        return getX(index);
+    }
+
+    @Override
+    protected float getYLowForMinMax(int index) {
+        return getY(index);
+    }
+
+    @Override
+    protected float getYHighForMinMax(int index) {
+        return getY(index);
+    }
+
+    /**
+     * Updates the min and max x and y value of this DataSet based on the given value.
+     *
+     * @param x
+     * @param y
+     */
+    protected void calcMinMax(float x, float y) {
+
+        if (x < mXMin)
+            mXMin = x;
+
+        if (x > mXMax)
+            mXMax = x;
+
+        if (y < mYMin)
+            mYMin = y;
+
+        if (y > mYMax)
+            mYMax = y;
+    }
+
+    /**
+     * Makes sure the columns can hold at least the given number of values.
+     *
+     * @param capacity
+     */
+    public void ensureCapacity(int capacity) {
+
+        if (capacity <= mXVals.length)
+            return;
+
+        int newCapacity = Math.max(capacity, mXVals.length + (mXVals.length >> 1) + 1);
+
+        mXVals = Arrays.copyOf(mXVals, newCapacity);
+        mYVals = Arrays.copyOf(mYVals, newCapacity);
+    }
+
+    /**
+     * Adds a value to the end of this DataSet without creating an Entry object. The x-value
+     * must not be smaller than the x-value of the last value.
+     *
+     * @param x
+     * @param y
+     */
+    public void addEntry(float x, float y) {
+
+        ensureCapacity(mCount + 1);
+
+        mXVals[mCount] = x;
+        mYVals[mCount] = y;
+        mCount++;
+
+        calcMinMax(x, y);
+        onEntryAdded(mCount - 1);
+    }
+
+    /**
+     * Adds a value to this DataSet at its appropriate index respective to its x-position,
+     * without creating an Entry object.
+     *
+     * @param x
+     * @param y
+     */
+    public void addEntryOrdered(float x, float y) {
+
+        if (mCount == 0 || getX(mCount - 1) <= x) {
+            addEntry(x, y);
+            return;
+        }
+
+        ensureCapacity(mCount + 1);
+
+        // insert behind all values with the same x-value
+        int index = upperBound(x);
+
+        System.arraycopy(mXVals, index, mXVals, index + 1, mCount - index);
+        System.arraycopy(mYVals, index, mYVals, index + 1, mCount - index);
+
+        mXVals[index] = x;
+        mYVals[index] = y;
+        mCount++;
+
+        calcMinMax(x, y);
+        onEntryAdded(index);
+    }
+
+    /**
+     * Adds the given values, which must be sorted by x-value, in one pass and without creating
+     * Entry objects. If none of them lies before the last value of this DataSet they are
+     * appended, otherwise both sorted sequences are merged, values with the same x-value are
+     * placed behind the existing ones.
+     *
+     * @param xs
+     * @param ys
+     */
+    public void addEntries(float[] xs, float[] ys) {
+
+        if (xs.length != ys.length)
+            throw new IllegalArgumentException("xs and ys must have the same length");
+
+        final int count = xs.length;
+
+        if (count == 0)
+            return;
+
+        for (int i = 1; i < count; i++) {
+            if (xs[i] < xs[i - 1])
+                throw new IllegalArgumentException("xs must be sorted");
+        }
+
+        ensureCapacity(mCount + count);
+
+        for (int i = 0; i < count; i++)
+            calcMinMax(xs[i], ys[i]);
+
+        final int oldCount = mCount;
+
+        if (oldCount == 0 || getX(oldCount - 1) <= xs[0]) {
+
+            System.arraycopy(xs, 0, mXVals, oldCount, count);
+            System.arraycopy(ys, 0, mYVals, oldCount, count);
+            mCount += count;
+
+            for (int i = oldCount; i < mCount; i++)
+                onEntryAdded(i);
+
+            return;
+        }
+
+        // merge from the back so that every value is moved only once
+        int i = oldCount - 1;
+        int j = count - 1;
+        int k = oldCount + count - 1;
+
+        while (j >= 0) {
+            if (i >= 0 && mXVals[i] > xs[j]) {
+                mXVals[k] = mXVals[i];
+                mYVals[k--] = mYVals[i--];
+            } else {
+                mXVals[k] = xs[j];
+                mYVals[k--] = ys[j--];
+            }
+        }
+
+        mCount += count;
+
+        invalidateIndices();
+    }
+
+    /**
+     * Adds the x- and y-values of the given entries, which must be sorted by x-value, in one
+     * pass. See addEntries(float[], float[]).
+     *
+     * @param entries
+     */
+    @Override
+    public void addEntries(List<? extends Entry> entries) {
+
+        if (entries == null)
+            return;
+
+        float[] xs = new float[entries.size()];
+        float[] ys = new float[entries.size()];
+
+        for (int i = 0; i < xs.length; i++) {
+            Entry e = entries.get(i);
+            xs[i] = e.getX();
+            ys[i] = e.getY();
+        }
+
+        addEntries(xs, ys);
+    }
+
+    @Override
+    public boolean addEntry(Entry e) {
+
+        if (e == null)
+            return false;
+
+        addEntry(e.getX(), e.getY());
+        return true;
+    }
+
+    @Override
+    public void addEntryOrdered(Entry e) {
+
+        if (e == null)
+            return;
+
+        addEntryOrdered(e.getX(), e.getY());
+    }
+
+    @Override
+    public boolean removeEntry(int index) {
+
+        if (index < 0 || index >= mCount)
+            return false;
+
+        System.arraycopy(mXVals, index + 1, mXVals, index, mCount - index - 1);
+        System.arraycopy(mYVals, index + 1, mYVals, index, mCount - index - 1);
+        mCount--;
+
+        onEntryRemoved(index);
+
+        return true;
+    }
+
+    @Override
+    public boolean removeEntry(Entry e) {
+
+        if (e == null)
+            return false;
+
+        return removeEntry(getEntryIndex(e));
+    }
+
+    @Override
+    public boolean removeFirst() {
+        return removeEntry(0);
+    }
+
+    @Override
+    public boolean removeLast() {
+        return removeEntry(mCount - 1);
+    }
+
+    @Override
+    public boolean removeEntryByXValue(float xValue) {
+        return removeEntry(getEntryIndex(xValue, Float.NaN, Rounding.CLOSEST));
+    }
+
+    @Override
+    public boolean contains(Entry e) {
+        return getEntryIndex(e) > -1;
+    }
+
+    @Override
+    public void clear() {
+        mCount = 0;
+        notifyDataSetChanged();
+    }
+
+    /**
+     * Returns a new list containing one Entry for every value of this DataSet. Changes to the
+     * list are not reflected in the DataSet.
+     *
+     * @return
+     */
+    @Override
+    public List<Entry> getValues() {
+
+        List<Entry> entries = new ArrayList<Entry>(mCount);
+        for (int i = 0; i < mCount; i++) {
+            entries.add(new Entry(getX(i), getY(i)));
+        }
+        return entries;
+    }
+
+    /**
+     * Replaces the values of this DataSet with the x- and y-values of the given entries, and
+     * calls notifyDataSetChanged()
+     *
+     * @param values
+     */
+    @Override
+    public void setValues(List<Entry> values) {
+
+        mCount = 0;
+
+        if (values != null) {
+            ensureCapacity(values.size());
+
+            for (int i = 0; i < values.size(); i++) {
+                Entry e = values.get(i);
+                mXVals[mCount] = e.getX();
+                mYVals[mCount] = e.getY();
+                mCount++;
+            }
+        }
+
+        notifyDataSetChanged();
+    }
+
+    @Override
+    public DataSet<Entry> copy() {
+        FloatColumnDataSet copied = new FloatColumnDataSet(
+                Arrays.copyOf(mXVals, mCount), Arrays.copyOf(mYVals, mCount), getLabel());
+        copy(copied);
+        return copied;
+    }
+
+    @Override
+    public Entry getEntryForIndex(int index) {
+        return new Entry(getX(index), getY(index));
+    }
+
+    @Override
+    public Entry getEntryForXValue(float xValue, float closestToY, Rounding rounding) {
+
+        int index = getEntryIndex(xValue, closestToY, rounding);
+        if (index > -1)
+            return getEntryForIndex(index);
+        return null;
+    }
+
+    @Override
+    public Entry getEntryForXValue(float xValue, float closestToY) {
+        return getEntryForXValue(xValue, closestToY, Rounding.CLOSEST);
+    }
+
+    @Override
+    public List<Entry> getEntriesForXValue(float xValue) {
+
+        List<Entry> entries = new ArrayList<Entry>();
+
+        for (int i = lowerBound(xValue); i < mCount && getX(i) == xValue; i++) {
+            entries.add(getEntryForIndex(i));
+        }
+
+        return entries;
+    }
+
+    /**
+     * Returns the index of the value with the same x- and y-value as the given Entry, -1 if
+     * there is none.
+     *
+     * @param e
+     * @return
+     */
+    @Override
+    public int getEntryIndex(Entry e) {
+
+        if (e == null)
+            return -1;
+
+        for (int i = lowerBound(e.getX()); i < mCount && getX(i) == e.getX(); i++) {
+            if (getY(i) == e.getY())
+                return i;
+        }
+
+        return -1;
+    }
+
+    @Override
+    public int getIndexInEntries(int xIndex) {
+
+        int index = lowerBound(xIndex);
+        return index < mCount && getX(index) == xIndex ? index : -1;
+    }
+
+    @Override
+    public int getEntryIndex(float xValue, float closestToY, Rounding rounding) {
+
+        if (mCount == 0)
+            return -1;
+
+        int low = 0;
+        int high = mCount - 1;
+        int closest = high;
+
+        while (low < high) {
+            int m = (low + high) / 2;
+
+            final float d1 = getX(m) - xValue,
+                    d2 = getX(m + 1) - xValue,
+                    ad1 = Math.abs(d1), ad2 = Math.abs(d2);
+
+            if (ad2 < ad1) {
+                // [m + 1] is closer to xValue
+                low = m + 1;
+            } else if (ad1 < ad2) {
+                // [m] is closer to xValue
+                high = m;
+            } else {
+                // multiple sequential x-values with the same distance
+                if (d1 >= 0.0) {
+                    high = m;
+                } else {
+                    low = m + 1;
+                }
+            }
+
+            closest = high;
+        }
+
+        float closestXValue = getX(closest);
+
+        if (rounding == Rounding.UP) {
+            if (closestXValue < xValue && closest < mCount - 1) {
+                ++closest;
+            }
+        } else if (rounding == Rounding.DOWN) {
+            if (closestXValue > xValue && closest > 0) {
+                --closest;
+            }
+        }
+
+        // search by closest to y-value
+        if (!Float.isNaN(closestToY)) {
+
+            closestXValue = getX(closest);
+
+            while (closest > 0 && getX(closest - 1) == closestXValue)
+                closest -= 1;
+
+            int closestYIndex = closest;
+
+            for (int i = closest + 1; i < mCount && getX(i) == closestXValue; i++) {
+
+                if (Math.abs(getY(i) - closestToY) < Math.abs(getY(closestYIndex) - closestToY))
+                    closestYIndex = i;
+            }
+
+            closest = closestYIndex;
+        }
+
+        return closest;
+    }
+
+    /**
+     * Returns the index of the first value with an x-value greater or equal to the given one.
+     *
+     * @param xValue
+     * @return
+     */
+    protected int lowerBound(float xValue) {
+
+        int low = 0;
+        int high = mCount;
+
+        while (low < high) {
+            int m = (low + high) >>> 1;
+            if (getX(m) < xValue)
+                low = m + 1;
+            else
+                high = m;
+        }
+
+        return low;
+    }
+
+    /**
+     * Returns the index of the first value with an x-value greater than the given one.
+     *
+     * @param xValue
+     * @return
+     */
+    protected int upperBound(float xValue) {
+
+        int low = 0;
+        int high = mCount;
+
+        while (low < high) {
+            int m = (low + high) >>> 1;
+            if (getX(m) <= xValue)
+                low = m + 1;
+            else
+                high = m;
+        }
+
+        return low;
+    }
+
+    @Override
+    public String toSimpleString() {
+        return "FloatColumnDataSet, label: " + (getLabel() == null ? "" : getLabel()) + ", entries: " + mCount + "\n";
+    }
+
+    @Override
+    public String toString() {
+        StringBuffer buffer = new StringBuffer();
+        buffer.append(toSimpleString());
+        for (int i = 0; i < mCount; i++) {
+            buffer.append(getEntryForIndex(i).toString() + " ");
+        }
+        return buffer.toString();
+    }
+}
@@ -6,6 +6,7 @@ import android.graphics.Color;
 import android.graphics.DashPathEffect;
 import android.util.Log;
 
+import com.github.mikephil.charting.data.filter.Downsampler;
 import com.github.mikephil.charting.formatter.DefaultFillFormatter;
 import com.github.mikephil.charting.formatter.IFillFormatter;
 import com.github.mikephil.charting.interfaces.datasets.ILineDataSet;
@@ -64,6 +65,16 @@ public class LineDataSet extends LineRadarDataSet<Entry> implements ILineDataSet
 
     private boolean mDrawCircleHole = true;
 
+    /**
+     * if true, the line is decimated to pixel resolution before drawing
+     */
+    private boolean mDecimationEnabled = false;
+
+    /**
+     * the filter the visible values are reduced with before drawing, null if disabled
+     */
+    private Downsampler mDownsampler = null;
+
 
     public LineDataSet(List<Entry> yVals, String label) {
         super(yVals, label);
@@ -105,6 +116,8 @@ public class LineDataSet extends LineRadarDataSet<Entry> implements ILineDataSet
         lineDataSet.mDrawCircles = mDrawCircleHole;
         lineDataSet.mFillFormatter = mFillFormatter;
         lineDataSet.mMode = mMode;
+        lineDataSet.mDecimationEnabled = mDecimationEnabled;
+        lineDataSet.mDownsampler = mDownsampler;
     }
 
     /**
@@ -268,6 +281,41 @@ public class LineDataSet extends LineRadarDataSet<Entry> implements ILineDataSet
         return mMode == Mode.STEPPED;
     }
 
+    /**
+     * Set this to true to decimate the line to pixel resolution before drawing it. For every
+     * pixel column of the chart, only the first, the last, the lowest and the highest value are
+     * drawn, which looks the same but is much faster for DataSets with far more values than
+     * horizontal pixels. Only applies to single-colored lines in LINEAR mode. Default: false
+     *
+     * @param enabled
+     */
+    public void setDecimationEnabled(boolean enabled) {
+        mDecimationEnabled = enabled;
+    }
+
+    @Override
+    public boolean isDecimationEnabled() {
+        return mDecimationEnabled;
+    }
+
+    /**
+     * Sets a Downsampler that reduces the visible values to a number of points proportional to
+     * the width of the chart before the line is drawn, e.g. LttbDownsampler,
+     * MinMaxDownsampler or DouglasPeuckerDownsampler. Takes precedence over decimation and the
+     * LodPyramid. Only applies to single-colored lines in LINEAR mode. Set null to disable.
+     * Default: null
+     *
+     * @param downsampler
+     */
+    public void setDownsampler(Downsampler downsampler) {
+        mDownsampler = downsampler;
+    }
+
+    @Override
+    public Downsampler getDownsampler() {
+        return mDownsampler;
+    }
+
     /** ALL CODE BELOW RELATED TO CIRCLE-COLORS */
 
     /**
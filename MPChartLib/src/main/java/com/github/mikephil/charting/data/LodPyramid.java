@@ -0,0 +1,442 @@
+package com.github.mikephil.charting.data;
+
+import java.util.Arrays;
+
+/**
+ * Multi-resolution level-of-detail pyramid over the entries of a DataSet. Level 0 groups the
+ * entries into buckets of MIN_BUCKET_SIZE consecutive entries, every following level merges
+ * two buckets of the level below. For every bucket, the pyramid stores the index and value of
+ * the lowest and highest y-value, and the average y-value.
+ * <p/>
+ * When zoomed out far enough that many entries fall onto one pixel, renderers draw one bucket
+ * of the matching level (see getLevel(...)) instead of all entries, so that drawing costs
+ * O(pixels) instead of O(entries).
+ * <p/>
+ * Appending and removing entries at either end of the DataSet updates the pyramid in
+ * O(log n). Any other change marks the pyramid as invalid, it is then rebuilt on the next
+ * query.
+ */
+public class LodPyramid {
+
+    /**
+     * number of entries in a bucket of level 0
+     */
+    public static final int MIN_BUCKET_SIZE = 8;
+
+    private final DataSet<?> mDataSet;
+
+    /**
+     * position of the first entry of the DataSet in the first bucket, increased when entries
+     * are removed at the start so the remaining entries do not have to move
+     */
+    private int mOffset;
+
+    /**
+     * number of entries the pyramid currently covers
+     */
+    private int mSize;
+
+    private Level[] mLevels = new Level[0];
+    private int mLevelCount;
+
+    private boolean mValid = false;
+
+    public LodPyramid(DataSet<?> dataSet) {
+        mDataSet = dataSet;
+    }
+
+    /**
+     * Marks the pyramid as invalid, it is rebuilt on the next query.
+     */
+    public void invalidate() {
+        mValid = false;
+    }
+
+    /**
+     * Call this after an entry was inserted into the DataSet at the given index.
+     *
+     * @param index
+     */
+    public void onEntryAdded(int index) {
+
+        if (!mValid)
+            return;
+
+        if (index != mSize) {
+            mValid = false;
+            return;
+        }
+
+        mSize++;
+
+        final int pos = mOffset + index;
+
+        mLevels[0].ensureBucket(pos / MIN_BUCKET_SIZE);
+        update(pos);
+        addLevels();
+    }
+
+    /**
+     * Call this after the entry at the given index was removed from the DataSet.
+     *
+     * @param index
+     */
+    public void onEntryRemoved(int index) {
+
+        if (!mValid)
+            return;
+
+        final int pos = mOffset + index;
+
+        if (index == 0) {
+            mOffset++;
+        } else if (index != mSize - 1) {
+            mValid = false;
+            return;
+        }
+
+        mSize--;
+
+        // the buckets before the first entry are never read again, rebuild once they take up
+        // more space than the entries
+        if (mOffset > Math.max(mSize, 1024)) {
+            mValid = false;
+            return;
+        }
+
+        update(pos);
+    }
+
+    /**
+     * Returns the level whose buckets hold at most the given number of entries, or -1 if even
+     * the buckets of level 0 are larger. A renderer that draws entryCount entries onto the
+     * given number of pixels should draw the buckets of getLevel(entryCount / pixels).
+     *
+     * @param entriesPerBucket
+     * @return
+     */
+    public int getLevel(float entriesPerBucket) {
+
+        validate();
+
+        if (entriesPerBucket < MIN_BUCKET_SIZE || mSize == 0)
+            return -1;
+
+        int level = 0;
+
+        while (level + 1 < mLevelCount && getBucketSize(level + 1) <= entriesPerBucket)
+            level++;
+
+        return level;
+    }
+
+    /**
+     * Returns the number of levels.
+     *
+     * @return
+     */
+    public int getLevelCount() {
+        validate();
+        return mLevelCount;
+    }
+
+    /**
+     * Returns the (maximum) number of entries in a bucket of the given level.
+     *
+     * @param level
+     * @return
+     */
+    public int getBucketSize(int level) {
+        return MIN_BUCKET_SIZE << level;
+    }
+
+    /**
+     * Returns the bucket of the given level that contains the entry at the given index.
+     *
+     * @param level
+     * @param index
+     * @return
+     */
+    public int getBucket(int level, int index) {
+        validate();
+        return (mOffset + index) / getBucketSize(level);
+    }
+
+    /**
+     * Returns the index of the first entry in the given bucket.
+     *
+     * @param level
+     * @param bucket
+     * @return
+     */
+    public int getFirstIndex(int level, int bucket) {
+        validate();
+        return Math.max(bucket * getBucketSize(level) - mOffset, 0);
+    }
+
+    /**
+     * Returns the index of the last entry in the given bucket.
+     *
+     * @param level
+     * @param bucket
+     * @return
+     */
+    public int getLastIndex(int level, int bucket) {
+        validate();
+        return Math.min((bucket + 1) * getBucketSize(level) - mOffset, mSize) - 1;
+    }
+
+    /**
+     * Returns the index of the entry with the lowest y-value in the given bucket, -1 if all
+     * y-values of the bucket are NaN.
+     *
+     * @param level
+     * @param bucket
+     * @return
+     */
+    public int getMinIndex(int level, int bucket) {
+        validate();
+        final int pos = mLevels[level].minPos[bucket];
+        return pos < 0 ? -1 : pos - mOffset;
+    }
+
+    /**
+     * Returns the index of the entry with the highest y-value in the given bucket, -1 if all
+     * y-values of the bucket are NaN.
+     *
+     * @param level
+     * @param bucket
+     * @return
+     */
+    public int getMaxIndex(int level, int bucket) {
+        validate();
+        final int pos = mLevels[level].maxPos[bucket];
+        return pos < 0 ? -1 : pos - mOffset;
+    }
+
+    /**
+     * Returns the lowest y-value in the given bucket.
+     *
+     * @param level
+     * @param bucket
+     * @return
+     */
+    public float getMin(int level, int bucket) {
+        validate();
+        return mLevels[level].min[bucket];
+    }
+
+    /**
+     * Returns the highest y-value in the given bucket.
+     *
+     * @param level
+     * @param bucket
+     * @return
+     */
+    public float getMax(int level, int bucket) {
+        validate();
+        return mLevels[level].max[bucket];
+    }
+
+    /**
+     * Returns the average y-value of the given bucket, NaN if all y-values of the bucket are
+     * NaN.
+     *
+     * @param level
+     * @param bucket
+     * @return
+     */
+    public float getAverage(int level, int bucket) {
+        validate();
+        final Level l = mLevels[level];
+        return l.count[bucket] == 0 ? Float.NaN : (float) (l.sum[bucket] / l.count[bucket]);
+    }
+
+    private void validate() {
+
+        if (mValid)
+            return;
+
+        mSize = mDataSet.getEntryCount();
+        mOffset = 0;
+        mLevelCount = 0;
+
+        Level level = addLevel();
+        level.ensureBucket((mSize - 1) / MIN_BUCKET_SIZE);
+
+        for (int bucket = 0; bucket < level.bucketCount; bucket++)
+            calcBucket(bucket);
+
+        addLevels();
+
+        mValid = true;
+    }
+
+    /**
+     * Adds levels on top until the highest level consists of a single bucket.
+     */
+    private void addLevels() {
+
+        while (mLevels[mLevelCount - 1].bucketCount > 1) {
+
+            final Level below = mLevels[mLevelCount - 1];
+            final Level level = addLevel();
+
+            level.ensureBucket((below.bucketCount - 1) / 2);
+
+            for (int bucket = 0; bucket < level.bucketCount; bucket++)
+                combine(mLevelCount - 1, bucket);
+        }
+    }
+
+    private Level addLevel() {
+
+        if (mLevels.length == mLevelCount) {
+            Level[] levels = new Level[mLevelCount + 4];
+            System.arraycopy(mLevels, 0, levels, 0, mLevelCount);
+            mLevels = levels;
+        }
+
+        if (mLevels[mLevelCount] == null)
+            mLevels[mLevelCount] = new Level();
+
+        mLevels[mLevelCount].bucketCount = 0;
+
+        return mLevels[mLevelCount++];
+    }
+
+    /**
+     * Recalculates the buckets that contain the entry at the given position on all levels.
+     */
+    private void update(int pos) {
+
+        calcBucket(pos / MIN_BUCKET_SIZE);
+
+        for (int level = 1; level < mLevelCount; level++) {
+
+            final int bucket = pos / getBucketSize(level);
+
+            mLevels[level].ensureBucket(bucket);
+            combine(level, bucket);
+        }
+    }
+
+    /**
+     * Recalculates the given bucket of level 0 from the entries that are currently in it.
+     */
+    private void calcBucket(int bucket) {
+
+        final Level level = mLevels[0];
+
+        final int from = Math.max(bucket * MIN_BUCKET_SIZE - mOffset, 0);
+        final int to = Math.min((bucket + 1) * MIN_BUCKET_SIZE - mOffset, mSize);
+
+        float min = Float.MAX_VALUE, max = -Float.MAX_VALUE;
+        int minPos = -1, maxPos = -1;
+        double sum = 0.0;
+        int count = 0;
+
+        for (int i = from; i < to; i++) {
+
+            final float low = mDataSet.getYLowForMinMax(i);
+            final float high = mDataSet.getYHighForMinMax(i);
+
+            if (low < min) {
+                min = low;
+                minPos = mOffset + i;
+            }
+
+            if (high > max) {
+                max = high;
+                maxPos = mOffset + i;
+            }
+
+            if (!Float.isNaN(low) && !Float.isNaN(high)) {
+                sum += (low + high) / 2.0;
+                count++;
+            }
+        }
+
+        level.set(bucket, min, minPos, max, maxPos, sum, count);
+    }
+
+    /**
+     * Recalculates the given bucket from the two buckets of the level below.
+     */
+    private void combine(int level, int bucket) {
+
+        final Level below = mLevels[level - 1];
+        final int left = bucket * 2, right = left + 1;
+
+        float min = below.min[left], max = below.max[left];
+        int minPos = below.minPos[left], maxPos = below.maxPos[left];
+        double sum = below.sum[left];
+        int count = below.count[left];
+
+        if (right < below.bucketCount) {
+
+            if (below.minPos[right] >= 0 && (minPos < 0 || below.min[right] < min)) {
+                min = below.min[right];
+                minPos = below.minPos[right];
+            }
+
+            if (below.maxPos[right] >= 0 && (maxPos < 0 || below.max[right] > max)) {
+                max = below.max[right];
+                maxPos = below.maxPos[right];
+            }
+
+            sum += below.sum[right];
+            count += below.count[right];
+        }
+
+        mLevels[level].set(bucket, min, minPos, max, maxPos, sum, count);
+    }
+
+    /**
+     * The buckets of one level, indexed from the position 0 (not the offset).
+     */
+    private static final class Level {
+
+        int bucketCount;
+
+        float[] min = new float[16];
+        float[] max = new float[16];
+        int[] minPos = new int[16];
+        int[] maxPos = new int[16];
+        double[] sum = new double[16];
+        int[] count = new int[16];
+
+        /**
+         * Makes sure the level has at least bucket + 1 buckets, new buckets are empty.
+         */
+        void ensureBucket(int bucket) {
+
+            if (bucket < bucketCount)
+                return;
+
+            if (bucket >= min.length) {
+                final int length = Math.max(bucket + 1, min.length * 2);
+                min = Arrays.copyOf(min, length);
+                max = Arrays.copyOf(max, length);
+                minPos = Arrays.copyOf(minPos, length);
+                maxPos = Arrays.copyOf(maxPos, length);
+                sum = Arrays.copyOf(sum, length);
+                count = Arrays.copyOf(count, length);
+            }
+
+            for (int b = bucketCount; b <= bucket; b++)
+                set(b, Float.MAX_VALUE, -1, -Float.MAX_VALUE, -1, 0.0, 0);
+
+            bucketCount = bucket + 1;
+        }
+
+        void set(int bucket, float min, int minPos, float max, int maxPos, double sum, int count) {
+            this.min[bucket] = min;
+            this.minPos[bucket] = minPos;
+            this.max[bucket] = max;
+            this.maxPos[bucket] = maxPos;
+            this.sum[bucket] = sum;
+            this.count[bucket] = count;
+        }
+    }
+}
@@ -0,0 +1,415 @@
+package com.github.mikephil.charting.data;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+import java.nio.channels.FileChannel;
+import java.util.List;
+
+/**
+ * Read-only LineDataSet whose values live in a memory-mapped binary file instead of the heap.
+ * Use this for series with millions of values, that do not fit into memory as Entry objects
+ * or float arrays. The operating system only pages in the parts of the file that are
+ * accessed, which while drawing are the visible values (see XBounds) and the values the
+ * binary search in getEntryIndex(...) touches.
+ * <p/>
+ * The file holds a header followed by the x- and y-value of every entry as big-endian float
+ * pairs, sorted by x-value, and the minimum and maximum y-value of every block of BLOCK_SIZE
+ * and of SUPER_BLOCK_SIZE entries. The blocks let calcMinMaxY(...), which autoscaling calls
+ * for the visible range, read at most a few hundred values at either end of the range
+ * instead of all of them. Use a MappedDataSet.Writer or FileUtils.convertToMappedFile(...)
+ * to create it. A file can hold at most MAX_ENTRY_COUNT entries.
+ */
+public class MappedDataSet extends FloatColumnDataSet {
+
+    /**
+     * "MPCD", marks a file as a MappedDataSet file
+     */
+    private static final int MAGIC = 0x4D504344;
+
+    /**
+     * version 1 files have no blocks, calcMinMaxY(...) then reads all values of the file once
+     */
+    private static final int VERSION = 2;
+
+    /**
+     * number of entries summarized by a block, and by a super block
+     */
+    private static final int BLOCK_SIZE = 256;
+    private static final int SUPER_BLOCK_SIZE = BLOCK_SIZE * BLOCK_SIZE;
+
+    /**
+     * magic, version, entry count, x-min, x-max, y-min, y-max, reserved
+     */
+    private static final int HEADER_SIZE = 8 * 4;
+
+    /**
+     * maximum number of entries a file can hold
+     */
+    public static final int MAX_ENTRY_COUNT = (Integer.MAX_VALUE - HEADER_SIZE) / 8;
+
+    /**
+     * the mapped x- and y-values, in pairs
+     */
+    private final FloatBuffer mMapped;
+
+    /**
+     * the mapped minimum and maximum y-values of all blocks, in pairs, followed by those of
+     * all super blocks, null for version 1 files
+     */
+    private final FloatBuffer mBlocks;
+
+    /**
+     * Maps the given file, which must have been written by a MappedDataSet.Writer.
+     *
+     * @param file
+     * @param label
+     * @throws IOException if the file can not be read or is not a MappedDataSet file
+     */
+    public MappedDataSet(File file, String label) throws IOException {
+        super(1, label);
+
+        RandomAccessFile raf = new RandomAccessFile(file, "r");
+
+        try {
+            FileChannel channel = raf.getChannel();
+            final long length = raf.length();
+
+            // the mappings stay valid after the channel is closed
+            ByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0,
+                    Math.min(length, HEADER_SIZE + (long) MAX_ENTRY_COUNT * 8));
+
+            if (mapped.capacity() < HEADER_SIZE || mapped.getInt(0) != MAGIC)
+                throw new IOException("not a MappedDataSet file");
+
+            final int version = mapped.getInt(4);
+
+            if (version != 1 && version != VERSION)
+                throw new IOException("unsupported MappedDataSet file version " + version);
+
+            final int count = mapped.getInt(8);
+            final long valuesEnd = HEADER_SIZE + (long) count * 8;
+
+            if (count < 0 || valuesEnd > mapped.capacity())
+                throw new IOException("MappedDataSet file is truncated, expected " + count + " entries");
+
+            mapped.position(HEADER_SIZE);
+            mMapped = mapped.slice().asFloatBuffer();
+            mCount = count;
+
+            if (version == 1) {
+                mBlocks = null;
+            } else {
+
+                final long blocksSize = ((long) blockCount(count, BLOCK_SIZE)
+                        + blockCount(count, SUPER_BLOCK_SIZE)) * 8;
+
+                if (valuesEnd + blocksSize > length)
+                    throw new IOException("MappedDataSet file is truncated, blocks are missing");
+
+                mBlocks = channel.map(FileChannel.MapMode.READ_ONLY, valuesEnd, blocksSize)
+                        .asFloatBuffer();
+            }
+
+            if (count > 0) {
+                mXMin = mapped.getFloat(12);
+                mXMax = mapped.getFloat(16);
+                mYMin = mapped.getFloat(20);
+                mYMax = mapped.getFloat(24);
+            }
+        } finally {
+            raf.close();
+        }
+    }
+
+    private MappedDataSet(MappedDataSet source) {
+        super(1, source.getLabel());
+        mMapped = source.mMapped.duplicate();
+        mBlocks = source.mBlocks == null ? null : source.mBlocks.duplicate();
+        mCount = source.mCount;
+        mXMin = source.mXMin;
+        mXMax = source.mXMax;
+        mYMin = source.mYMin;
+        mYMax = source.mYMax;
+    }
+
+    /**
+     * Returns the number of blocks of the given size that the given number of entries fill,
+     * the last one partially.
+     */
+    private static int blockCount(int count, int blockSize) {
+        return (count + blockSize - 1) / blockSize;
+    }
+
+    @Override
+    public float getX(int index) {
+        return mMapped.get(index << 1);
+    }
+
+    @Override
+    public float getY(int index) {
+        return mMapped.get((index << 1) + 1);
+    }
+
+    /**
+     * The values of a MappedDataSet never change, its bounds are read from the file header
+     * instead of scanning all values.
+     */
+    @Override
+    public void calcMinMax() {
+    }
+
+    /**
+     * Takes the minimum and maximum y-value of all complete blocks and super blocks in range
+     * from the blocks of the file, so that only the values of the partial blocks at both ends
+     * of the range are read. Unlike the MinMaxIndex other DataSets build for this, nothing is
+     * allocated and the file is not read as a whole. Version 1 files have no blocks, the
+     * MinMaxIndex is used for them.
+     */
+    @Override
+    public void calcMinMaxY(float fromX, float toX) {
+
+        if (mBlocks == null) {
+            super.calcMinMaxY(fromX, toX);
+            return;
+        }
+
+        if (mCount == 0)
+            return;
+
+        final int from = getEntryIndex(fromX, Float.NaN, Rounding.DOWN);
+        final int to = getEntryIndex(toX, Float.NaN, Rounding.UP);
+
+        // the super blocks follow the blocks
+        final int superBlockOffset = blockCount(mCount, BLOCK_SIZE) * 2;
+
+        float min = Float.MAX_VALUE;
+        float max = -Float.MAX_VALUE;
+
+        int i = from;
+
+        while (i <= to) {
+
+            final float low, high;
+
+            if (i % SUPER_BLOCK_SIZE == 0 && i + SUPER_BLOCK_SIZE - 1 <= to) {
+
+                final int block = superBlockOffset + i / SUPER_BLOCK_SIZE * 2;
+                low = mBlocks.get(block);
+                high = mBlocks.get(block + 1);
+                i += SUPER_BLOCK_SIZE;
+
+            } else if (i % BLOCK_SIZE == 0 && i + BLOCK_SIZE - 1 <= to) {
+
+                final int block = i / BLOCK_SIZE * 2;
+                low = mBlocks.get(block);
+                high = mBlocks.get(block + 1);
+                i += BLOCK_SIZE;
+
+            } else {
+                low = high = getY(i);
+                i++;
+            }
+
+            // NaN values are ignored
+            if (low < min) min = low;
+            if (high > max) max = high;
+        }
+
+        mYMin = min;
+        mYMax = max;
+    }
+
+    /**
+     * The values of a MappedDataSet can not be changed, this does nothing.
+     *
+     * @param capacity
+     */
+    @Override
+    public void ensureCapacity(int capacity) {
+    }
+
+    @Override
+    public void addEntry(float x, float y) {
+        throw new UnsupportedOperationException("MappedDataSet is read-only");
+    }
+
+    @Override
+    public void addEntryOrdered(float x, float y) {
+        throw new UnsupportedOperationException("MappedDataSet is read-only");
+    }
+
+    @Override
+    public void addEntries(float[] xs, float[] ys) {
+        throw new UnsupportedOperationException("MappedDataSet is read-only");
+    }
+
+    @Override
+    public boolean removeEntry(int index) {
+        throw new UnsupportedOperationException("MappedDataSet is read-only");
+    }
+
+    @Override
+    public void setValues(List<Entry> values) {
+        throw new UnsupportedOperationException("MappedDataSet is read-only");
+    }
+
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException("MappedDataSet is read-only");
+    }
+
+    /**
+     * Returns a MappedDataSet that shares the mapped file with this one.
+     *
+     * @return
+     */
+    @Override
+    public DataSet<Entry> copy() {
+        MappedDataSet copied = new MappedDataSet(this);
+        copy(copied);
+        return copied;
+    }
+
+    @Override
+    public String toSimpleString() {
+        return "MappedDataSet, label: " + (getLabel() == null ? "" : getLabel()) + ", entries: " + mCount + "\n";
+    }
+
+    /**
+     * Streams entries into a MappedDataSet file without holding them in memory. The entries
+     * must be added sorted by x-value. The file is only valid after close() was called.
+     */
+    public static class Writer {
+
+        private final File mFile;
+        private final DataOutputStream mOut;
+
+        private int mCount = 0;
+
+        private float mXMin = Float.MAX_VALUE, mXMax = -Float.MAX_VALUE;
+        private float mYMin = Float.MAX_VALUE, mYMax = -Float.MAX_VALUE;
+
+        // the minimum and maximum y-values of the blocks and super blocks, in pairs, written
+        // after the values on close()
+        private float[] mBlocks = new float[64];
+        private float[] mSuperBlocks = new float[8];
+
+        /**
+         * Creates (or overwrites) the given file.
+         *
+         * @param file
+         * @throws IOException
+         */
+        public Writer(File file) throws IOException {
+            mFile = file;
+            mOut = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file), 1 << 16));
+
+            // the header is written on close(), when the entry count and bounds are known
+            mOut.write(new byte[HEADER_SIZE]);
+        }
+
+        /**
+         * Appends an entry to the file. The x-value must not be smaller than the x-value of the
+         * previous entry.
+         *
+         * @param x
+         * @param y
+         * @throws IOException
+         */
+        public void add(float x, float y) throws IOException {
+
+            if (mCount > 0 && x < mXMax)
+                throw new IllegalArgumentException("x-values must be added in ascending order, got " + x
+                        + " after " + mXMax);
+
+            if (mCount == MAX_ENTRY_COUNT)
+                throw new IllegalArgumentException("a MappedDataSet file holds at most " + MAX_ENTRY_COUNT
+                        + " entries");
+
+            mOut.writeFloat(x);
+            mOut.writeFloat(y);
+            mCount++;
+
+            if (x < mXMin) mXMin = x;
+            if (x > mXMax) mXMax = x;
+            if (y < mYMin) mYMin = y;
+            if (y > mYMax) mYMax = y;
+
+            mBlocks = addToBlock(mBlocks, (mCount - 1) / BLOCK_SIZE, (mCount - 1) % BLOCK_SIZE, y);
+            mSuperBlocks = addToBlock(mSuperBlocks, (mCount - 1) / SUPER_BLOCK_SIZE,
+                    (mCount - 1) % SUPER_BLOCK_SIZE, y);
+        }
+
+        /**
+         * Adds the given y-value to the minimum and maximum of the given block, which is
+         * started if the value is the first of it. Returns the array, grown if needed.
+         */
+        private static float[] addToBlock(float[] blocks, int block, int position, float y) {
+
+            final int i = block * 2;
+
+            if (position == 0) {
+
+                if (i + 2 > blocks.length) {
+                    float[] grown = new float[blocks.length * 2];
+                    System.arraycopy(blocks, 0, grown, 0, blocks.length);
+                    blocks = grown;
+                }
+
+                blocks[i] = Float.MAX_VALUE;
+                blocks[i + 1] = -Float.MAX_VALUE;
+            }
+
+            if (y < blocks[i]) blocks[i] = y;
+            if (y > blocks[i + 1]) blocks[i + 1] = y;
+
+            return blocks;
+        }
+
+        /**
+         * Returns the number of entries added so far.
+         *
+         * @return
+         */
+        public int getEntryCount() {
+            return mCount;
+        }
+
+        /**
+         * Writes the blocks and the header and closes the file.
+         *
+         * @throws IOException
+         */
+        public void close() throws IOException {
+
+            for (int i = 0; i < blockCount(mCount, BLOCK_SIZE) * 2; i++)
+                mOut.writeFloat(mBlocks[i]);
+
+            for (int i = 0; i < blockCount(mCount, SUPER_BLOCK_SIZE) * 2; i++)
+                mOut.writeFloat(mSuperBlocks[i]);
+
+            mOut.close();
+
+            RandomAccessFile raf = new RandomAccessFile(mFile, "rw");
+
+            try {
+                raf.writeInt(MAGIC);
+                raf.writeInt(VERSION);
+                raf.writeInt(mCount);
+                raf.writeFloat(mXMin);
+                raf.writeFloat(mXMax);
+                raf.writeFloat(mYMin);
+                raf.writeFloat(mYMax);
+                raf.writeInt(0);
+            } finally {
+                raf.close();
+            }
+        }
+    }
+}
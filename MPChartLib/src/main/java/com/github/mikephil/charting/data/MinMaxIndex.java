@@ -0,0 +1,298 @@
+package com.github.mikephil.charting.data;
+
+/**
+ * Segment tree over the entries of a DataSet that answers min / max queries for any index
+ * range in O(log n). The entries are grouped into blocks of BLOCK_SIZE, the tree stores the
+ * minimum and maximum x- and y-value of every block.
+ * <p/>
+ * Appending and removing entries at either end of the DataSet updates the tree in O(log n).
+ * Any other change marks the tree as invalid, it is then rebuilt on the next query.
+ */
+public class MinMaxIndex {
+
+    /**
+     * number of entries summarized by one leaf of the tree
+     */
+    private static final int BLOCK_SIZE = 32;
+
+    private final DataSet<?> mDataSet;
+
+    /**
+     * number of leaves (blocks) of the tree, always a power of two
+     */
+    private int mCapacity;
+
+    /**
+     * position of the first entry of the DataSet in the first block, increased when entries
+     * are removed at the start so the remaining entries do not have to move
+     */
+    private int mOffset;
+
+    /**
+     * number of entries the tree currently covers
+     */
+    private int mSize;
+
+    private float[] mXMin, mXMax, mYMin, mYMax;
+
+    private boolean mValid = false;
+
+    public MinMaxIndex(DataSet<?> dataSet) {
+        mDataSet = dataSet;
+    }
+
+    /**
+     * Marks the tree as invalid, it is rebuilt on the next query.
+     */
+    public void invalidate() {
+        mValid = false;
+    }
+
+    /**
+     * Call this after an entry was inserted into the DataSet at the given index.
+     *
+     * @param index
+     */
+    public void onEntryAdded(int index) {
+
+        if (!mValid)
+            return;
+
+        if (index != mSize || mOffset + mSize >= mCapacity * BLOCK_SIZE) {
+            mValid = false;
+            return;
+        }
+
+        mSize++;
+
+        final int block = (mOffset + index) / BLOCK_SIZE;
+        final int node = mCapacity + block;
+
+        final float x = mDataSet.getXForMinMax(index);
+        final float yLow = mDataSet.getYLowForMinMax(index);
+        final float yHigh = mDataSet.getYHighForMinMax(index);
+
+        if (x < mXMin[node]) mXMin[node] = x;
+        if (x > mXMax[node]) mXMax[node] = x;
+        if (yLow < mYMin[node]) mYMin[node] = yLow;
+        if (yHigh > mYMax[node]) mYMax[node] = yHigh;
+
+        propagate(node);
+    }
+
+    /**
+     * Call this after the entry at the given index was removed from the DataSet.
+     *
+     * @param index
+     */
+    public void onEntryRemoved(int index) {
+
+        if (!mValid)
+            return;
+
+        final int block;
+
+        if (index == 0) {
+            block = mOffset / BLOCK_SIZE;
+            mOffset++;
+        } else if (index == mSize - 1) {
+            block = (mOffset + index) / BLOCK_SIZE;
+        } else {
+            mValid = false;
+            return;
+        }
+
+        mSize--;
+
+        calcBlock(block);
+        propagate(mCapacity + block);
+    }
+
+    /**
+     * Returns the minimum x-value of all entries.
+     */
+    public float getXMin() {
+        validate();
+        return mXMin[1];
+    }
+
+    /**
+     * Returns the maximum x-value of all entries.
+     */
+    public float getXMax() {
+        validate();
+        return mXMax[1];
+    }
+
+    /**
+     * Returns the minimum y-value of all entries.
+     */
+    public float getYMin() {
+        validate();
+        return mYMin[1];
+    }
+
+    /**
+     * Returns the maximum y-value of all entries.
+     */
+    public float getYMax() {
+        validate();
+        return mYMax[1];
+    }
+
+    /**
+     * Returns the minimum y-value of the entries from index from to index to (inclusive).
+     *
+     * @param from
+     * @param to
+     * @return
+     */
+    public float getYMin(int from, int to) {
+        return query(from, to, false);
+    }
+
+    /**
+     * Returns the maximum y-value of the entries from index from to index to (inclusive).
+     *
+     * @param from
+     * @param to
+     * @return
+     */
+    public float getYMax(int from, int to) {
+        return query(from, to, true);
+    }
+
+    private float query(int from, int to, boolean max) {
+
+        validate();
+
+        float result = max ? -Float.MAX_VALUE : Float.MAX_VALUE;
+
+        if (from < 0)
+            from = 0;
+        if (to > mSize - 1)
+            to = mSize - 1;
+        if (from > to)
+            return result;
+
+        final int blockFrom = (mOffset + from) / BLOCK_SIZE;
+        final int blockTo = (mOffset + to) / BLOCK_SIZE;
+
+        // the blocks at both ends are only partially in range, look at their entries
+        final int firstEnd = blockFrom == blockTo ? to : (blockFrom + 1) * BLOCK_SIZE - mOffset - 1;
+
+        for (int i = from; i <= firstEnd; i++)
+            result = max ? max(result, mDataSet.getYHighForMinMax(i)) : min(result, mDataSet.getYLowForMinMax(i));
+
+        if (blockFrom == blockTo)
+            return result;
+
+        for (int i = blockTo * BLOCK_SIZE - mOffset; i <= to; i++)
+            result = max ? max(result, mDataSet.getYHighForMinMax(i)) : min(result, mDataSet.getYLowForMinMax(i));
+
+        // all blocks in between are covered by the tree
+        final float[] tree = max ? mYMax : mYMin;
+
+        int l = mCapacity + blockFrom + 1;
+        int r = mCapacity + blockTo - 1;
+
+        while (l <= r) {
+
+            if ((l & 1) == 1)
+                result = max ? max(result, tree[l]) : min(result, tree[l]);
+            if ((r & 1) == 0)
+                result = max ? max(result, tree[r]) : min(result, tree[r]);
+
+            l = (l + 1) >> 1;
+            r = (r - 1) >> 1;
+        }
+
+        return result;
+    }
+
+    private void validate() {
+
+        if (mValid)
+            return;
+
+        mSize = mDataSet.getEntryCount();
+        mOffset = 0;
+
+        // leave room for appending before the tree has to be rebuilt
+        int blocks = mSize / BLOCK_SIZE + 1;
+        int capacity = 1;
+        while (capacity < blocks * 2)
+            capacity <<= 1;
+
+        if (mXMin == null || mXMin.length != capacity * 2) {
+            mXMin = new float[capacity * 2];
+            mXMax = new float[capacity * 2];
+            mYMin = new float[capacity * 2];
+            mYMax = new float[capacity * 2];
+        }
+
+        mCapacity = capacity;
+
+        for (int block = 0; block < capacity; block++)
+            calcBlock(block);
+
+        for (int node = capacity - 1; node > 0; node--)
+            combine(node);
+
+        mValid = true;
+    }
+
+    /**
+     * Recalculates the leaf of the given block from the entries that are currently in it.
+     */
+    private void calcBlock(int block) {
+
+        final int node = mCapacity + block;
+
+        float xMin = Float.MAX_VALUE, xMax = -Float.MAX_VALUE;
+        float yMin = Float.MAX_VALUE, yMax = -Float.MAX_VALUE;
+
+        final int from = Math.max(block * BLOCK_SIZE - mOffset, 0);
+        final int to = Math.min((block + 1) * BLOCK_SIZE - mOffset, mSize);
+
+        for (int i = from; i < to; i++) {
+
+            final float x = mDataSet.getXForMinMax(i);
+            final float yLow = mDataSet.getYLowForMinMax(i);
+            final float yHigh = mDataSet.getYHighForMinMax(i);
+
+            if (x < xMin) xMin = x;
+            if (x > xMax) xMax = x;
+            if (yLow < yMin) yMin = yLow;
+            if (yHigh > yMax) yMax = yHigh;
+        }
+
+        mXMin[node] = xMin;
+        mXMax[node] = xMax;
+        mYMin[node] = yMin;
+        mYMax[node] = yMax;
+    }
+
+    private void propagate(int node) {
+        for (node >>= 1; node > 0; node >>= 1)
+            combine(node);
+    }
+
+    private void combine(int node) {
+        final int l = node << 1, r = l + 1;
+        mXMin[node] = min(mXMin[l], mXMin[r]);
+        mXMax[node] = max(mXMax[l], mXMax[r]);
+        mYMin[node] = min(mYMin[l], mYMin[r]);
+        mYMax[node] = max(mYMax[l], mYMax[r]);
+    }
+
+    // unlike Math.min / Math.max, NaN values are ignored
+
+    private static float min(float a, float b) {
+        return b < a ? b : a;
+    }
+
+    private static float max(float a, float b) {
+        return b > a ? b : a;
+    }
+}
@@ -59,6 +59,12 @@ public class PieDataSet extends DataSet<PieEntry> implements IPieDataSet {
         calcMinMaxY(e);
     }
 
+    @Override
+    protected float getXForMinMax(int index) {
+        // the x-value is not used for pie charts
+        return Float.NaN;
+    }
+
     /**
      * Sets the space that is left out between the piechart-slices in dp.
      * Default: 0 --> no space, maximum 20f
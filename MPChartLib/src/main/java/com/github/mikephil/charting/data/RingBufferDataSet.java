@@ -0,0 +1,356 @@
+package com.github.mikephil.charting.data;
+
+import java.util.List;
+
+/**
+ * LineDataSet for real-time charts that holds a fixed number of values in a circular buffer.
+ * Once the buffer is full, adding a value evicts the oldest one. Both operations are O(1) and
+ * do not create any objects, the minimum and maximum y-value of the window are kept up to
+ * date with two monotonic queues instead of rescanning all values.
+ * <p/>
+ * Values must be added in ascending x-order, so that the binary search in getEntryIndex(...)
+ * keeps working. Removing values other than the first one is supported, but O(n).
+ */
+public class RingBufferDataSet extends FloatColumnDataSet {
+
+    /**
+     * physical index of the first (oldest) value in the columns
+     */
+    protected int mHead = 0;
+
+    // slots of the values that can still become the minimum / maximum of the window,
+    // ordered by age, their y-values are ascending / descending
+    private SlotQueue mMinQueue;
+    private SlotQueue mMaxQueue;
+
+    /**
+     * Creates an empty RingBufferDataSet that holds at most the given number of values.
+     *
+     * @param capacity
+     * @param label
+     */
+    public RingBufferDataSet(int capacity, String label) {
+        super(capacity, label);
+
+        if (capacity < 1)
+            throw new IllegalArgumentException("capacity must be at least 1");
+
+        mMinQueue = new SlotQueue(capacity);
+        mMaxQueue = new SlotQueue(capacity);
+    }
+
+    /**
+     * Returns the maximum number of values this DataSet holds.
+     *
+     * @return
+     */
+    public int getCapacity() {
+        return mXVals.length;
+    }
+
+    /**
+     * Returns true if the next added value evicts the oldest one.
+     *
+     * @return
+     */
+    public boolean isFull() {
+        return mCount == mXVals.length;
+    }
+
+    /**
+     * Returns the physical index in the columns of the value at the given index.
+     */
+    private int slot(int index) {
+        int slot = mHead + index;
+        return slot >= mXVals.length ? slot - mXVals.length : slot;
+    }
+
+    @Override
+    public float getX(int index) {
+        return mXVals[slot(index)];
+    }
+
+    @Override
+    public float getY(int index) {
+        return mYVals[slot(index)];
+    }
+
+    @Override
+    public void calcMinMax() {
+        super.calcMinMax();
+
+        // called by the super constructor before the queues exist
+        if (mMinQueue == null)
+            return;
+
+        mMinQueue.clear();
+        mMaxQueue.clear();
+
+        for (int i = 0; i < mCount; i++)
+            push(slot(i));
+    }
+
+    /**
+     * The capacity of a RingBufferDataSet is fixed, this does nothing.
+     *
+     * @param capacity
+     */
+    @Override
+    public void ensureCapacity(int capacity) {
+    }
+
+    /**
+     * Adds a value to the end of this DataSet, and evicts the oldest value if the DataSet is
+     * full. The x-value must not be smaller than the x-value of the last value.
+     *
+     * @param x
+     * @param y
+     */
+    @Override
+    public void addEntry(float x, float y) {
+
+        if (mCount > 0 && x < getX(mCount - 1))
+            throw new IllegalArgumentException("x-values must be added in ascending order, got " + x
+                    + " after " + getX(mCount - 1));
+
+        if (isFull())
+            removeFirstValue();
+
+        final int slot = slot(mCount);
+        mXVals[slot] = x;
+        mYVals[slot] = y;
+        mCount++;
+
+        push(slot);
+        incrementVersion();
+
+        mXMin = getX(0);
+        mXMax = x;
+        updateMinMaxY();
+
+        getMinMaxIndex().onEntryAdded(mCount - 1);
+
+        if (getLodPyramid() != null)
+            getLodPyramid().onEntryAdded(mCount - 1);
+    }
+
+    /**
+     * Adds the given values one after the other with addEntry(x, y), evicting the oldest
+     * values once the DataSet is full.
+     *
+     * @param xs
+     * @param ys
+     */
+    @Override
+    public void addEntries(float[] xs, float[] ys) {
+
+        if (xs.length != ys.length)
+            throw new IllegalArgumentException("xs and ys must have the same length");
+
+        for (int i = 0; i < xs.length; i++)
+            addEntry(xs[i], ys[i]);
+    }
+
+    /**
+     * Same as addEntry(x, y), values can only be added at the end of a RingBufferDataSet.
+     *
+     * @param x
+     * @param y
+     */
+    @Override
+    public void addEntryOrdered(float x, float y) {
+        addEntry(x, y);
+    }
+
+    @Override
+    public boolean removeEntry(int index) {
+
+        if (index < 0 || index >= mCount)
+            return false;
+
+        if (index == 0) {
+            removeFirstValue();
+        } else {
+
+            for (int i = index; i < mCount - 1; i++) {
+                mXVals[slot(i)] = getX(i + 1);
+                mYVals[slot(i)] = getY(i + 1);
+            }
+
+            mCount--;
+            incrementVersion();
+
+            getMinMaxIndex().onEntryRemoved(index);
+
+            if (getLodPyramid() != null)
+                getLodPyramid().onEntryRemoved(index);
+
+            // values that were dropped from the queues may be the new minimum / maximum
+            mMinQueue.clear();
+            mMaxQueue.clear();
+
+            for (int i = 0; i < mCount; i++)
+                push(slot(i));
+        }
+
+        if (mCount > 0) {
+            mXMin = getX(0);
+            mXMax = getX(mCount - 1);
+            updateMinMaxY();
+        }
+
+        return true;
+    }
+
+    /**
+     * Removes the oldest value in O(1).
+     */
+    private void removeFirstValue() {
+
+        if (!mMinQueue.isEmpty() && mMinQueue.first() == mHead)
+            mMinQueue.removeFirst();
+
+        if (!mMaxQueue.isEmpty() && mMaxQueue.first() == mHead)
+            mMaxQueue.removeFirst();
+
+        mHead = slot(1);
+        mCount--;
+        incrementVersion();
+
+        getMinMaxIndex().onEntryRemoved(0);
+
+        if (getLodPyramid() != null)
+            getLodPyramid().onEntryRemoved(0);
+    }
+
+    /**
+     * Adds the value in the given slot to the back of the queues. Values that are older and
+     * not smaller (or not larger) can never become the minimum (or maximum) again and are
+     * dropped.
+     */
+    private void push(int slot) {
+
+        final float y = mYVals[slot];
+
+        if (Float.isNaN(y))
+            return;
+
+        while (!mMinQueue.isEmpty() && mYVals[mMinQueue.last()] >= y)
+            mMinQueue.removeLast();
+        mMinQueue.addLast(slot);
+
+        while (!mMaxQueue.isEmpty() && mYVals[mMaxQueue.last()] <= y)
+            mMaxQueue.removeLast();
+        mMaxQueue.addLast(slot);
+    }
+
+    private void updateMinMaxY() {
+        if (!mMinQueue.isEmpty()) {
+            mYMin = mYVals[mMinQueue.first()];
+            mYMax = mYVals[mMaxQueue.first()];
+        }
+    }
+
+    @Override
+    public void clear() {
+        mHead = 0;
+        super.clear();
+    }
+
+    /**
+     * Replaces the values of this DataSet with the x- and y-values of the given entries, which
+     * must be sorted by x-value. If there are more entries than the capacity, only the last
+     * ones are kept.
+     *
+     * @param values
+     */
+    @Override
+    public void setValues(List<Entry> values) {
+
+        mHead = 0;
+        mCount = 0;
+
+        if (values != null) {
+            for (int i = Math.max(values.size() - mXVals.length, 0); i < values.size(); i++) {
+                Entry e = values.get(i);
+                mXVals[mCount] = e.getX();
+                mYVals[mCount] = e.getY();
+                mCount++;
+            }
+        }
+
+        notifyDataSetChanged();
+    }
+
+    @Override
+    public DataSet<Entry> copy() {
+
+        RingBufferDataSet copied = new RingBufferDataSet(mXVals.length, getLabel());
+
+        for (int i = 0; i < mCount; i++) {
+            copied.mXVals[i] = getX(i);
+            copied.mYVals[i] = getY(i);
+        }
+
+        copied.mCount = mCount;
+        copied.calcMinMax();
+
+        copy(copied);
+        return copied;
+    }
+
+    @Override
+    public String toSimpleString() {
+        return "RingBufferDataSet, label: " + (getLabel() == null ? "" : getLabel()) + ", entries: " + mCount
+                + ", capacity: " + mXVals.length + "\n";
+    }
+
+    /**
+     * Fixed-size double-ended queue of slot indices.
+     */
+    private static final class SlotQueue {
+
+        private final int[] mSlots;
+        private int mFirst = 0;
+        private int mSize = 0;
+
+        SlotQueue(int capacity) {
+            mSlots = new int[capacity];
+        }
+
+        boolean isEmpty() {
+            return mSize == 0;
+        }
+
+        int first() {
+            return mSlots[mFirst];
+        }
+
+        int last() {
+            return mSlots[wrap(mFirst + mSize - 1)];
+        }
+
+        void addLast(int slot) {
+            mSlots[wrap(mFirst + mSize)] = slot;
+            mSize++;
+        }
+
+        void removeFirst() {
+            mFirst = wrap(mFirst + 1);
+            mSize--;
+        }
+
+        void removeLast() {
+            mSize--;
+        }
+
+        void clear() {
+            mFirst = 0;
+            mSize = 0;
+        }
+
+        private int wrap(int index) {
+            return index >= mSlots.length ? index - mSlots.length : index;
+        }
+    }
+}
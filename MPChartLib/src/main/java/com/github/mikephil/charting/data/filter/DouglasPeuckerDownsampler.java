@@ -0,0 +1,114 @@
+package com.github.mikephil.charting.data.filter;
+
+import com.github.mikephil.charting.interfaces.datasets.IDataSet;
+
+/**
+ * Ramer-Douglas-Peucker simplification, implemented iteratively with a reusable stack
+ * instead of recursion, so that it neither creates objects nor overflows the stack for
+ * large DataSets. Distances are measured in pixels, every value that is further away than
+ * the tolerance from the simplified line is kept.
+ * <p/>
+ * The number of kept values depends on the shape of the line, not on the target count, which
+ * only decides if the line has to be simplified at all. Lines with few corners are reduced
+ * much further than by the other Downsamplers, noisy lines much less.
+ */
+public class DouglasPeuckerDownsampler extends Downsampler {
+
+    private float mTolerance;
+
+    /**
+     * pairs of (first, last) index of the parts that are still to be simplified
+     */
+    private int[] mStack = new int[32];
+
+    /**
+     * Creates a DouglasPeuckerDownsampler with a tolerance of half a pixel.
+     */
+    public DouglasPeuckerDownsampler() {
+        this(0.5f);
+    }
+
+    /**
+     * @param tolerance the maximum distance of a removed value from the line, in pixels
+     */
+    public DouglasPeuckerDownsampler(float tolerance) {
+        setTolerance(tolerance);
+    }
+
+    /**
+     * Sets the maximum distance of a removed value from the simplified line, in pixels.
+     *
+     * @param tolerance
+     */
+    public void setTolerance(float tolerance) {
+
+        if (tolerance < 0f)
+            throw new IllegalArgumentException("tolerance must not be negative");
+
+        mTolerance = tolerance;
+        invalidate();
+    }
+
+    public float getTolerance() {
+        return mTolerance;
+    }
+
+    @Override
+    protected void compute(IDataSet set, int from, int to, int target, float scaleX, float scaleY) {
+
+        int size = 0;
+
+        mStack[size++] = from;
+        mStack[size++] = to;
+
+        // the parts are popped from left to right, so the indices are appended in order
+        while (size > 0) {
+
+            final int last = mStack[--size];
+            final int first = mStack[--size];
+
+            final float x1 = getX(set, first) * scaleX;
+            final float y1 = getY(set, first) * scaleY;
+            final float dx = getX(set, last) * scaleX - x1;
+            final float dy = getY(set, last) * scaleY - y1;
+            final float length = (float) Math.sqrt(dx * dx + dy * dy);
+
+            int farthest = -1;
+            float maxDistance = mTolerance;
+
+            for (int i = first + 1; i < last; i++) {
+
+                final float px = getX(set, i) * scaleX - x1;
+                final float py = getY(set, i) * scaleY - y1;
+
+                final float distance = length > 0f
+                        ? Math.abs(dx * py - dy * px) / length
+                        : (float) Math.sqrt(px * px + py * py);
+
+                if (distance > maxDistance) {
+                    maxDistance = distance;
+                    farthest = i;
+                }
+            }
+
+            if (farthest < 0) {
+                append(first);
+                continue;
+            }
+
+            if (mStack.length < size + 4) {
+                int[] stack = new int[mStack.length * 2];
+                System.arraycopy(mStack, 0, stack, 0, size);
+                mStack = stack;
+            }
+
+            // the right part is pushed first, to be simplified after the left one
+            mStack[size++] = farthest;
+            mStack[size++] = last;
+            mStack[size++] = first;
+            mStack[size++] = farthest;
+        }
+
+        append(to);
+    }
+}
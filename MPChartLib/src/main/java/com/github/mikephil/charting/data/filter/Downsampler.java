@@ -0,0 +1,200 @@
+package com.github.mikephil.charting.data.filter;
+
+import com.github.mikephil.charting.interfaces.datasets.IColumnDataSet;
+import com.github.mikephil.charting.interfaces.datasets.IDataSet;
+import com.github.mikephil.charting.interfaces.datasets.IVersionedDataSet;
+
+/**
+ * Base class of the filters that reduce the visible values of a line to a number of points
+ * that is proportional to its width in pixels, before the line is drawn. Set one on a
+ * LineDataSet with setDownsampler(...).
+ * <p/>
+ * The result is a list of indices into the values array of the DataSet, in ascending order.
+ * It is cached, and reused as long as the range, the target count, the pixel scales and the
+ * DataSet stay the same. Once the buffers have grown to the size of the result, downsampling
+ * does not create any objects. A Downsampler keeps the result of one DataSet, do not share
+ * one instance between several DataSets.
+ */
+public abstract class Downsampler {
+
+    /**
+     * the indices of the values that are kept, only the first mCount are valid
+     */
+    protected int[] mIndices = new int[16];
+
+    /**
+     * the number of kept values
+     */
+    protected int mCount = 0;
+
+    /**
+     * the number of points per pixel of the line the target count is calculated with
+     */
+    protected float mPointsPerPixel = 1f;
+
+    // the input of the last call, used to decide if the cached result can be reused
+    private IDataSet mLastSet;
+    private int mLastFrom = -1;
+    private int mLastTo = -1;
+    private int mLastTarget = -1;
+    private float mLastScaleX = Float.NaN;
+    private float mLastScaleY = Float.NaN;
+    private int mLastEntryCount = -1;
+    private int mLastVersion = -1;
+
+    /**
+     * Sets the number of points that are kept per pixel of the width of the line. Default: 1
+     *
+     * @param pointsPerPixel
+     */
+    public void setPointsPerPixel(float pointsPerPixel) {
+
+        if (pointsPerPixel <= 0f)
+            throw new IllegalArgumentException("pointsPerPixel must be positive");
+
+        mPointsPerPixel = pointsPerPixel;
+    }
+
+    public float getPointsPerPixel() {
+        return mPointsPerPixel;
+    }
+
+    /**
+     * Returns the number of points a line that is the given number of pixels wide is reduced
+     * to, at least 3.
+     *
+     * @param pixels
+     * @return
+     */
+    public int getTargetCount(float pixels) {
+        return Math.max((int) Math.ceil(pixels * mPointsPerPixel), 3);
+    }
+
+    /**
+     * Downsamples the values of the given DataSet from index from to index to (inclusive) to
+     * about the given number of points. The first and the last value are always kept. Returns
+     * the number of kept values, the indices of the kept values are returned by getIndices().
+     *
+     * @param set
+     * @param from
+     * @param to
+     * @param target the number of points to keep, at least 3
+     * @param scaleX pixels per x-value
+     * @param scaleY pixels per y-value
+     * @return
+     */
+    public int downsample(IDataSet set, int from, int to, int target, float scaleX, float scaleY) {
+
+        if (target < 3)
+            throw new IllegalArgumentException("target must be at least 3, got " + target);
+
+        if (isCached(set, from, to, target, scaleX, scaleY))
+            return mCount;
+
+        mCount = 0;
+
+        if (to - from + 1 <= target) {
+            for (int i = from; i <= to; i++)
+                append(i);
+        } else {
+            compute(set, from, to, target, Math.abs(scaleX), Math.abs(scaleY));
+        }
+
+        mLastSet = set;
+        mLastFrom = from;
+        mLastTo = to;
+        mLastTarget = target;
+        mLastScaleX = scaleX;
+        mLastScaleY = scaleY;
+        mLastEntryCount = set.getEntryCount();
+        mLastVersion = getVersion(set);
+
+        return mCount;
+    }
+
+    /**
+     * Calculates the indices of the values to keep, with append(...) in ascending order. Only
+     * called if there are more values than the target count.
+     *
+     * @param set
+     * @param from
+     * @param to
+     * @param target
+     * @param scaleX pixels per x-value, positive
+     * @param scaleY pixels per y-value, positive
+     */
+    protected abstract void compute(IDataSet set, int from, int to, int target, float scaleX, float scaleY);
+
+    /**
+     * Adds the given index to the result, unless it is the last added index.
+     *
+     * @param index
+     */
+    protected void append(int index) {
+
+        if (mCount > 0 && mIndices[mCount - 1] == index)
+            return;
+
+        if (mIndices.length == mCount) {
+            int[] indices = new int[mIndices.length * 2];
+            System.arraycopy(mIndices, 0, indices, 0, mCount);
+            mIndices = indices;
+        }
+
+        mIndices[mCount++] = index;
+    }
+
+    protected static float getX(IDataSet set, int index) {
+        return set instanceof IColumnDataSet
+                ? ((IColumnDataSet) set).getX(index)
+                : set.getEntryForIndex(index).getX();
+    }
+
+    protected static float getY(IDataSet set, int index) {
+        return set instanceof IColumnDataSet
+                ? ((IColumnDataSet) set).getY(index)
+                : set.getEntryForIndex(index).getY();
+    }
+
+    private static int getVersion(IDataSet set) {
+        return set instanceof IVersionedDataSet ? ((IVersionedDataSet) set).getVersion() : 0;
+    }
+
+    private boolean isCached(IDataSet set, int from, int to, int target, float scaleX, float scaleY) {
+        return set == mLastSet
+                && from == mLastFrom
+                && to == mLastTo
+                && target == mLastTarget
+                && scaleX == mLastScaleX
+                && scaleY == mLastScaleY
+                && set.getEntryCount() == mLastEntryCount
+                && getVersion(set) == mLastVersion;
+    }
+
+    /**
+     * Forces the next call to downsample(...) to recalculate the result, e.g. after values of
+     * a DataSet that does not count its changes have been modified in place.
+     */
+    public void invalidate() {
+        mLastSet = null;
+    }
+
+    /**
+     * Returns the indices of the values kept by the last call, in ascending order. Only the
+     * first getCount() indices are valid.
+     *
+     * @return
+     */
+    public int[] getIndices() {
+        return mIndices;
+    }
+
+    /**
+     * Returns the number of values kept by the last call.
+     *
+     * @return
+     */
+    public int getCount() {
+        return mCount;
+    }
+}
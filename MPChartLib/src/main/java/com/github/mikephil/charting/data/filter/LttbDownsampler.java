@@ -0,0 +1,83 @@
+package com.github.mikephil.charting.data.filter;
+
+import com.github.mikephil.charting.interfaces.datasets.IDataSet;
+
+/**
+ * Largest-Triangle-Three-Buckets downsampling (Steinarsson, 2013). The values between the
+ * first and the last one are split into target - 2 buckets of equal size. From every bucket,
+ * the value that forms the largest triangle with the value kept from the previous bucket and
+ * the average of the next bucket is kept. This keeps the visual shape of the line, including
+ * most peaks, with exactly the target number of points.
+ */
+public class LttbDownsampler extends Downsampler {
+
+    @Override
+    protected void compute(IDataSet set, int from, int to, int target, float scaleX, float scaleY) {
+
+        // the areas are compared with each other only, the scales do not change the result
+        final int count = to - from + 1;
+        final double bucketSize = (double) (count - 2) / (target - 2);
+
+        int a = from;
+        float ax = getX(set, a);
+        float ay = getY(set, a);
+
+        append(a);
+
+        for (int bucket = 0; bucket < target - 2; bucket++) {
+
+            // the average of the next bucket, the last value for the last bucket
+            final int avgFrom = from + (int) ((bucket + 1) * bucketSize) + 1;
+            final int avgTo = Math.min(from + (int) ((bucket + 2) * bucketSize) + 1, to + 1);
+
+            float avgX = 0f, avgY = 0f;
+            int avgCount = 0;
+
+            for (int i = avgFrom; i < avgTo; i++) {
+
+                final float y = getY(set, i);
+
+                if (Float.isNaN(y))
+                    continue;
+
+                avgX += getX(set, i);
+                avgY += y;
+                avgCount++;
+            }
+
+            if (avgCount > 0) {
+                avgX /= avgCount;
+                avgY /= avgCount;
+            } else {
+                avgX = getX(set, to);
+                avgY = getY(set, to);
+            }
+
+            // the value of this bucket with the largest triangle
+            final int rangeFrom = from + (int) (bucket * bucketSize) + 1;
+            final int rangeTo = from + (int) ((bucket + 1) * bucketSize) + 1;
+
+            int next = rangeFrom;
+            float maxArea = -1f;
+
+            for (int i = rangeFrom; i < rangeTo; i++) {
+
+                final float area = Math.abs((ax - avgX) * (getY(set, i) - ay)
+                        - (ax - getX(set, i)) * (avgY - ay));
+
+                if (area > maxArea) {
+                    maxArea = area;
+                    next = i;
+                }
+            }
+
+            append(next);
+
+            a = next;
+            ax = getX(set, a);
+            ay = getY(set, a);
+        }
+
+        append(to);
+    }
+}
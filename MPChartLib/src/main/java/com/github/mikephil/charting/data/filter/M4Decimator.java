@@ -0,0 +1,194 @@
+package com.github.mikephil.charting.data.filter;
+
+import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.interfaces.datasets.IColumnDataSet;
+import com.github.mikephil.charting.interfaces.datasets.IDataSet;
+import com.github.mikephil.charting.interfaces.datasets.IVersionedDataSet;
+
+/**
+ * Min/max (M4) decimation of line data at pixel resolution. For every pixel column, only the
+ * first, the last, the minimum and the maximum value of that column are kept. A line drawn
+ * through the remaining values covers the same pixels as a line drawn through all values,
+ * but needs at most four points per pixel column.
+ * <p/>
+ * The result is a list of indices into the values array of the DataSet. It is cached, and
+ * reused as long as the range, the pixel mapping and the DataSet stay the same.
+ */
+public class M4Decimator {
+
+    /**
+     * the indices of the values that are kept, only the first mCount are valid
+     */
+    protected int[] mIndices = new int[16];
+
+    /**
+     * the number of kept values
+     */
+    protected int mCount = 0;
+
+    // the input of the last decimation, used to decide if the cached result can be reused
+    private IDataSet mLastSet;
+    private int mLastFrom = -1;
+    private int mLastTo = -1;
+    private float mLastScale = Float.NaN;
+    private float mLastOffset = Float.NaN;
+    private int mLastEntryCount = -1;
+    private int mLastVersion = -1;
+    private float mLastXMin, mLastXMax, mLastYMin, mLastYMax;
+
+    // the state of the pixel column that is currently processed
+    private int mFirst, mLast, mMin, mMax;
+    private float mMinY, mMaxY;
+
+    /**
+     * Decimates the values of the given DataSet from index from to index to (inclusive). The
+     * pixel column of a value is floor(x * scale + offset), which is the x-part of the
+     * value-to-pixel matrix of the Transformer. Returns the number of kept values, the indices
+     * of the kept values are returned by getIndices().
+     *
+     * @param set
+     * @param from
+     * @param to
+     * @param scale  pixels per x-value
+     * @param offset pixel position of the x-value 0
+     * @return
+     */
+    public int decimate(IDataSet set, int from, int to, float scale, float offset) {
+
+        if (isCached(set, from, to, scale, offset))
+            return mCount;
+
+        mCount = 0;
+
+        final IColumnDataSet columns = set instanceof IColumnDataSet ? (IColumnDataSet) set : null;
+
+        int column = Integer.MIN_VALUE;
+
+        for (int i = from; i <= to; i++) {
+
+            final float x, y;
+
+            if (columns != null) {
+                x = columns.getX(i);
+                y = columns.getY(i);
+            } else {
+                Entry e = set.getEntryForIndex(i);
+                x = e.getX();
+                y = e.getY();
+            }
+
+            final int c = (int) Math.floor(x * scale + offset);
+
+            if (c != column) {
+
+                if (column != Integer.MIN_VALUE)
+                    flushColumn();
+
+                column = c;
+                mFirst = mLast = mMin = mMax = i;
+                mMinY = mMaxY = y;
+                continue;
+            }
+
+            mLast = i;
+
+            if (y < mMinY) {
+                mMinY = y;
+                mMin = i;
+            }
+
+            if (y > mMaxY) {
+                mMaxY = y;
+                mMax = i;
+            }
+        }
+
+        if (column != Integer.MIN_VALUE)
+            flushColumn();
+
+        mLastSet = set;
+        mLastFrom = from;
+        mLastTo = to;
+        mLastScale = scale;
+        mLastOffset = offset;
+        mLastEntryCount = set.getEntryCount();
+        mLastVersion = getVersion(set);
+        mLastXMin = set.getXMin();
+        mLastXMax = set.getXMax();
+        mLastYMin = set.getYMin();
+        mLastYMax = set.getYMax();
+
+        return mCount;
+    }
+
+    /**
+     * Adds the first, min, max and last index of the current column in ascending order.
+     */
+    private void flushColumn() {
+
+        if (mIndices.length < mCount + 4) {
+            int[] indices = new int[Math.max(mIndices.length * 2, mCount + 4)];
+            System.arraycopy(mIndices, 0, indices, 0, mCount);
+            mIndices = indices;
+        }
+
+        // first <= min, max <= last, only the order of min and max is unknown
+        final int lower = Math.min(mMin, mMax);
+        final int upper = Math.max(mMin, mMax);
+
+        append(mFirst);
+        append(lower);
+        append(upper);
+        append(mLast);
+    }
+
+    private void append(int index) {
+        if (mCount == 0 || mIndices[mCount - 1] != index)
+            mIndices[mCount++] = index;
+    }
+
+    private static int getVersion(IDataSet set) {
+        return set instanceof IVersionedDataSet ? ((IVersionedDataSet) set).getVersion() : 0;
+    }
+
+    private boolean isCached(IDataSet set, int from, int to, float scale, float offset) {
+        return set == mLastSet
+                && from == mLastFrom
+                && to == mLastTo
+                && scale == mLastScale
+                && offset == mLastOffset
+                && set.getEntryCount() == mLastEntryCount
+                && getVersion(set) == mLastVersion
+                && set.getXMin() == mLastXMin
+                && set.getXMax() == mLastXMax
+                && set.getYMin() == mLastYMin
+                && set.getYMax() == mLastYMax;
+    }
+
+    /**
+     * Forces the next call to decimate(...) to recalculate the result, e.g. after values of a
+     * DataSet that does not count its changes have been modified in place.
+     */
+    public void invalidate() {
+        mLastSet = null;
+    }
+
+    /**
+     * Returns the indices of the values kept by the last decimation, in ascending order. Only
+     * the first getCount() indices are valid.
+     *
+     * @return
+     */
+    public int[] getIndices() {
+        return mIndices;
+    }
+
+    /**
+     * Returns the number of values kept by the last decimation.
+     *
+     * @return
+     */
+    public int getCount() {
+        return mCount;
+    }
+}
@@ -0,0 +1,61 @@
+package com.github.mikephil.charting.data.filter;
+
+import com.github.mikephil.charting.interfaces.datasets.IDataSet;
+
+/**
+ * Min/max bucketing. The values between the first and the last one are split into buckets
+ * of equal size, and the lowest and the highest value of every bucket are kept. Unlike
+ * LTTB, no peak is ever lost, which makes it the right choice for noisy signals. Keeps two
+ * points per bucket, the default is therefore two points per pixel.
+ * <p/>
+ * In contrast to the M4Decimator, the buckets are formed by index, not by pixel column, so
+ * the result does not change while the line is scrolled.
+ */
+public class MinMaxDownsampler extends Downsampler {
+
+    public MinMaxDownsampler() {
+        mPointsPerPixel = 2f;
+    }
+
+    @Override
+    protected void compute(IDataSet set, int from, int to, int target, float scaleX, float scaleY) {
+
+        final int buckets = Math.max((target - 2) / 2, 1);
+        final double bucketSize = (double) (to - from - 1) / buckets;
+
+        append(from);
+
+        for (int bucket = 0; bucket < buckets; bucket++) {
+
+            final int first = from + 1 + (int) (bucket * bucketSize);
+            final int last = Math.min(from + 1 + (int) ((bucket + 1) * bucketSize), to) - 1;
+
+            if (first > last)
+                continue;
+
+            int min = first, max = first;
+            float minY = getY(set, first), maxY = minY;
+
+            for (int i = first + 1; i <= last; i++) {
+
+                final float y = getY(set, i);
+
+                // NaN compares false, a bucket starting with NaN takes the first real value
+                if (y < minY || Float.isNaN(minY)) {
+                    minY = y;
+                    min = i;
+                }
+
+                if (y > maxY || Float.isNaN(maxY)) {
+                    maxY = y;
+                    max = i;
+                }
+            }
+
+            append(Math.min(min, max));
+            append(Math.max(min, max));
+        }
+
+        append(to);
+    }
+}
@@ -0,0 +1,183 @@
+package com.github.mikephil.charting.formatter;
+
+import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.utils.ViewPortHandler;
+
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+
+/**
+ * Formatter that produces the same labels as the DefaultValueFormatter (a fixed number of
+ * decimal digits and grouped thousands), but writes them into a char array without any
+ * allocations. Use this instead of the DefaultValueFormatter when many values are drawn.
+ * <p/>
+ * Unlike DecimalFormat, values exactly halfway between two labels are rounded up instead of
+ * to the even neighbour.
+ */
+public class CharValueFormatter implements ICharValueFormatter
+{
+
+    /**
+     * values whose scaled magnitude exceeds this do not fit into a long and are formatted
+     * with a DecimalFormat
+     */
+    private static final double MAX_SCALED = 1e17;
+
+    protected int mDecimalDigits;
+
+    protected boolean mGroupingEnabled = true;
+
+    private double mScale;
+
+    private char mDecimalSeparator;
+    private char mGroupingSeparator;
+    private char mMinusSign;
+    private char[] mNaN;
+    private char[] mInfinity;
+
+    private DecimalFormat mFallbackFormat;
+
+    private final char[] mScratch = new char[32];
+    private final char[] mLabel = new char[64];
+
+    /**
+     * Constructor that specifies to how many digits the value should be formatted.
+     *
+     * @param digits
+     */
+    public CharValueFormatter(int digits) {
+
+        DecimalFormatSymbols symbols = DecimalFormatSymbols.getInstance();
+        mDecimalSeparator = symbols.getDecimalSeparator();
+        mGroupingSeparator = symbols.getGroupingSeparator();
+        mMinusSign = symbols.getMinusSign();
+        mNaN = symbols.getNaN().toCharArray();
+        mInfinity = symbols.getInfinity().toCharArray();
+
+        setup(digits);
+    }
+
+    /**
+     * Sets up the formatter with a given number of decimal digits.
+     *
+     * @param digits
+     */
+    public void setup(int digits) {
+
+        if (digits < 0 || digits > 9)
+            throw new IllegalArgumentException("digits must be between 0 and 9, got " + digits);
+
+        mDecimalDigits = digits;
+        mScale = Math.pow(10, digits);
+
+        StringBuffer b = new StringBuffer();
+        for (int i = 0; i < digits; i++) {
+            if (i == 0)
+                b.append(".");
+            b.append("0");
+        }
+
+        mFallbackFormat = new DecimalFormat("###,###,###,##0" + b.toString());
+        mFallbackFormat.setGroupingUsed(mGroupingEnabled);
+    }
+
+    /**
+     * Enables / disables the grouping of thousands. Default: true
+     *
+     * @param enabled
+     */
+    public void setGroupingEnabled(boolean enabled) {
+        mGroupingEnabled = enabled;
+        mFallbackFormat.setGroupingUsed(enabled);
+    }
+
+    public boolean isGroupingEnabled() {
+        return mGroupingEnabled;
+    }
+
+    /**
+     * Returns the number of decimal digits this formatter uses.
+     *
+     * @return
+     */
+    public int getDecimalDigits() {
+        return mDecimalDigits;
+    }
+
+    @Override
+    public String getFormattedValue(float value, Entry entry, int dataSetIndex, ViewPortHandler viewPortHandler) {
+        int length = getFormattedValue(value, entry, dataSetIndex, viewPortHandler, mLabel);
+        return String.valueOf(mLabel, 0, length);
+    }
+
+    @Override
+    public int getFormattedValue(float value, Entry entry, int dataSetIndex, ViewPortHandler viewPortHandler,
+                                 char[] out) {
+
+        if (Float.isNaN(value))
+            return copy(mNaN, 0, mNaN.length, out);
+
+        final boolean negative = value < 0f;
+        final double scaled = Math.abs((double) value) * mScale;
+
+        if (Float.isInfinite(value)) {
+
+            if (!negative)
+                return copy(mInfinity, 0, mInfinity.length, out, 0);
+
+            out[0] = mMinusSign;
+            return 1 + copy(mInfinity, 0, mInfinity.length, out, 1);
+        }
+
+        if (scaled >= MAX_SCALED) {
+            String label = mFallbackFormat.format(value);
+            char[] chars = label.toCharArray();
+            return copy(chars, 0, chars.length, out);
+        }
+
+        long n = (long) (scaled + 0.5);
+
+        // write the digits from right to left into the end of the scratch buffer
+        final char[] s = mScratch;
+        int pos = s.length;
+
+        for (int i = 0; i < mDecimalDigits; i++) {
+            s[--pos] = (char) ('0' + n % 10);
+            n /= 10;
+        }
+
+        if (mDecimalDigits > 0)
+            s[--pos] = mDecimalSeparator;
+
+        int digits = 0;
+
+        do {
+            if (mGroupingEnabled && digits > 0 && digits % 3 == 0)
+                s[--pos] = mGroupingSeparator;
+
+            s[--pos] = (char) ('0' + n % 10);
+            n /= 10;
+            digits++;
+        } while (n > 0);
+
+        // like DecimalFormat, keep the sign of values that round to zero
+        if (negative)
+            s[--pos] = mMinusSign;
+
+        return copy(s, pos, s.length - pos, out);
+    }
+
+    private static int copy(char[] src, int from, int length, char[] out) {
+        return copy(src, from, length, out, 0);
+    }
+
+    private static int copy(char[] src, int from, int length, char[] out, int offset) {
+
+        if (offset + length > out.length)
+            throw new IllegalArgumentException("the label needs " + (offset + length)
+                    + " chars, the array only holds " + out.length);
+
+        System.arraycopy(src, from, out, offset, length);
+        return length;
+    }
+}
@@ -22,6 +22,11 @@ public class DefaultValueFormatter implements IValueFormatter
 
     protected int mDecimalDigits;
 
+    /**
+     * labels that were already formatted with the current setup
+     */
+    protected ValueLabelCache mLabelCache = new ValueLabelCache();
+
     /**
      * Constructor that specifies to how many digits the value should be
      * formatted.
@@ -49,6 +54,7 @@ public class DefaultValueFormatter implements IValueFormatter
         }
 
         mFormat = new DecimalFormat("###,###,###,##0" + b.toString());
+        mLabelCache.clear();
     }
 
     @Override
@@ -57,7 +63,14 @@ public class DefaultValueFormatter implements IValueFormatter
         // put more logic here ...
         // avoid memory allocations here (for performance reasons)
 
-        return mFormat.format(value);
+        String label = mLabelCache.get(value);
+
+        if (label == null) {
+            label = mFormat.format(value);
+            mLabelCache.put(value, label);
+        }
+
+        return label;
     }
 
     /**
@@ -0,0 +1,26 @@
+package com.github.mikephil.charting.formatter;
+
+import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.utils.ViewPortHandler;
+
+/**
+ * IValueFormatter that can write the formatted value into a char array instead of creating a
+ * new String. The renderers prefer this method when drawing values, so that formatting the
+ * labels does not allocate on every frame.
+ */
+public interface ICharValueFormatter extends IValueFormatter
+{
+
+    /**
+     * Called when a value (from labels inside the chart) is formatted before being drawn.
+     * Writes the formatted label to the start of the given array.
+     *
+     * @param value           the value to be formatted
+     * @param entry           the entry the value belongs to - in e.g. BarChart, this is of class BarEntry
+     * @param dataSetIndex    the index of the DataSet the entry in focus belongs to
+     * @param viewPortHandler provides information about the current chart state (scale, translation, ...)
+     * @param out             the array to write the label to
+     * @return the number of chars written
+     */
+    int getFormattedValue(float value, Entry entry, int dataSetIndex, ViewPortHandler viewPortHandler, char[] out);
+}
@@ -26,6 +26,7 @@ public class LargeValueFormatter implements IValueFormatter, IAxisValueFormatter
     private int mMaxLength = 5;
     private DecimalFormat mFormat;
     private String mText = "";
+    private ValueLabelCache mLabelCache = new ValueLabelCache();
 
     public LargeValueFormatter() {
         mFormat = new DecimalFormat("###E00");
@@ -44,13 +45,25 @@ public class LargeValueFormatter implements IValueFormatter, IAxisValueFormatter
     // IValueFormatter
     @Override
     public String getFormattedValue(float value, Entry entry, int dataSetIndex, ViewPortHandler viewPortHandler) {
-        return makePretty(value) + mText;
+        return format(value);
     }
 
     // IAxisValueFormatter
     @Override
     public String getFormattedValue(float value, AxisBase axis) {
-        return makePretty(value) + mText;
+        return format(value);
+    }
+
+    private String format(float value) {
+
+        String label = mLabelCache.get(value);
+
+        if (label == null) {
+            label = makePretty(value) + mText;
+            mLabelCache.put(value, label);
+        }
+
+        return label;
     }
 
     /**
@@ -60,6 +73,7 @@ public class LargeValueFormatter implements IValueFormatter, IAxisValueFormatter
      */
     public void setAppendix(String appendix) {
         this.mText = appendix;
+        mLabelCache.clear();
     }
 
     /**
@@ -70,10 +84,12 @@ public class LargeValueFormatter implements IValueFormatter, IAxisValueFormatter
      */
     public void setSuffix(String[] suffix) {
         this.mSuffix = suffix;
+        mLabelCache.clear();
     }
 
     public void setMaxLength(int maxLength) {
         this.mMaxLength = maxLength;
+        mLabelCache.clear();
     }
 
     /**
@@ -18,6 +18,11 @@ public class PercentFormatter implements IValueFormatter, IAxisValueFormatter
 
     protected DecimalFormat mFormat;
 
+    /**
+     * labels that were already formatted, clear this after changing mFormat
+     */
+    protected ValueLabelCache mLabelCache = new ValueLabelCache();
+
     public PercentFormatter() {
         mFormat = new DecimalFormat("###,###,##0.0");
     }
@@ -34,13 +39,25 @@ public class PercentFormatter implements IValueFormatter, IAxisValueFormatter
     // IValueFormatter
     @Override
     public String getFormattedValue(float value, Entry entry, int dataSetIndex, ViewPortHandler viewPortHandler) {
-        return mFormat.format(value) + " %";
+        return format(value);
     }
 
     // IAxisValueFormatter
     @Override
     public String getFormattedValue(float value, AxisBase axis) {
-        return mFormat.format(value) + " %";
+        return format(value);
+    }
+
+    private String format(float value) {
+
+        String label = mLabelCache.get(value);
+
+        if (label == null) {
+            label = mFormat.format(value) + " %";
+            mLabelCache.put(value, label);
+        }
+
+        return label;
     }
 
     public int getDecimalDigits() {
@@ -0,0 +1,83 @@
+package com.github.mikephil.charting.formatter;
+
+/**
+ * Small cache for formatted value labels, keyed by the float value itself. Charts draw the
+ * same values again on every frame while scrolling and zooming, formatters that only depend
+ * on the value can use this cache to return the same String instead of formatting it again.
+ * <p/>
+ * The cache is direct-mapped: every value has exactly one slot, a value that maps to an
+ * occupied slot replaces the label that is stored there. Lookups and insertions are O(1)
+ * and do not allocate.
+ */
+public class ValueLabelCache {
+
+    private final int[] mKeys;
+    private final String[] mLabels;
+    private final int mMask;
+
+    public ValueLabelCache() {
+        this(256);
+    }
+
+    /**
+     * Creates a cache with the given number of slots, rounded up to the next power of two.
+     *
+     * @param size
+     */
+    public ValueLabelCache(int size) {
+
+        if (size < 1)
+            throw new IllegalArgumentException("size must be at least 1");
+
+        int capacity = 1;
+        while (capacity < size)
+            capacity <<= 1;
+
+        mKeys = new int[capacity];
+        mLabels = new String[capacity];
+        mMask = capacity - 1;
+    }
+
+    /**
+     * Returns the label stored for the given value, null if there is none.
+     *
+     * @param value
+     * @return
+     */
+    public String get(float value) {
+
+        final int key = Float.floatToIntBits(value);
+        final int slot = slot(key);
+
+        return mLabels[slot] != null && mKeys[slot] == key ? mLabels[slot] : null;
+    }
+
+    /**
+     * Stores the label for the given value.
+     *
+     * @param value
+     * @param label
+     */
+    public void put(float value, String label) {
+
+        final int key = Float.floatToIntBits(value);
+        final int slot = slot(key);
+
+        mKeys[slot] = key;
+        mLabels[slot] = label;
+    }
+
+    /**
+     * Removes all labels, call this whenever the formatting changes.
+     */
+    public void clear() {
+        for (int i = 0; i < mLabels.length; i++)
+            mLabels[i] = null;
+    }
+
+    private int slot(int key) {
+        // spread the bits, the low mantissa bits of "round" values are mostly zero
+        int h = key * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & mMask;
+    }
+}
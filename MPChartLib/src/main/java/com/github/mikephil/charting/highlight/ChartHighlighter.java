@@ -1,14 +1,21 @@
 package com.github.mikephil.charting.highlight;
 
+import android.graphics.Matrix;
+
 import com.github.mikephil.charting.components.YAxis;
 import com.github.mikephil.charting.data.BarLineScatterCandleBubbleData;
 import com.github.mikephil.charting.data.DataSet;
 import com.github.mikephil.charting.data.Entry;
 import com.github.mikephil.charting.interfaces.dataprovider.BarLineScatterCandleBubbleDataProvider;
+import com.github.mikephil.charting.interfaces.datasets.IBubbleDataSet;
+import com.github.mikephil.charting.interfaces.datasets.IColumnDataSet;
 import com.github.mikephil.charting.interfaces.datasets.IDataSet;
+import com.github.mikephil.charting.interfaces.datasets.IScatterDataSet;
 import com.github.mikephil.charting.utils.MPPointD;
+import com.github.mikephil.charting.utils.Transformer;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 
 /**
@@ -27,10 +34,103 @@ public class ChartHighlighter<T extends BarLineScatterCandleBubbleDataProvider>
      */
     protected List<Highlight> mHighlightBuffer = new ArrayList<Highlight>();
 
+    /**
+     * the spatial indices of the scatter and bubble DataSets, null if disabled
+     */
+    protected HashMap<IDataSet, SpatialIndex> mSpatialIndices = null;
+
+    /**
+     * buffer for reading the value-to-pixel matrix
+     */
+    private float[] mMatrixValuesBuffer = new float[9];
+
     public ChartHighlighter(T chart) {
         this.mChart = chart;
     }
 
+    /**
+     * If enabled, a touch highlights the entry of every scatter and bubble DataSet that is
+     * closest to it in both x and y, found with a SpatialIndex in O(log n), instead of the
+     * closest entry among those with the closest x-value. The index of a DataSet is built on
+     * the first touch after it changed, and needs 12 bytes per entry. Default: false
+     *
+     * @param enabled
+     */
+    public void setSpatialIndexEnabled(boolean enabled) {
+        mSpatialIndices = enabled ? new HashMap<IDataSet, SpatialIndex>() : null;
+    }
+
+    /**
+     * Returns true if scatter and bubble DataSets are highlighted with a SpatialIndex.
+     *
+     * @return
+     */
+    public boolean isSpatialIndexEnabled() {
+        return mSpatialIndices != null;
+    }
+
+    /**
+     * Returns true if the entry of the given DataSet to highlight is looked up in its
+     * SpatialIndex.
+     *
+     * @param set
+     * @return
+     */
+    protected boolean useSpatialIndex(IDataSet set) {
+        return mSpatialIndices != null && (set instanceof IScatterDataSet || set instanceof IBubbleDataSet);
+    }
+
+    /**
+     * Returns the Highlight for the entry of the given DataSet that is closest to the given
+     * touch position in pixels, null if the DataSet is empty.
+     *
+     * @param set
+     * @param dataSetIndex
+     * @param x            touch position
+     * @param y            touch position
+     * @return
+     */
+    protected Highlight getNearestHighlight(IDataSet set, int dataSetIndex, float x, float y) {
+
+        SpatialIndex index = mSpatialIndices.get(set);
+
+        if (index == null || !index.isValid(set)) {
+
+            // forget the DataSets that were replaced
+            if (index == null && mSpatialIndices.size() >= getData().getDataSetCount())
+                mSpatialIndices.clear();
+
+            index = new SpatialIndex(set);
+            mSpatialIndices.put(set, index);
+        }
+
+        Transformer trans = mChart.getTransformer(set.getAxisDependency());
+        trans.getValueToPixelMatrix().getValues(mMatrixValuesBuffer);
+
+        MPPointD touch = trans.getValuesByTouchPoint(x, y);
+
+        final int nearest = index.getNearest((float) touch.x, (float) touch.y,
+                mMatrixValuesBuffer[Matrix.MSCALE_X], mMatrixValuesBuffer[Matrix.MSCALE_Y]);
+
+        MPPointD.recycleInstance(touch);
+
+        if (nearest < 0)
+            return null;
+
+        Entry e = set.getEntryForIndex(nearest);
+
+        MPPointD pixels = trans.getPixelForValues(e.getX(), e.getY());
+
+        Highlight high = new Highlight(
+                e.getX(), e.getY(),
+                (float) pixels.x, (float) pixels.y,
+                dataSetIndex, set.getAxisDependency());
+
+        MPPointD.recycleInstance(pixels);
+
+        return high;
+    }
+
     @Override
     public Highlight getHighlight(float x, float y) {
 
@@ -142,6 +242,14 @@ public class ChartHighlighter<T extends BarLineScatterCandleBubbleDataProvider>
             if (!dataSet.isHighlightEnabled())
                 continue;
 
+            if (useSpatialIndex(dataSet)) {
+                Highlight high = getNearestHighlight(dataSet, i, x, y);
+
+                if (high != null)
+                    mHighlightBuffer.add(high);
+                continue;
+            }
+
             mHighlightBuffer.addAll(buildHighlights(dataSet, i, xVal, DataSet.Rounding.CLOSEST));
         }
 
@@ -161,6 +269,11 @@ public class ChartHighlighter<T extends BarLineScatterCandleBubbleDataProvider>
 
         ArrayList<Highlight> highlights = new ArrayList<>();
 
+        if (set instanceof IColumnDataSet) {
+            buildHighlights((IColumnDataSet) set, set, dataSetIndex, xVal, rounding, highlights);
+            return highlights;
+        }
+
         //noinspection unchecked
         List<Entry> entries = set.getEntriesForXValue(xVal);
         if (entries.size() == 0) {
@@ -189,6 +302,49 @@ public class ChartHighlighter<T extends BarLineScatterCandleBubbleDataProvider>
         return highlights;
     }
 
+    /**
+     * Adds the Highlights for a DataSet with primitive columns to the given list, reading the
+     * values by index instead of creating Entry objects.
+     *
+     * @param columns
+     * @param set
+     * @param dataSetIndex
+     * @param xVal
+     * @param rounding
+     * @param outputHighlights
+     */
+    protected void buildHighlights(IColumnDataSet columns, IDataSet set, int dataSetIndex, float xVal,
+                                   DataSet.Rounding rounding, List<Highlight> outputHighlights) {
+
+        // an exact match is always the closest value, regardless of the rounding
+        int index = set.getEntryIndex(xVal, Float.NaN, rounding);
+
+        if (index < 0)
+            return;
+
+        final float closestX = columns.getX(index);
+
+        while (index > 0 && columns.getX(index - 1) == closestX)
+            index--;
+
+        MPPointD pixels = MPPointD.getInstance(0, 0);
+        Transformer trans = mChart.getTransformer(set.getAxisDependency());
+
+        for (int count = columns.getEntryCount(); index < count && columns.getX(index) == closestX; index++) {
+
+            final float y = columns.getY(index);
+
+            trans.getPixelForValues(closestX, y, pixels);
+
+            outputHighlights.add(new Highlight(
+                    closestX, y,
+                    (float) pixels.x, (float) pixels.y,
+                    dataSetIndex, set.getAxisDependency()));
+        }
+
+        MPPointD.recycleInstance(pixels);
+    }
+
     /**
      * Returns the Highlight of the DataSet that contains the closest value on the
      * y-axis.
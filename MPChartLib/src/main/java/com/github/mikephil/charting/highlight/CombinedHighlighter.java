@@ -57,6 +57,16 @@ public class CombinedHighlighter extends ChartHighlighter<CombinedDataProvider>
                     if (!dataSet.isHighlightEnabled())
                         continue;
 
+                    if (useSpatialIndex(dataSet)) {
+                        Highlight high = getNearestHighlight(dataSet, j, x, y);
+
+                        if (high != null) {
+                            high.setDataIndex(i);
+                            mHighlightBuffer.add(high);
+                        }
+                        continue;
+                    }
+
                     List<Highlight> highs = buildHighlights(dataSet, j, xVal, DataSet.Rounding.CLOSEST);
                     for (Highlight high : highs)
                     {
@@ -0,0 +1,238 @@
+package com.github.mikephil.charting.highlight;
+
+import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.interfaces.datasets.IColumnDataSet;
+import com.github.mikephil.charting.interfaces.datasets.IDataSet;
+import com.github.mikephil.charting.interfaces.datasets.IVersionedDataSet;
+
+/**
+ * 2-d tree over the x- and y-values of a DataSet, for finding the entry that is closest to a
+ * touch position in O(log n) instead of only looking at the entries with the closest
+ * x-value. Distances are weighted with the scale of each axis, so that the entry that is
+ * closest in pixels is found although x- and y-values have different units.
+ * <p/>
+ * The tree is stored implicitly in three arrays: the median of every range splits it into
+ * two halves, alternately by x- and y-value. It does not follow changes of the DataSet, check
+ * isValid(...) and build a new index if needed. Not thread-safe.
+ */
+public class SpatialIndex {
+
+    private final float[] mX;
+    private final float[] mY;
+
+    /**
+     * the index of the entry in the DataSet for every point of the tree
+     */
+    private final int[] mIndex;
+
+    private final int mSize;
+
+    private final int mEntryCount;
+    private final int mVersion;
+
+    // the best result of the running query
+    private int mBest;
+    private float mBestDistance;
+
+    /**
+     * Builds the index over all entries of the given DataSet in O(n log n). Entries with a
+     * NaN value are left out.
+     *
+     * @param set
+     */
+    public SpatialIndex(IDataSet set) {
+
+        final int count = set.getEntryCount();
+
+        mX = new float[count];
+        mY = new float[count];
+        mIndex = new int[count];
+
+        final IColumnDataSet columns = set instanceof IColumnDataSet ? (IColumnDataSet) set : null;
+
+        int size = 0;
+
+        for (int i = 0; i < count; i++) {
+
+            float x, y;
+
+            if (columns != null) {
+                x = columns.getX(i);
+                y = columns.getY(i);
+            } else {
+                Entry e = set.getEntryForIndex(i);
+                x = e.getX();
+                y = e.getY();
+            }
+
+            if (Float.isNaN(x) || Float.isNaN(y))
+                continue;
+
+            mX[size] = x;
+            mY[size] = y;
+            mIndex[size] = i;
+            size++;
+        }
+
+        mSize = size;
+        mEntryCount = count;
+        mVersion = getVersion(set);
+
+        build(0, mSize, false);
+    }
+
+    private static int getVersion(IDataSet set) {
+        return set instanceof IVersionedDataSet ? ((IVersionedDataSet) set).getVersion() : 0;
+    }
+
+    /**
+     * Returns true if the index was built from the current entries of the given DataSet. For
+     * DataSets that do not count their changes (see IVersionedDataSet), only the number of
+     * entries is compared.
+     *
+     * @param set
+     * @return
+     */
+    public boolean isValid(IDataSet set) {
+        return set.getEntryCount() == mEntryCount && getVersion(set) == mVersion;
+    }
+
+    /**
+     * Returns the number of points in the index.
+     *
+     * @return
+     */
+    public int size() {
+        return mSize;
+    }
+
+    /**
+     * Returns the index of the entry closest to the given position, -1 if the index is empty.
+     * The differences in x and y are multiplied with the given scales before the distance is
+     * calculated, pass the number of pixels per value of each axis to find the entry that is
+     * closest on the screen.
+     *
+     * @param x
+     * @param y
+     * @param scaleX
+     * @param scaleY
+     * @return
+     */
+    public int getNearest(float x, float y, float scaleX, float scaleY) {
+
+        mBest = -1;
+        mBestDistance = Float.POSITIVE_INFINITY;
+
+        search(0, mSize, false, x, y, Math.abs(scaleX), Math.abs(scaleY));
+
+        return mBest < 0 ? -1 : mIndex[mBest];
+    }
+
+    /**
+     * Returns the scaled distance to the entry found by the last getNearest(...) call.
+     *
+     * @return
+     */
+    public float getNearestDistance() {
+        return (float) Math.sqrt(mBestDistance);
+    }
+
+    private void build(int from, int to, boolean byY) {
+
+        if (to - from < 2)
+            return;
+
+        final int mid = (from + to) >>> 1;
+
+        select(from, to - 1, mid, byY);
+
+        build(from, mid, !byY);
+        build(mid + 1, to, !byY);
+    }
+
+    /**
+     * Partially sorts the points between from and to (inclusive), so that the point at k is
+     * the one that belongs there, with no larger points before and no smaller points after
+     * it.
+     */
+    private void select(int from, int to, int k, boolean byY) {
+
+        final float[] keys = byY ? mY : mX;
+
+        while (from < to) {
+
+            final float pivot = keys[(from + to) >>> 1];
+
+            int i = from, j = to;
+
+            while (i <= j) {
+
+                while (keys[i] < pivot)
+                    i++;
+
+                while (keys[j] > pivot)
+                    j--;
+
+                if (i <= j) {
+                    swap(i, j);
+                    i++;
+                    j--;
+                }
+            }
+
+            if (k <= j)
+                to = j;
+            else if (k >= i)
+                from = i;
+            else
+                return;
+        }
+    }
+
+    private void swap(int i, int j) {
+
+        float f = mX[i];
+        mX[i] = mX[j];
+        mX[j] = f;
+
+        f = mY[i];
+        mY[i] = mY[j];
+        mY[j] = f;
+
+        int index = mIndex[i];
+        mIndex[i] = mIndex[j];
+        mIndex[j] = index;
+    }
+
+    private void search(int from, int to, boolean byY, float x, float y, float scaleX, float scaleY) {
+
+        if (from >= to)
+            return;
+
+        final int mid = (from + to) >>> 1;
+
+        final float dx = (x - mX[mid]) * scaleX;
+        final float dy = (y - mY[mid]) * scaleY;
+        final float distance = dx * dx + dy * dy;
+
+        if (distance < mBestDistance) {
+            mBestDistance = distance;
+            mBest = mid;
+        }
+
+        final float split = byY ? dy : dx;
+
+        // the half the position lies in first, the other one only if it can contain a closer point
+        if (split < 0f) {
+            search(from, mid, !byY, x, y, scaleX, scaleY);
+
+            if (split * split < mBestDistance)
+                search(mid + 1, to, !byY, x, y, scaleX, scaleY);
+        } else {
+            search(mid + 1, to, !byY, x, y, scaleX, scaleY);
+
+            if (split * split < mBestDistance)
+                search(from, mid, !byY, x, y, scaleX, scaleY);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.github.mikephil.charting.interfaces.datasets;
+
+/**
+ * Interface for DataSets that store their values in primitive columns instead of Entry objects.
+ * Renderers, Transformer and highlighters check for this interface and read the values by index,
+ * so that no Entry has to be created for drawing.
+ */
+public interface IColumnDataSet {
+
+    /**
+     * Returns the number of values this DataSet holds.
+     *
+     * @return
+     */
+    int getEntryCount();
+
+    /**
+     * Returns the x-value at the given index (NOT xIndex) in the values array.
+     *
+     * @param index
+     * @return
+     */
+    float getX(int index);
+
+    /**
+     * Returns the y-value at the given index (NOT xIndex) in the values array.
+     *
+     * @param index
+     * @return
+     */
+    float getY(int index);
+}
@@ -4,6 +4,7 @@ import android.graphics.DashPathEffect;
 
 import com.github.mikephil.charting.data.Entry;
 import com.github.mikephil.charting.data.LineDataSet;
+import com.github.mikephil.charting.data.filter.Downsampler;
 import com.github.mikephil.charting.formatter.IFillFormatter;
 
 /**
@@ -94,6 +95,21 @@ public interface ILineDataSet extends ILineRadarDataSet<Entry> {
      */
     boolean isDashedLineEnabled();
 
+    /**
+     * Returns true if the line is decimated to pixel resolution before drawing.
+     *
+     * @return
+     */
+    boolean isDecimationEnabled();
+
+    /**
+     * Returns the Downsampler the visible values are reduced with before drawing, null if
+     * none is set.
+     *
+     * @return
+     */
+    Downsampler getDownsampler();
+
     /**
      * Returns the IFillFormatter that is set for this DataSet.
      *
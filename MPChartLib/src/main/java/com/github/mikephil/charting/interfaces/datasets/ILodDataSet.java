@@ -0,0 +1,18 @@
+package com.github.mikephil.charting.interfaces.datasets;
+
+import com.github.mikephil.charting.data.LodPyramid;
+
+/**
+ * Interface for DataSets that can provide a level-of-detail pyramid over their entries.
+ * Renderers check for this interface and draw the buckets of the pyramid instead of the
+ * entries when many entries fall onto one pixel.
+ */
+public interface ILodDataSet {
+
+    /**
+     * Returns the level-of-detail pyramid of this DataSet, null if it is disabled.
+     *
+     * @return
+     */
+    LodPyramid getLodPyramid();
+}
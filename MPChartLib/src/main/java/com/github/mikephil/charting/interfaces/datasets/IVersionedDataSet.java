@@ -0,0 +1,16 @@
+package com.github.mikephil.charting.interfaces.datasets;
+
+/**
+ * Interface for DataSets that count the changes of their entries. Renderers check for this
+ * interface to find out cheaply whether something they calculated from the entries is stale.
+ */
+public interface IVersionedDataSet {
+
+    /**
+     * Returns a number that changes every time the entries of this DataSet change. Only
+     * comparable to earlier versions of the same DataSet.
+     *
+     * @return
+     */
+    int getVersion();
+}
@@ -0,0 +1,17 @@
+package com.github.mikephil.charting.listener;
+
+import com.github.mikephil.charting.data.ChartData;
+
+/**
+ * Listener for data that was set with Chart.setDataAsync(...).
+ */
+public interface OnDataPreparedListener {
+
+    /**
+     * Called on the main thread after the data was prepared and set to the chart. Not called
+     * if other data was set to the chart in the meantime.
+     *
+     * @param data
+     */
+    void onDataPrepared(ChartData<?> data);
+}
@@ -0,0 +1,17 @@
+package com.github.mikephil.charting.listener;
+
+import com.github.mikephil.charting.utils.RenderStats;
+
+/**
+ * Listener for the timings and counts of every drawn frame of a chart.
+ */
+public interface OnRenderStatsListener {
+
+    /**
+     * Called at the end of every onDraw(...) call of the chart. The RenderStats object is
+     * reused for the next frame, copy the values that should be kept.
+     *
+     * @param stats
+     */
+    void onRenderStats(RenderStats stats);
+}
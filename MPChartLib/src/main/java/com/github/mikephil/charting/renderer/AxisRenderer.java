@@ -147,17 +147,31 @@ public abstract class AxisRenderer extends Renderer {
      * @return
      */
     protected void computeAxisValues(float min, float max) {
+        computeAxisValues(mAxis, min, max);
+    }
+
+    /**
+     * Computes the desired number of labels between the two given extremes like
+     * computeAxisValues(min, max), but writes them to the given axis. Only the given axis is
+     * accessed, so that this can be called from a background thread with an axis created by
+     * copyForCalculation().
+     *
+     * @param axis
+     * @param min
+     * @param max
+     */
+    public void computeAxisValues(AxisBase axis, float min, float max) {
 
         float yMin = min;
         float yMax = max;
 
-        int labelCount = mAxis.getLabelCount();
+        int labelCount = axis.getLabelCount();
         double range = Math.abs(yMax - yMin);
 
         if (labelCount == 0 || range <= 0 || Double.isInfinite(range)) {
-            mAxis.mEntries = new float[]{};
-            mAxis.mCenteredEntries = new float[]{};
-            mAxis.mEntryCount = 0;
+            axis.mEntries = new float[]{};
+            axis.mCenteredEntries = new float[]{};
+            axis.mEntryCount = 0;
             return;
         }
 
@@ -167,8 +181,8 @@ public abstract class AxisRenderer extends Renderer {
 
         // If granularity is enabled, then do not allow the interval to go below specified granularity.
         // This is used to avoid repeated values when rounding values for display.
-        if (mAxis.isGranularityEnabled())
-            interval = interval < mAxis.getGranularity() ? mAxis.getGranularity() : interval;
+        if (axis.isGranularityEnabled())
+            interval = interval < axis.getGranularity() ? axis.getGranularity() : interval;
 
         // Normalize interval
         double intervalMagnitude = Utils.roundToNextSignificant(Math.pow(10, (int) Math.log10(interval)));
@@ -179,23 +193,23 @@ public abstract class AxisRenderer extends Renderer {
             interval = Math.floor(10 * intervalMagnitude);
         }
 
-        int n = mAxis.isCenterAxisLabelsEnabled() ? 1 : 0;
+        int n = axis.isCenterAxisLabelsEnabled() ? 1 : 0;
 
         // force label count
-        if (mAxis.isForceLabelsEnabled()) {
+        if (axis.isForceLabelsEnabled()) {
 
             interval = (float) range / (float) (labelCount - 1);
-            mAxis.mEntryCount = labelCount;
+            axis.mEntryCount = labelCount;
 
-            if (mAxis.mEntries.length < labelCount) {
+            if (axis.mEntries.length < labelCount) {
                 // Ensure stops contains at least numStops elements.
-                mAxis.mEntries = new float[labelCount];
+                axis.mEntries = new float[labelCount];
             }
 
             float v = min;
 
             for (int i = 0; i < labelCount; i++) {
-                mAxis.mEntries[i] = v;
+                axis.mEntries[i] = v;
                 v += interval;
             }
 
@@ -205,7 +219,7 @@ public abstract class AxisRenderer extends Renderer {
         } else {
 
             double first = interval == 0.0 ? 0.0 : Math.ceil(yMin / interval) * interval;
-            if(mAxis.isCenterAxisLabelsEnabled()) {
+            if(axis.isCenterAxisLabelsEnabled()) {
                 first -= interval;
             }
 
@@ -220,11 +234,11 @@ public abstract class AxisRenderer extends Renderer {
                 }
             }
 
-            mAxis.mEntryCount = n;
+            axis.mEntryCount = n;
 
-            if (mAxis.mEntries.length < n) {
+            if (axis.mEntries.length < n) {
                 // Ensure stops contains at least numStops elements.
-                mAxis.mEntries = new float[n];
+                axis.mEntries = new float[n];
             }
 
             for (f = first, i = 0; i < n; f += interval, ++i) {
@@ -232,31 +246,41 @@ public abstract class AxisRenderer extends Renderer {
                 if (f == 0.0) // Fix for negative zero case (Where value == -0.0, and 0.0 == -0.0)
                     f = 0.0;
 
-                mAxis.mEntries[i] = (float) f;
+                axis.mEntries[i] = (float) f;
             }
         }
 
         // set decimals
         if (interval < 1) {
-            mAxis.mDecimals = (int) Math.ceil(-Math.log10(interval));
+            axis.mDecimals = (int) Math.ceil(-Math.log10(interval));
         } else {
-            mAxis.mDecimals = 0;
+            axis.mDecimals = 0;
         }
 
-        if (mAxis.isCenterAxisLabelsEnabled()) {
+        if (axis.isCenterAxisLabelsEnabled()) {
 
-            if (mAxis.mCenteredEntries.length < n) {
-                mAxis.mCenteredEntries = new float[n];
+            if (axis.mCenteredEntries.length < n) {
+                axis.mCenteredEntries = new float[n];
             }
 
             float offset = (float)interval / 2f;
 
             for (int i = 0; i < n; i++) {
-                mAxis.mCenteredEntries[i] = mAxis.mEntries[i] + offset;
+                axis.mCenteredEntries[i] = axis.mEntries[i] + offset;
             }
         }
     }
 
+    /**
+     * Takes over the range and the label entries of the given axis, which was created with
+     * copyForCalculation() from the axis of this renderer and computed since.
+     *
+     * @param axis
+     */
+    public void setCalculatedAxis(AxisBase axis) {
+        mAxis.setCalculatedValues(axis);
+    }
+
     /**
      * Draws the axis labels to the screen.
      *
@@ -11,10 +11,12 @@ import com.github.mikephil.charting.animation.ChartAnimator;
 import com.github.mikephil.charting.buffer.BarBuffer;
 import com.github.mikephil.charting.data.BarData;
 import com.github.mikephil.charting.data.BarEntry;
+import com.github.mikephil.charting.data.LodPyramid;
 import com.github.mikephil.charting.highlight.Highlight;
 import com.github.mikephil.charting.highlight.Range;
 import com.github.mikephil.charting.interfaces.dataprovider.BarDataProvider;
 import com.github.mikephil.charting.interfaces.datasets.IBarDataSet;
+import com.github.mikephil.charting.interfaces.datasets.ILodDataSet;
 import com.github.mikephil.charting.utils.MPPointF;
 import com.github.mikephil.charting.utils.Transformer;
 import com.github.mikephil.charting.utils.Utils;
@@ -22,7 +24,9 @@ import com.github.mikephil.charting.utils.ViewPortHandler;
 import android.graphics.LinearGradient;
 import com.github.mikephil.charting.model.GradientColor;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Callable;
 
 public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
 
@@ -38,6 +42,22 @@ public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
     protected Paint mShadowPaint;
     protected Paint mBarBorderPaint;
 
+    /**
+     * the first and last entry index to draw of every DataSet, and the level of its LodPyramid
+     * to draw instead (-1 if none), as calculated by prepareDataSet(...)
+     */
+    protected int[] mPreparedFrom;
+    protected int[] mPreparedTo;
+    protected int[] mPreparedLodLevel;
+
+    /**
+     * true if the DataSets drawn right now were already prepared on the preparation executor
+     */
+    private boolean mPrepared = false;
+
+    private PrepareTask[] mPrepareTaskPool;
+    private List<PrepareTask> mPrepareTasks = new ArrayList<>();
+
     public BarChartRenderer(BarDataProvider chart, ChartAnimator animator,
                             ViewPortHandler viewPortHandler) {
         super(animator, viewPortHandler);
@@ -64,9 +84,29 @@ public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
 
         for (int i = 0; i < mBarBuffers.length; i++) {
             IBarDataSet set = barData.getDataSetByIndex(i);
-            mBarBuffers[i] = new BarBuffer(set.getEntryCount() * 4 * (set.isStacked() ? set.getStackSize() : 1),
+            // the buffers only hold the visible bars and grow when feeding them
+            mBarBuffers[i] = new BarBuffer(4 * (set.isStacked() ? set.getStackSize() : 1),
                     barData.getDataSetCount(), set.isStacked());
         }
+
+        initPreparation(barData.getDataSetCount());
+    }
+
+    /**
+     * Allocates the per-DataSet state of prepareDataSet(...) for the given number of DataSets.
+     *
+     * @param dataSetCount
+     */
+    protected void initPreparation(int dataSetCount) {
+
+        mPreparedFrom = new int[dataSetCount];
+        mPreparedTo = new int[dataSetCount];
+        mPreparedLodLevel = new int[dataSetCount];
+
+        mPrepareTaskPool = new PrepareTask[dataSetCount];
+
+        for (int i = 0; i < dataSetCount; i++)
+            mPrepareTaskPool[i] = new PrepareTask();
     }
 
     @Override
@@ -74,14 +114,134 @@ public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
 
         BarData barData = mChart.getBarData();
 
+        mPrepared = mPreparationExecutor != null && prepareDataSets(barData);
+
         for (int i = 0; i < barData.getDataSetCount(); i++) {
 
             IBarDataSet set = barData.getDataSetByIndex(i);
 
             if (set.isVisible()) {
+                long start = startDataSetTiming();
                 drawDataSet(c, set, i);
+                endDataSetTiming(set, start);
+            }
+        }
+
+        mPrepared = false;
+    }
+
+    /**
+     * Prepares all visible DataSets in parallel on the preparation executor. Returns false if
+     * there are less than two visible DataSets, they are then prepared while drawing.
+     *
+     * @param barData
+     * @return
+     */
+    protected boolean prepareDataSets(BarData barData) {
+
+        final float low = mChart.getLowestVisibleX();
+        final float high = mChart.getHighestVisibleX();
+
+        mPrepareTasks.clear();
+
+        for (int i = 0; i < barData.getDataSetCount(); i++) {
+
+            IBarDataSet set = barData.getDataSetByIndex(i);
+
+            if (set.isVisible()) {
+                PrepareTask task = mPrepareTaskPool[i];
+                task.set(set, i, low, high);
+                mPrepareTasks.add(task);
             }
         }
+
+        if (mPrepareTasks.size() < 2) {
+            mPrepareTasks.clear();
+            return false;
+        }
+
+        runPreparation(mPrepareTasks);
+        mPrepareTasks.clear();
+
+        return true;
+    }
+
+    /**
+     * Calculates the range of entries of the given DataSet to draw for the given visible
+     * x-range, feeds them into the buffer of the DataSet and transforms the buffer to pixels.
+     * Only accesses state that belongs to the DataSet, so several DataSets can be prepared at
+     * the same time.
+     *
+     * @param dataSet
+     * @param index   the index of the DataSet
+     * @param bounds  the bounds to use for this DataSet
+     * @param low     the lowest visible x-value
+     * @param high    the highest visible x-value
+     */
+    protected void prepareDataSet(IBarDataSet dataSet, int index, XBounds bounds, float low, float high) {
+
+        // only the visible entries are drawn, plus one on each side for bars that are only
+        // partially visible
+        bounds.set(dataSet, low, high);
+
+        final int from = Math.max(bounds.min - 1, 0);
+        final int to = Math.min(bounds.max + 1, dataSet.getEntryCount() - 1);
+
+        mPreparedFrom[index] = from;
+        mPreparedTo[index] = to;
+
+        // when zoomed out far enough, draw one bar per bucket of the LodPyramid
+        final int lodLevel = canDrawLod(dataSet)
+                ? getLodLevel(dataSet, bounds, mViewPortHandler.contentWidth()) : -1;
+
+        mPreparedLodLevel[index] = lodLevel;
+
+        BarBuffer buffer = mBarBuffers[index];
+
+        if (lodLevel >= 0) {
+            // no values are drawn for the buckets
+            buffer.clear();
+            return;
+        }
+
+        buffer.setPhases(mAnimator.getPhaseX(), mAnimator.getPhaseY());
+        buffer.setDataSet(index);
+        buffer.setInverted(mChart.isInverted(dataSet.getAxisDependency()));
+        buffer.setBarWidth(mChart.getBarData().getBarWidth());
+        buffer.limitFrom(from);
+        buffer.limitTo(to);
+
+        buffer.feed(dataSet);
+
+        mChart.getTransformer(dataSet.getAxisDependency())
+                .pointValuesToPixel(buffer.buffer, buffer.size());
+    }
+
+    /**
+     * Returns true if the given DataSet may be drawn from its LodPyramid when zoomed out.
+     *
+     * @param dataSet
+     * @return
+     */
+    protected boolean canDrawLod(IBarDataSet dataSet) {
+        return !dataSet.isStacked() && dataSet.getGradientColor() == null
+                && dataSet.getGradientColors() == null;
+    }
+
+    /**
+     * Prepares the given DataSet on the drawing thread, unless it was already prepared on the
+     * preparation executor.
+     *
+     * @param dataSet
+     * @param index
+     */
+    protected void ensurePrepared(IBarDataSet dataSet, int index) {
+
+        if (!mPrepared)
+            prepareDataSet(dataSet, index, mXBounds, mChart.getLowestVisibleX(), mChart.getHighestVisibleX());
+
+        if (mRenderStats != null)
+            mRenderStats.addEntriesVisited(mPreparedTo[index] - mPreparedFrom[index] + 1);
     }
 
     private RectF mBarShadowRectBuffer = new RectF();
@@ -96,7 +256,17 @@ public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
         final boolean drawBorder = dataSet.getBarBorderWidth() > 0.f;
 
         float phaseX = mAnimator.getPhaseX();
-        float phaseY = mAnimator.getPhaseY();
+
+        ensurePrepared(dataSet, index);
+
+        final int from = mPreparedFrom[index];
+        final int to = mPreparedTo[index];
+        final int lodLevel = mPreparedLodLevel[index];
+
+        if (lodLevel >= 0) {
+            drawDataSetLod(c, dataSet, trans, lodLevel, from, to, drawBorder);
+            return;
+        }
 
         // draw the bar shadow before the values
         if (mChart.isDrawBarShadowEnabled()) {
@@ -108,8 +278,8 @@ public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
             final float barWidthHalf = barWidth / 2.0f;
             float x;
 
-            for (int i = 0, count = Math.min((int)(Math.ceil((float)(dataSet.getEntryCount()) * phaseX)), dataSet.getEntryCount());
-                i < count;
+            for (int i = from, count = Math.min((int)(Math.ceil((float)(dataSet.getEntryCount()) * phaseX)), dataSet.getEntryCount());
+                i <= to && i < count;
                 i++) {
 
                 BarEntry e = dataSet.getEntryForIndex(i);
@@ -134,16 +304,8 @@ public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
             }
         }
 
-        // initialize the buffer
+        // the buffer already holds the pixel positions of the visible bars
         BarBuffer buffer = mBarBuffers[index];
-        buffer.setPhases(phaseX, phaseY);
-        buffer.setDataSet(index);
-        buffer.setInverted(mChart.isInverted(dataSet.getAxisDependency()));
-        buffer.setBarWidth(mChart.getBarData().getBarWidth());
-
-        buffer.feed(dataSet);
-
-        trans.pointValuesToPixel(buffer.buffer);
 
         final boolean isSingleColor = dataSet.getColors().size() == 1;
 
@@ -162,7 +324,7 @@ public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
             if (!isSingleColor) {
                 // Set the color for the currently drawn value. If the index
                 // is out of bounds, reuse colors.
-                mRenderPaint.setColor(dataSet.getColor(j / 4));
+                mRenderPaint.setColor(dataSet.getColor(buffer.getFirstBarIndex() + j / 4));
             }
 
             if (dataSet.getGradientColor() != null) {
@@ -185,8 +347,8 @@ public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
                         buffer.buffer[j + 3],
                         buffer.buffer[j],
                         buffer.buffer[j + 1],
-                        dataSet.getGradientColor(j / 4).getStartColor(),
-                        dataSet.getGradientColor(j / 4).getEndColor(),
+                        dataSet.getGradientColor(buffer.getFirstBarIndex() + j / 4).getStartColor(),
+                        dataSet.getGradientColor(buffer.getFirstBarIndex() + j / 4).getEndColor(),
                         android.graphics.Shader.TileMode.MIRROR));
             }
 
@@ -194,6 +356,9 @@ public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
             c.drawRect(buffer.buffer[j], buffer.buffer[j + 1], buffer.buffer[j + 2],
                     buffer.buffer[j + 3], mRenderPaint);
 
+            if (mRenderStats != null)
+                mRenderStats.addSegmentsDrawn(1);
+
             if (drawBorder) {
                 c.drawRect(buffer.buffer[j], buffer.buffer[j + 1], buffer.buffer[j + 2],
                         buffer.buffer[j + 3], mBarBorderPaint);
@@ -201,6 +366,81 @@ public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
         }
     }
 
+    private RectF mLodRectBuffer = new RectF();
+
+    /**
+     * Draws one bar for every bucket of the given level of the LodPyramid of the DataSet
+     * between the entry indices from and to. A bar covers all bars of its bucket, from the
+     * leftmost to the rightmost bar and from the lowest to the highest value.
+     *
+     * @param c
+     * @param dataSet
+     * @param trans
+     * @param level
+     * @param from
+     * @param to
+     * @param drawBorder
+     */
+    protected void drawDataSetLod(Canvas c, IBarDataSet dataSet, Transformer trans, int level,
+                                  int from, int to, boolean drawBorder) {
+
+        final LodPyramid lod = ((ILodDataSet) dataSet).getLodPyramid();
+
+        final float barWidthHalf = mChart.getBarData().getBarWidth() / 2f;
+        final float phaseY = mAnimator.getPhaseY();
+
+        // entries beyond this are not drawn yet while animating
+        to = Math.min(to, (int) Math.ceil(dataSet.getEntryCount() * mAnimator.getPhaseX()) - 1);
+
+        final boolean drawShadow = mChart.isDrawBarShadowEnabled();
+        final boolean isSingleColor = dataSet.getColors().size() == 1;
+
+        mShadowPaint.setColor(dataSet.getBarShadowColor());
+        mRenderPaint.setColor(dataSet.getColor());
+
+        int drawn = 0;
+
+        for (int bucket = lod.getBucket(level, from), last = lod.getBucket(level, to); bucket <= last; bucket++) {
+
+            final int firstIndex = Math.max(lod.getFirstIndex(level, bucket), from);
+            final int lastIndex = Math.min(lod.getLastIndex(level, bucket), to);
+
+            // empty, or all values are NaN
+            if (firstIndex > lastIndex || lod.getMinIndex(level, bucket) < 0)
+                continue;
+
+            mLodRectBuffer.left = dataSet.getEntryForIndex(firstIndex).getX() - barWidthHalf;
+            mLodRectBuffer.right = dataSet.getEntryForIndex(lastIndex).getX() + barWidthHalf;
+            mLodRectBuffer.top = Math.max(lod.getMax(level, bucket), 0f) * phaseY;
+            mLodRectBuffer.bottom = Math.min(lod.getMin(level, bucket), 0f) * phaseY;
+
+            trans.rectValueToPixel(mLodRectBuffer);
+
+            if (!mViewPortHandler.isInBoundsLeft(mLodRectBuffer.right))
+                continue;
+
+            if (!mViewPortHandler.isInBoundsRight(mLodRectBuffer.left))
+                break;
+
+            if (drawShadow) {
+                c.drawRect(mLodRectBuffer.left, mViewPortHandler.contentTop(),
+                        mLodRectBuffer.right, mViewPortHandler.contentBottom(), mShadowPaint);
+            }
+
+            if (!isSingleColor)
+                mRenderPaint.setColor(dataSet.getColor(firstIndex));
+
+            c.drawRect(mLodRectBuffer, mRenderPaint);
+            drawn++;
+
+            if (drawBorder)
+                c.drawRect(mLodRectBuffer, mBarBorderPaint);
+        }
+
+        if (mRenderStats != null)
+            mRenderStats.addSegmentsDrawn(drawn);
+    }
+
     protected void prepareBarHighlight(float x, float y1, float y2, float barWidthHalf, Transformer trans) {
 
         float left = x - barWidthHalf;
@@ -261,7 +501,7 @@ public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
                 // if only single values are drawn (sum)
                 if (!dataSet.isStacked()) {
 
-                    for (int j = 0; j < buffer.buffer.length * mAnimator.getPhaseX(); j += 4) {
+                    for (int j = 0; j < buffer.size(); j += 4) {
 
                         float x = (buffer.buffer[j] + buffer.buffer[j + 2]) / 2f;
 
@@ -272,7 +512,8 @@ public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
                                 || !mViewPortHandler.isInBoundsLeft(x))
                             continue;
 
-                        BarEntry entry = dataSet.getEntryForIndex(j / 4);
+                        final int entryIndex = buffer.getFirstEntryIndex() + j / 4;
+                        BarEntry entry = dataSet.getEntryForIndex(entryIndex);
                         float val = entry.getY();
 
                         if (dataSet.isDrawValuesEnabled()) {
@@ -280,7 +521,7 @@ public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
                                     val >= 0 ?
                                             (buffer.buffer[j + 1] + posOffset) :
                                             (buffer.buffer[j + 3] + negOffset),
-                                    dataSet.getValueTextColor(j / 4));
+                                    dataSet.getValueTextColor(entryIndex));
                         }
 
                         if (entry.getIcon() != null && dataSet.isDrawIconsEnabled()) {
@@ -311,9 +552,9 @@ public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
                     Transformer trans = mChart.getTransformer(dataSet.getAxisDependency());
 
                     int bufferIndex = 0;
-                    int index = 0;
+                    int index = buffer.getFirstEntryIndex();
 
-                    while (index < dataSet.getEntryCount() * mAnimator.getPhaseX()) {
+                    while (index <= buffer.getLastEntryIndex()) {
 
                         BarEntry entry = dataSet.getEntryForIndex(index);
 
@@ -508,4 +749,29 @@ public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
     @Override
     public void drawExtras(Canvas c) {
     }
+
+    /**
+     * Task that prepares one DataSet, with its own bounds so that tasks can run in parallel.
+     */
+    private class PrepareTask implements Callable<Void> {
+
+        private final XBounds mBounds = new XBounds();
+
+        private IBarDataSet mDataSet;
+        private int mIndex;
+        private float mLow, mHigh;
+
+        void set(IBarDataSet dataSet, int index, float low, float high) {
+            mDataSet = dataSet;
+            mIndex = index;
+            mLow = low;
+            mHigh = high;
+        }
+
+        @Override
+        public Void call() {
+            prepareDataSet(mDataSet, mIndex, mBounds, mLow, mHigh);
+            return null;
+        }
+    }
 }
@@ -3,9 +3,11 @@ package com.github.mikephil.charting.renderer;
 import com.github.mikephil.charting.animation.ChartAnimator;
 import com.github.mikephil.charting.data.DataSet;
 import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.data.LodPyramid;
 import com.github.mikephil.charting.interfaces.dataprovider.BarLineScatterCandleBubbleDataProvider;
 import com.github.mikephil.charting.interfaces.datasets.IBarLineScatterCandleBubbleDataSet;
 import com.github.mikephil.charting.interfaces.datasets.IDataSet;
+import com.github.mikephil.charting.interfaces.datasets.ILodDataSet;
 import com.github.mikephil.charting.utils.ViewPortHandler;
 
 /**
@@ -32,6 +34,40 @@ public abstract class BarLineScatterCandleBubbleRenderer extends DataRenderer {
         return set.isVisible() && (set.isDrawValuesEnabled() || set.isDrawIconsEnabled());
     }
 
+    /**
+     * Returns the level of the LodPyramid of the given DataSet whose buckets should be drawn
+     * instead of the entries within the current XBounds, -1 if the entries should be drawn.
+     *
+     * @param set
+     * @param pixels the number of pixels the entries are drawn onto
+     * @return
+     */
+    protected int getLodLevel(IDataSet set, float pixels) {
+        return getLodLevel(set, mXBounds, pixels);
+    }
+
+    /**
+     * Returns the level of the LodPyramid of the given DataSet whose buckets should be drawn
+     * instead of the entries within the given bounds, -1 if the entries should be drawn.
+     *
+     * @param set
+     * @param bounds
+     * @param pixels the number of pixels the entries are drawn onto
+     * @return
+     */
+    protected int getLodLevel(IDataSet set, XBounds bounds, float pixels) {
+
+        if (!(set instanceof ILodDataSet) || pixels <= 0f)
+            return -1;
+
+        LodPyramid lod = ((ILodDataSet) set).getLodPyramid();
+
+        if (lod == null)
+            return -1;
+
+        return lod.getLevel((bounds.range + 1) / pixels);
+    }
+
     /**
      * Checks if the provided entry object is in bounds for drawing considering the current animation phase.
      *
@@ -80,16 +116,31 @@ public abstract class BarLineScatterCandleBubbleRenderer extends DataRenderer {
          * @param dataSet
          */
         public void set(BarLineScatterCandleBubbleDataProvider chart, IBarLineScatterCandleBubbleDataSet dataSet) {
-            float phaseX = Math.max(0.f, Math.min(1.f, mAnimator.getPhaseX()));
 
-            float low = chart.getLowestVisibleX();
-            float high = chart.getHighestVisibleX();
+            set(dataSet, chart.getLowestVisibleX(), chart.getHighestVisibleX());
+
+            if (mRenderStats != null)
+                mRenderStats.addEntriesVisited(range + 1);
+        }
+
+        /**
+         * Calculates the bounds for the given visible x-range. Unlike set(chart, dataSet), this
+         * does not access the chart or record RenderStats, and can be called from a background
+         * thread.
+         *
+         * @param dataSet
+         * @param low     the lowest visible x-value
+         * @param high    the highest visible x-value
+         */
+        public void set(IBarLineScatterCandleBubbleDataSet dataSet, float low, float high) {
+            float phaseX = Math.max(0.f, Math.min(1.f, mAnimator.getPhaseX()));
 
-            Entry entryFrom = dataSet.getEntryForXValue(low, Float.NaN, DataSet.Rounding.DOWN);
-            Entry entryTo = dataSet.getEntryForXValue(high, Float.NaN, DataSet.Rounding.UP);
+            // look up the indices directly, this avoids the linear search of getEntryIndex(Entry)
+            int indexFrom = dataSet.getEntryIndex(low, Float.NaN, DataSet.Rounding.DOWN);
+            int indexTo = dataSet.getEntryIndex(high, Float.NaN, DataSet.Rounding.UP);
 
-            min = entryFrom == null ? 0 : dataSet.getEntryIndex(entryFrom);
-            max = entryTo == null ? 0 : dataSet.getEntryIndex(entryTo);
+            min = indexFrom < 0 ? 0 : indexFrom;
+            max = indexTo < 0 ? 0 : indexTo;
             range = (int) ((max - min) * phaseX);
         }
     }
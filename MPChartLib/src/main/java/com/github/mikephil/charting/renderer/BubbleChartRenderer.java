@@ -50,8 +50,11 @@ public class BubbleChartRenderer extends BarLineScatterCandleBubbleRenderer {
 
         for (IBubbleDataSet set : bubbleData.getDataSets()) {
 
-            if (set.isVisible())
+            if (set.isVisible()) {
+                long start = startDataSetTiming();
                 drawDataSet(c, set);
+                endDataSetTiming(set, start);
+            }
         }
     }
 
@@ -109,6 +112,9 @@ public class BubbleChartRenderer extends BarLineScatterCandleBubbleRenderer {
 
             mRenderPaint.setColor(color);
             c.drawCircle(pointBuffer[0], pointBuffer[1], shapeHalf, mRenderPaint);
+
+            if (mRenderStats != null)
+                mRenderStats.addSegmentsDrawn(1);
         }
     }
 
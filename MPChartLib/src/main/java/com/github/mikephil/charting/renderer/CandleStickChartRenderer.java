@@ -8,9 +8,11 @@ import android.graphics.drawable.Drawable;
 import com.github.mikephil.charting.animation.ChartAnimator;
 import com.github.mikephil.charting.data.CandleData;
 import com.github.mikephil.charting.data.CandleEntry;
+import com.github.mikephil.charting.data.LodPyramid;
 import com.github.mikephil.charting.highlight.Highlight;
 import com.github.mikephil.charting.interfaces.dataprovider.CandleDataProvider;
 import com.github.mikephil.charting.interfaces.datasets.ICandleDataSet;
+import com.github.mikephil.charting.interfaces.datasets.ILodDataSet;
 import com.github.mikephil.charting.utils.ColorTemplate;
 import com.github.mikephil.charting.utils.MPPointD;
 import com.github.mikephil.charting.utils.MPPointF;
@@ -48,8 +50,11 @@ public class CandleStickChartRenderer extends LineScatterCandleRadarRenderer {
 
         for (ICandleDataSet set : candleData.getDataSets()) {
 
-            if (set.isVisible())
+            if (set.isVisible()) {
+                long start = startDataSetTiming();
                 drawDataSet(c, set);
+                endDataSetTiming(set, start);
+            }
         }
     }
 
@@ -66,6 +71,14 @@ public class CandleStickChartRenderer extends LineScatterCandleRadarRenderer {
 
         mRenderPaint.setStrokeWidth(dataSet.getShadowWidth());
 
+        // when zoomed out far enough, draw one range per bucket of the LodPyramid
+        final int lodLevel = getLodLevel(dataSet, mViewPortHandler.contentWidth());
+
+        if (lodLevel >= 0) {
+            drawDataSetLod(c, dataSet, trans, lodLevel);
+            return;
+        }
+
         // draw the body
         for (int j = mXBounds.min; j <= mXBounds.range + mXBounds.min; j++) {
 
@@ -250,6 +263,73 @@ public class CandleStickChartRenderer extends LineScatterCandleRadarRenderer {
                         mRenderPaint);
             }
         }
+
+        if (mRenderStats != null)
+            mRenderStats.addSegmentsDrawn(mXBounds.range + 1);
+    }
+
+    /**
+     * buffer for the lines drawn from the LodPyramid
+     */
+    private float[] mLodBuffer = new float[64];
+
+    /**
+     * Draws one vertical line from the lowest low to the highest high for every bucket of the
+     * given level of the LodPyramid within the current XBounds.
+     *
+     * @param c
+     * @param dataSet
+     * @param trans
+     * @param level
+     */
+    protected void drawDataSetLod(Canvas c, ICandleDataSet dataSet, Transformer trans, int level) {
+
+        final LodPyramid lod = ((ILodDataSet) dataSet).getLodPyramid();
+        final float phaseY = mAnimator.getPhaseY();
+
+        final int from = mXBounds.min;
+        final int to = mXBounds.min + mXBounds.range;
+
+        final int firstBucket = lod.getBucket(level, from);
+        final int lastBucket = lod.getBucket(level, to);
+
+        if (mLodBuffer.length < (lastBucket - firstBucket + 1) * 4)
+            mLodBuffer = new float[(lastBucket - firstBucket + 1) * 4];
+
+        int j = 0;
+
+        for (int bucket = firstBucket; bucket <= lastBucket; bucket++) {
+
+            final int firstIndex = Math.max(lod.getFirstIndex(level, bucket), from);
+            final int lastIndex = Math.min(lod.getLastIndex(level, bucket), to);
+
+            // empty, or all values are NaN
+            if (firstIndex > lastIndex || lod.getMinIndex(level, bucket) < 0)
+                continue;
+
+            final float x = (dataSet.getEntryForIndex(firstIndex).getX()
+                    + dataSet.getEntryForIndex(lastIndex).getX()) / 2f;
+
+            mLodBuffer[j++] = x;
+            mLodBuffer[j++] = lod.getMax(level, bucket) * phaseY;
+            mLodBuffer[j++] = x;
+            mLodBuffer[j++] = lod.getMin(level, bucket) * phaseY;
+        }
+
+        if (j == 0)
+            return;
+
+        trans.pointValuesToPixel(mLodBuffer, j);
+
+        mRenderPaint.setStyle(Paint.Style.STROKE);
+        mRenderPaint.setColor(dataSet.getShadowColor() == ColorTemplate.COLOR_NONE
+                ? dataSet.getColor()
+                : dataSet.getShadowColor());
+
+        c.drawLines(mLodBuffer, 0, j, mRenderPaint);
+
+        if (mRenderStats != null)
+            mRenderStats.addSegmentsDrawn(j / 4);
     }
 
     @Override
@@ -10,11 +10,13 @@ import com.github.mikephil.charting.data.ChartData;
 import com.github.mikephil.charting.data.CombinedData;
 import com.github.mikephil.charting.highlight.Highlight;
 import com.github.mikephil.charting.interfaces.dataprovider.BarLineScatterCandleBubbleDataProvider;
+import com.github.mikephil.charting.utils.RenderStats;
 import com.github.mikephil.charting.utils.ViewPortHandler;
 
 import java.lang.ref.WeakReference;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 
 /**
  * Renderer class that is responsible for rendering multiple different data-types.
@@ -73,6 +75,25 @@ public class CombinedChartRenderer extends DataRenderer {
                     break;
             }
         }
+
+        for (DataRenderer renderer : mRenderers)
+            renderer.setPreparationExecutor(mPreparationExecutor);
+    }
+
+    @Override
+    public void setRenderStats(RenderStats stats) {
+        super.setRenderStats(stats);
+
+        for (DataRenderer renderer : mRenderers)
+            renderer.setRenderStats(stats);
+    }
+
+    @Override
+    public void setPreparationExecutor(ExecutorService executor) {
+        super.setPreparationExecutor(executor);
+
+        for (DataRenderer renderer : mRenderers)
+            renderer.setPreparationExecutor(executor);
     }
 
     @Override
@@ -10,6 +10,7 @@ import android.graphics.drawable.Drawable;
 
 import com.github.mikephil.charting.animation.ChartAnimator;
 import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.formatter.ICharValueFormatter;
 import com.github.mikephil.charting.formatter.IValueFormatter;
 import com.github.mikephil.charting.highlight.Highlight;
 import com.github.mikephil.charting.interfaces.dataprovider.ChartInterface;
@@ -18,6 +19,15 @@ import com.github.mikephil.charting.utils.MPPointF;
 import com.github.mikephil.charting.utils.Utils;
 import com.github.mikephil.charting.utils.ViewPortHandler;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+
 /**
  * Superclass of all render classes for the different data types (line, bar, ...).
  *
@@ -48,6 +58,17 @@ public abstract class DataRenderer extends Renderer {
      */
     protected Paint mValuePaint;
 
+    /**
+     * buffer the labels of ICharValueFormatters are written to
+     */
+    protected char[] mValueChars = new char[64];
+
+    /**
+     * executor the render geometry of several DataSets is prepared on in parallel, null if
+     * everything is done on the drawing thread
+     */
+    protected ExecutorService mPreparationExecutor;
+
     public DataRenderer(ChartAnimator animator, ViewPortHandler viewPortHandler) {
         super(viewPortHandler);
         this.mAnimator = animator;
@@ -114,6 +135,77 @@ public abstract class DataRenderer extends Renderer {
         mValuePaint.setTextSize(set.getValueTextSize());
     }
 
+    /**
+     * Sets the executor the render geometry (visible range, buffers, pixel positions) of the
+     * DataSets is prepared on before drawing, one task per DataSet. The drawing thread waits
+     * for all tasks and then only issues the draw calls. Set null (the default) to prepare
+     * everything on the drawing thread. Renderers that do not support parallel preparation
+     * ignore this.
+     *
+     * @param executor
+     */
+    public void setPreparationExecutor(ExecutorService executor) {
+        mPreparationExecutor = executor;
+    }
+
+    public ExecutorService getPreparationExecutor() {
+        return mPreparationExecutor;
+    }
+
+    /**
+     * Runs the given tasks on the preparation executor and waits until all of them are done.
+     * Every task is run exactly once. If the drawing thread is interrupted while waiting, it
+     * keeps waiting for the tasks that are already running, because they write into buffers
+     * the drawing thread reads afterwards, and restores the interrupt flag when they are done.
+     *
+     * @param tasks
+     */
+    protected void runPreparation(List<? extends Callable<Void>> tasks) {
+
+        final List<Future<Void>> futures = new ArrayList<>(tasks.size());
+
+        for (int i = 0; i < tasks.size(); i++) {
+            try {
+                futures.add(mPreparationExecutor.submit(tasks.get(i)));
+            } catch (RejectedExecutionException e) {
+                // e.g. the executor was shut down, the task was not started anywhere else
+                FutureTask<Void> task = new FutureTask<>(tasks.get(i));
+                task.run();
+                futures.add(task);
+            }
+        }
+
+        boolean interrupted = false;
+        Throwable failure = null;
+
+        for (int i = 0; i < futures.size(); i++) {
+
+            while (true) {
+                try {
+                    futures.get(i).get();
+                    break;
+                } catch (InterruptedException e) {
+                    // the task may still be writing, wait for it regardless
+                    interrupted = true;
+                } catch (ExecutionException e) {
+                    if (failure == null)
+                        failure = e.getCause();
+                    break;
+                }
+            }
+        }
+
+        if (interrupted)
+            Thread.currentThread().interrupt();
+
+        if (failure instanceof RuntimeException)
+            throw (RuntimeException) failure;
+        if (failure instanceof Error)
+            throw (Error) failure;
+        if (failure != null)
+            throw new RuntimeException(failure);
+    }
+
     /**
      * Initializes the buffers used for rendering with a new size. Since this
      * method performs memory allocations, it should only be called if
@@ -149,7 +241,39 @@ public abstract class DataRenderer extends Renderer {
      */
     public void drawValue(Canvas c, IValueFormatter formatter, float value, Entry entry, int dataSetIndex, float x, float y, int color) {
         mValuePaint.setColor(color);
-        c.drawText(formatter.getFormattedValue(value, entry, dataSetIndex, mViewPortHandler), x, y, mValuePaint);
+
+        if (formatter instanceof ICharValueFormatter) {
+            int length = ((ICharValueFormatter) formatter).getFormattedValue(
+                    value, entry, dataSetIndex, mViewPortHandler, mValueChars);
+            c.drawText(mValueChars, 0, length, x, y, mValuePaint);
+        } else {
+            c.drawText(formatter.getFormattedValue(value, entry, dataSetIndex, mViewPortHandler), x, y, mValuePaint);
+        }
+
+        if (mRenderStats != null)
+            mRenderStats.addTextDraws(1);
+    }
+
+    /**
+     * Returns the start time for measuring how long drawing a DataSet takes, 0 if no
+     * RenderStats are recorded.
+     *
+     * @return
+     */
+    protected long startDataSetTiming() {
+        return mRenderStats != null ? System.nanoTime() : 0;
+    }
+
+    /**
+     * Records the time since the given start time for the given DataSet, if RenderStats are
+     * recorded.
+     *
+     * @param set
+     * @param start
+     */
+    protected void endDataSetTiming(IDataSet set, long start) {
+        if (mRenderStats != null)
+            mRenderStats.addDataSetNanos(set, System.nanoTime() - start);
     }
 
     /**
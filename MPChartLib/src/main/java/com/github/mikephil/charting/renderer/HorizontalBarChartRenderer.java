@@ -45,9 +45,20 @@ public class HorizontalBarChartRenderer extends BarChartRenderer {
 
         for (int i = 0; i < mBarBuffers.length; i++) {
             IBarDataSet set = barData.getDataSetByIndex(i);
-            mBarBuffers[i] = new HorizontalBarBuffer(set.getEntryCount() * 4 * (set.isStacked() ? set.getStackSize() : 1),
+            // the buffers only hold the visible bars and grow when feeding them
+            mBarBuffers[i] = new HorizontalBarBuffer(4 * (set.isStacked() ? set.getStackSize() : 1),
                     barData.getDataSetCount(), set.isStacked());
         }
+
+        initPreparation(barData.getDataSetCount());
+    }
+
+    /**
+     * HorizontalBarCharts are never drawn from the LodPyramid.
+     */
+    @Override
+    protected boolean canDrawLod(IBarDataSet dataSet) {
+        return false;
     }
 
     private RectF mBarShadowRectBuffer = new RectF();
@@ -63,7 +74,11 @@ public class HorizontalBarChartRenderer extends BarChartRenderer {
         final boolean drawBorder = dataSet.getBarBorderWidth() > 0.f;
 
         float phaseX = mAnimator.getPhaseX();
-        float phaseY = mAnimator.getPhaseY();
+
+        ensurePrepared(dataSet, index);
+
+        final int from = mPreparedFrom[index];
+        final int to = mPreparedTo[index];
 
         // draw the bar shadow before the values
         if (mChart.isDrawBarShadowEnabled()) {
@@ -75,8 +90,8 @@ public class HorizontalBarChartRenderer extends BarChartRenderer {
             final float barWidthHalf = barWidth / 2.0f;
             float x;
 
-            for (int i = 0, count = Math.min((int)(Math.ceil((float)(dataSet.getEntryCount()) * phaseX)), dataSet.getEntryCount());
-                 i < count;
+            for (int i = from, count = Math.min((int)(Math.ceil((float)(dataSet.getEntryCount()) * phaseX)), dataSet.getEntryCount());
+                 i <= to && i < count;
                  i++) {
 
                 BarEntry e = dataSet.getEntryForIndex(i);
@@ -101,16 +116,8 @@ public class HorizontalBarChartRenderer extends BarChartRenderer {
             }
         }
 
-        // initialize the buffer
+        // the buffer already holds the pixel positions of the visible bars
         BarBuffer buffer = mBarBuffers[index];
-        buffer.setPhases(phaseX, phaseY);
-        buffer.setDataSet(index);
-        buffer.setInverted(mChart.isInverted(dataSet.getAxisDependency()));
-        buffer.setBarWidth(mChart.getBarData().getBarWidth());
-
-        buffer.feed(dataSet);
-
-        trans.pointValuesToPixel(buffer.buffer);
 
         final boolean isSingleColor = dataSet.getColors().size() == 1;
 
@@ -129,12 +136,15 @@ public class HorizontalBarChartRenderer extends BarChartRenderer {
             if (!isSingleColor) {
                 // Set the color for the currently drawn value. If the index
                 // is out of bounds, reuse colors.
-                mRenderPaint.setColor(dataSet.getColor(j / 4));
+                mRenderPaint.setColor(dataSet.getColor(buffer.getFirstBarIndex() + j / 4));
             }
 
             c.drawRect(buffer.buffer[j], buffer.buffer[j + 1], buffer.buffer[j + 2],
                     buffer.buffer[j + 3], mRenderPaint);
 
+            if (mRenderStats != null)
+                mRenderStats.addSegmentsDrawn(1);
+
             if (drawBorder) {
                 c.drawRect(buffer.buffer[j], buffer.buffer[j + 1], buffer.buffer[j + 2],
                         buffer.buffer[j + 3], mBarBorderPaint);
@@ -181,7 +191,7 @@ public class HorizontalBarChartRenderer extends BarChartRenderer {
                 // if only single values are drawn (sum)
                 if (!dataSet.isStacked()) {
 
-                    for (int j = 0; j < buffer.buffer.length * mAnimator.getPhaseX(); j += 4) {
+                    for (int j = 0; j < buffer.size(); j += 4) {
 
                         float y = (buffer.buffer[j + 1] + buffer.buffer[j + 3]) / 2f;
 
@@ -194,7 +204,8 @@ public class HorizontalBarChartRenderer extends BarChartRenderer {
                         if (!mViewPortHandler.isInBoundsBottom(buffer.buffer[j + 1]))
                             continue;
 
-                        BarEntry entry = dataSet.getEntryForIndex(j / 4);
+                        final int entryIndex = buffer.getFirstEntryIndex() + j / 4;
+                        BarEntry entry = dataSet.getEntryForIndex(entryIndex);
                         float val = entry.getY();
                         String formattedValue = formatter.getFormattedValue(val, entry, i, mViewPortHandler);
 
@@ -213,7 +224,7 @@ public class HorizontalBarChartRenderer extends BarChartRenderer {
                                     formattedValue,
                                     buffer.buffer[j + 2] + (val >= 0 ? posOffset : negOffset),
                                     y + halfTextHeight,
-                                    dataSet.getValueTextColor(j / 2));
+                                    dataSet.getValueTextColor(entryIndex));
                         }
 
                         if (entry.getIcon() != null && dataSet.isDrawIconsEnabled()) {
@@ -242,9 +253,9 @@ public class HorizontalBarChartRenderer extends BarChartRenderer {
                     Transformer trans = mChart.getTransformer(dataSet.getAxisDependency());
 
                     int bufferIndex = 0;
-                    int index = 0;
+                    int index = buffer.getFirstEntryIndex();
 
-                    while (index < dataSet.getEntryCount() * mAnimator.getPhaseX()) {
+                    while (index <= buffer.getLastEntryIndex()) {
 
                         BarEntry entry = dataSet.getEntryForIndex(index);
 
@@ -399,6 +410,9 @@ public class HorizontalBarChartRenderer extends BarChartRenderer {
     protected void drawValue(Canvas c, String valueText, float x, float y, int color) {
         mValuePaint.setColor(color);
         c.drawText(valueText, x, y, mValuePaint);
+
+        if (mRenderStats != null)
+            mRenderStats.addTextDraws(1);
     }
 
     @Override
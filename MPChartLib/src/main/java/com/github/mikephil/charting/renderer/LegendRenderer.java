@@ -75,149 +75,275 @@ public class LegendRenderer extends Renderer {
 
     protected List<LegendEntry> computedEntries = new ArrayList<>(16);
 
+    /**
+     * the LegendEntry objects created by computeLegend(...), reused by the next computation
+     */
+    protected List<LegendEntry> mReusableEntries = new ArrayList<>(16);
+
+    // the number of computed entries, the extra entries and the entries the legend held after
+    // the last computation
+    private int mLastComputedCount = -1;
+    private LegendEntry[] mLastExtraEntries;
+    private LegendEntry[] mLastEntries;
+
     /**
      * Prepares the legend and calculates all needed forms, labels and colors.
      *
      * @param data
      */
     public void computeLegend(ChartData<?> data) {
+        computeLegend(data, null);
+    }
+
+    /**
+     * Prepares the legend like computeLegend(data), but takes the entries of the DataSets from
+     * the given list if it is not null. The list must have been created by
+     * prepareLegendEntries(...) for the same data.
+     *
+     * @param data
+     * @param preparedEntries
+     */
+    public void computeLegend(ChartData<?> data, List<LegendEntry> preparedEntries) {
 
         if (!mLegend.isLegendCustom()) {
 
             computedEntries.clear();
 
-            // loop for building up the colors and labels used in the legend
-            for (int i = 0; i < data.getDataSetCount(); i++) {
+            boolean entriesChanged;
 
-                IDataSet dataSet = data.getDataSetByIndex(i);
+            if (preparedEntries != null) {
 
-                List<Integer> clrs = dataSet.getColors();
-                int entryCount = dataSet.getEntryCount();
+                computedEntries.addAll(preparedEntries);
 
-                // if we have a barchart with stacked bars
-                if (dataSet instanceof IBarDataSet && ((IBarDataSet) dataSet).isStacked()) {
+                mReusableEntries.clear();
+                mReusableEntries.addAll(preparedEntries);
 
-                    IBarDataSet bds = (IBarDataSet) dataSet;
-                    String[] sLabels = bds.getStackLabels();
+                entriesChanged = true;
+            } else {
+                entriesChanged = collectEntries(data, computedEntries, mReusableEntries);
+            }
 
-                    for (int j = 0; j < clrs.size() && j < bds.getStackSize(); j++) {
+            if (computedEntries.size() != mLastComputedCount)
+                entriesChanged = true;
 
-                        computedEntries.add(new LegendEntry(
-                                sLabels[j % sLabels.length],
-                                dataSet.getForm(),
-                                dataSet.getFormSize(),
-                                dataSet.getFormLineWidth(),
-                                dataSet.getFormLineDashEffect(),
-                                clrs.get(j)
-                        ));
-                    }
+            mLastComputedCount = computedEntries.size();
 
-                    if (bds.getLabel() != null) {
-                        // add the legend description label
-                        computedEntries.add(new LegendEntry(
-                                dataSet.getLabel(),
-                                Legend.LegendForm.NONE,
-                                Float.NaN,
-                                Float.NaN,
-                                null,
-                                ColorTemplate.COLOR_NONE
-                        ));
-                    }
+            LegendEntry[] extraEntries = mLegend.getExtraEntries();
 
-                } else if (dataSet instanceof IPieDataSet) {
+            if (extraEntries != null) {
+                Collections.addAll(computedEntries, extraEntries);
+            }
 
-                    IPieDataSet pds = (IPieDataSet) dataSet;
+            // the legend only has to be laid out again if an entry actually changed
+            if (entriesChanged || extraEntries != mLastExtraEntries
+                    || mLegend.getEntries() != mLastEntries) {
+                mLegend.setEntries(computedEntries);
+                mLastExtraEntries = extraEntries;
+                mLastEntries = mLegend.getEntries();
+            }
+        }
 
-                    for (int j = 0; j < clrs.size() && j < entryCount; j++) {
+        Typeface tf = mLegend.getTypeface();
 
-                        computedEntries.add(new LegendEntry(
-                                pds.getEntryForIndex(j).getLabel(),
-                                dataSet.getForm(),
-                                dataSet.getFormSize(),
-                                dataSet.getFormLineWidth(),
-                                dataSet.getFormLineDashEffect(),
-                                clrs.get(j)
-                        ));
-                    }
+        if (tf != null)
+            mLegendLabelPaint.setTypeface(tf);
 
-                    if (pds.getLabel() != null) {
-                        // add the legend description label
-                        computedEntries.add(new LegendEntry(
-                                dataSet.getLabel(),
-                                Legend.LegendForm.NONE,
-                                Float.NaN,
-                                Float.NaN,
-                                null,
-                                ColorTemplate.COLOR_NONE
-                        ));
-                    }
+        mLegendLabelPaint.setTextSize(mLegend.getTextSize());
+        mLegendLabelPaint.setColor(mLegend.getTextColor());
+
+        // calculate all dimensions of the mLegend
+        mLegend.calculateDimensions(mLegendLabelPaint, mViewPortHandler);
+    }
+
+    /**
+     * Creates the legend entries of the DataSets of the given data. Neither reuses nor changes
+     * any state of this renderer, so that it can be called from a background thread while the
+     * data is not attached to a chart. The result can be passed to computeLegend(...).
+     *
+     * @param data
+     * @return
+     */
+    public List<LegendEntry> prepareLegendEntries(ChartData<?> data) {
+
+        List<LegendEntry> entries = new ArrayList<>(16);
+        collectEntries(data, entries, null);
+
+        return entries;
+    }
+
+    /**
+     * Adds the entries of all DataSets of the given data to the given list. Returns true if an
+     * entry differs from the one at the same position of the reusable entries.
+     */
+    private boolean collectEntries(ChartData<?> data, List<LegendEntry> entries,
+                                   List<LegendEntry> reusableEntries) {
+
+        boolean changed = false;
+
+        // loop for building up the colors and labels used in the legend
+        for (int i = 0; i < data.getDataSetCount(); i++) {
 
-                } else if (dataSet instanceof ICandleDataSet && ((ICandleDataSet) dataSet).getDecreasingColor() !=
-                        ColorTemplate.COLOR_NONE) {
+            IDataSet dataSet = data.getDataSetByIndex(i);
 
-                    int decreasingColor = ((ICandleDataSet) dataSet).getDecreasingColor();
-                    int increasingColor = ((ICandleDataSet) dataSet).getIncreasingColor();
+            List<Integer> clrs = dataSet.getColors();
+            int entryCount = dataSet.getEntryCount();
 
-                    computedEntries.add(new LegendEntry(
+            // if we have a barchart with stacked bars
+            if (dataSet instanceof IBarDataSet && ((IBarDataSet) dataSet).isStacked()) {
+
+                IBarDataSet bds = (IBarDataSet) dataSet;
+                String[] sLabels = bds.getStackLabels();
+
+                for (int j = 0; j < clrs.size() && j < bds.getStackSize(); j++) {
+
+                    changed |= addEntry(entries, reusableEntries,
+                            sLabels[j % sLabels.length],
+                            dataSet.getForm(),
+                            dataSet.getFormSize(),
+                            dataSet.getFormLineWidth(),
+                            dataSet.getFormLineDashEffect(),
+                            clrs.get(j)
+                    );
+                }
+
+                if (bds.getLabel() != null) {
+                    // add the legend description label
+                    changed |= addEntry(entries, reusableEntries,
+                            dataSet.getLabel(),
+                            Legend.LegendForm.NONE,
+                            Float.NaN,
+                            Float.NaN,
                             null,
+                            ColorTemplate.COLOR_NONE
+                    );
+                }
+
+            } else if (dataSet instanceof IPieDataSet) {
+
+                IPieDataSet pds = (IPieDataSet) dataSet;
+
+                for (int j = 0; j < clrs.size() && j < entryCount; j++) {
+
+                    changed |= addEntry(entries, reusableEntries,
+                            pds.getEntryForIndex(j).getLabel(),
                             dataSet.getForm(),
                             dataSet.getFormSize(),
                             dataSet.getFormLineWidth(),
                             dataSet.getFormLineDashEffect(),
-                            decreasingColor
-                    ));
+                            clrs.get(j)
+                    );
+                }
 
-                    computedEntries.add(new LegendEntry(
+                if (pds.getLabel() != null) {
+                    // add the legend description label
+                    changed |= addEntry(entries, reusableEntries,
                             dataSet.getLabel(),
+                            Legend.LegendForm.NONE,
+                            Float.NaN,
+                            Float.NaN,
+                            null,
+                            ColorTemplate.COLOR_NONE
+                    );
+                }
+
+            } else if (dataSet instanceof ICandleDataSet && ((ICandleDataSet) dataSet).getDecreasingColor() !=
+                    ColorTemplate.COLOR_NONE) {
+
+                int decreasingColor = ((ICandleDataSet) dataSet).getDecreasingColor();
+                int increasingColor = ((ICandleDataSet) dataSet).getIncreasingColor();
+
+                changed |= addEntry(entries, reusableEntries,
+                        null,
+                        dataSet.getForm(),
+                        dataSet.getFormSize(),
+                        dataSet.getFormLineWidth(),
+                        dataSet.getFormLineDashEffect(),
+                        decreasingColor
+                );
+
+                changed |= addEntry(entries, reusableEntries,
+                        dataSet.getLabel(),
+                        dataSet.getForm(),
+                        dataSet.getFormSize(),
+                        dataSet.getFormLineWidth(),
+                        dataSet.getFormLineDashEffect(),
+                        increasingColor
+                );
+
+            } else { // all others
+
+                for (int j = 0; j < clrs.size() && j < entryCount; j++) {
+
+                    String label;
+
+                    // if multiple colors are set for a DataSet, group them
+                    if (j < clrs.size() - 1 && j < entryCount - 1) {
+                        label = null;
+                    } else { // add label to the last entry
+                        label = data.getDataSetByIndex(i).getLabel();
+                    }
+
+                    changed |= addEntry(entries, reusableEntries,
+                            label,
                             dataSet.getForm(),
                             dataSet.getFormSize(),
                             dataSet.getFormLineWidth(),
                             dataSet.getFormLineDashEffect(),
-                            increasingColor
-                    ));
+                            clrs.get(j)
+                    );
+                }
+            }
+        }
 
-                } else { // all others
+        return changed;
+    }
 
-                    for (int j = 0; j < clrs.size() && j < entryCount; j++) {
+    /**
+     * Adds an entry with the given properties to the given entries. The LegendEntry at the same
+     * position of the reusable entries is reused if there is one, and only marked as changed if
+     * one of its properties is different. Returns true if the entry changed.
+     */
+    protected boolean addEntry(List<LegendEntry> entries, List<LegendEntry> reusableEntries,
+                               String label, Legend.LegendForm form, float formSize,
+                               float formLineWidth, DashPathEffect formLineDashEffect,
+                               int formColor) {
 
-                        String label;
+        final int index = entries.size();
 
-                        // if multiple colors are set for a DataSet, group them
-                        if (j < clrs.size() - 1 && j < entryCount - 1) {
-                            label = null;
-                        } else { // add label to the last entry
-                            label = data.getDataSetByIndex(i).getLabel();
-                        }
+        if (reusableEntries != null && index < reusableEntries.size()) {
 
-                        computedEntries.add(new LegendEntry(
-                                label,
-                                dataSet.getForm(),
-                                dataSet.getFormSize(),
-                                dataSet.getFormLineWidth(),
-                                dataSet.getFormLineDashEffect(),
-                                clrs.get(j)
-                        ));
-                    }
-                }
-            }
+            LegendEntry entry = reusableEntries.get(index);
+            entries.add(entry);
 
-            if (mLegend.getExtraEntries() != null) {
-                Collections.addAll(computedEntries, mLegend.getExtraEntries());
+            if (!(label == null ? entry.label == null : label.equals(entry.label))
+                    || entry.form != form
+                    || Float.compare(entry.formSize, formSize) != 0
+                    || Float.compare(entry.formLineWidth, formLineWidth) != 0
+                    || entry.formLineDashEffect != formLineDashEffect
+                    || entry.formColor != formColor) {
+
+                entry.label = label;
+                entry.form = form;
+                entry.formSize = formSize;
+                entry.formLineWidth = formLineWidth;
+                entry.formLineDashEffect = formLineDashEffect;
+                entry.formColor = formColor;
+
+                return true;
             }
 
-            mLegend.setEntries(computedEntries);
+            return false;
         }
 
-        Typeface tf = mLegend.getTypeface();
+        LegendEntry entry = new LegendEntry(label, form, formSize, formLineWidth, formLineDashEffect,
+                formColor);
 
-        if (tf != null)
-            mLegendLabelPaint.setTypeface(tf);
+        if (reusableEntries != null)
+            reusableEntries.add(entry);
 
-        mLegendLabelPaint.setTextSize(mLegend.getTextSize());
-        mLegendLabelPaint.setColor(mLegend.getTextColor());
+        entries.add(entry);
 
-        // calculate all dimensions of the mLegend
-        mLegend.calculateDimensions(mLegendLabelPaint, mViewPortHandler);
+        return true;
     }
 
     protected Paint.FontMetrics legendFontMetrics = new Paint.FontMetrics();
@@ -556,5 +682,8 @@ public class LegendRenderer extends Renderer {
      */
     protected void drawLabel(Canvas c, float x, float y, String label) {
         c.drawText(label, x, y, mLegendLabelPaint);
+
+        if (mRenderStats != null)
+            mRenderStats.addTextDraws(1);
     }
 }
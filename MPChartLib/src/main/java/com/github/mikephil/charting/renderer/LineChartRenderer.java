@@ -1,10 +1,13 @@
 package com.github.mikephil.charting.renderer;
 
+import android.annotation.SuppressLint;
 import android.graphics.Bitmap;
 import android.graphics.Canvas;
 import android.graphics.Color;
+import android.graphics.Matrix;
 import android.graphics.Paint;
 import android.graphics.Path;
+import android.graphics.RectF;
 import android.graphics.drawable.Drawable;
 
 import com.github.mikephil.charting.animation.ChartAnimator;
@@ -12,10 +15,16 @@ import com.github.mikephil.charting.charts.LineChart;
 import com.github.mikephil.charting.data.Entry;
 import com.github.mikephil.charting.data.LineData;
 import com.github.mikephil.charting.data.LineDataSet;
+import com.github.mikephil.charting.data.LodPyramid;
+import com.github.mikephil.charting.data.filter.Downsampler;
+import com.github.mikephil.charting.data.filter.M4Decimator;
 import com.github.mikephil.charting.highlight.Highlight;
 import com.github.mikephil.charting.interfaces.dataprovider.LineDataProvider;
+import com.github.mikephil.charting.interfaces.datasets.IColumnDataSet;
 import com.github.mikephil.charting.interfaces.datasets.IDataSet;
 import com.github.mikephil.charting.interfaces.datasets.ILineDataSet;
+import com.github.mikephil.charting.interfaces.datasets.ILodDataSet;
+import com.github.mikephil.charting.interfaces.datasets.IVersionedDataSet;
 import com.github.mikephil.charting.utils.ColorTemplate;
 import com.github.mikephil.charting.utils.MPPointD;
 import com.github.mikephil.charting.utils.MPPointF;
@@ -24,8 +33,10 @@ import com.github.mikephil.charting.utils.Utils;
 import com.github.mikephil.charting.utils.ViewPortHandler;
 
 import java.lang.ref.WeakReference;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
+import java.util.concurrent.Callable;
 
 public class LineChartRenderer extends LineRadarRenderer {
 
@@ -53,6 +64,22 @@ public class LineChartRenderer extends LineRadarRenderer {
      */
     protected Bitmap.Config mBitmapConfig = Bitmap.Config.ARGB_8888;
 
+    /**
+     * if true, dashed lines and bezier paths are drawn onto the canvas of the chart whenever
+     * it can draw them, the bitmap is only used as a fallback
+     */
+    private boolean mDirectDrawEnabled = false;
+
+    /**
+     * true if something was drawn into the bitmap during the current drawData(...) call
+     */
+    private boolean mBitmapUsed = false;
+
+    /**
+     * the canvas passed to drawData(...), while drawing
+     */
+    private Canvas mDataCanvas;
+
     protected Path cubicPath = new Path();
     protected Path cubicFillPath = new Path();
 
@@ -68,11 +95,72 @@ public class LineChartRenderer extends LineRadarRenderer {
 
     @Override
     public void initBuffers() {
+        // the data has changed, values may have been modified in place
+        mCubicPathCaches.clear();
+        mPreparedLines.clear();
+        mDecimators.clear();
+    }
+
+    /**
+     * Removes the entries of DataSets that are no longer part of the given data from the given
+     * cache, so that it never holds more entries than there are DataSets.
+     */
+    private static <V> void retainDataSets(HashMap<IDataSet, V> cache, LineData data) {
+
+        if (cache.size() > data.getDataSetCount())
+            cache.keySet().retainAll(data.getDataSets());
     }
 
     @Override
     public void drawData(Canvas c) {
 
+        if ((int) mViewPortHandler.getChartWidth() <= 0 || (int) mViewPortHandler.getChartHeight() <= 0)
+            return;
+
+        // the bitmap is only created, cleared and drawn if a DataSet needs it
+        mBitmapUsed = false;
+        mDataCanvas = c;
+
+        LineData lineData = mChart.getLineData();
+
+        if (mPreparationExecutor != null)
+            prepareDataSets(lineData);
+
+        for (ILineDataSet set : lineData.getDataSets()) {
+
+            if (set.isVisible()) {
+                long start = startDataSetTiming();
+                drawDataSet(c, set);
+                endDataSetTiming(set, start);
+            }
+        }
+
+        for (int i = 0; i < mPrepareTasks.size(); i++)
+            mPrepareTasks.get(i).mPrepared = false;
+
+        mPrepareTasks.clear();
+
+        retainDataSets(mDecimators, lineData);
+        retainDataSets(mCubicPathCaches, lineData);
+        retainDataSets(mPreparedLines, lineData);
+
+        mDataCanvas = null;
+
+        if (mBitmapUsed)
+            c.drawBitmap(mDrawBitmap.get(), 0, 0, mRenderPaint);
+    }
+
+    /**
+     * Returns the canvas of the drawing bitmap. Creates the bitmap if needed, and clears it
+     * when it is first used during a drawData(...) call.
+     *
+     * @return
+     */
+    protected Canvas getBitmapCanvas() {
+
+        if (mBitmapUsed)
+            return mBitmapCanvas;
+
         int width = (int) mViewPortHandler.getChartWidth();
         int height = (int) mViewPortHandler.getChartHeight();
 
@@ -82,25 +170,114 @@ public class LineChartRenderer extends LineRadarRenderer {
                 || (drawBitmap.getWidth() != width)
                 || (drawBitmap.getHeight() != height)) {
 
-            if (width > 0 && height > 0) {
-                drawBitmap = Bitmap.createBitmap(width, height, mBitmapConfig);
-                mDrawBitmap = new WeakReference<>(drawBitmap);
-                mBitmapCanvas = new Canvas(drawBitmap);
-            } else
-                return;
+            drawBitmap = Bitmap.createBitmap(width, height, mBitmapConfig);
+            mDrawBitmap = new WeakReference<>(drawBitmap);
+            mBitmapCanvas = new Canvas(drawBitmap);
         }
 
         drawBitmap.eraseColor(Color.TRANSPARENT);
+        mBitmapUsed = true;
 
-        LineData lineData = mChart.getLineData();
+        return mBitmapCanvas;
+    }
+
+    /**
+     * Returns the API level of the device, which decides what a hardware accelerated canvas can
+     * draw directly.
+     *
+     * @return
+     */
+    protected int getSDKInt() {
+        return Utils.getSDKInt();
+    }
+
+    @SuppressLint("NewApi")
+    private boolean isHardwareAccelerated(Canvas c) {
+        return getSDKInt() >= 11 && c.isHardwareAccelerated();
+    }
+
+    /**
+     * Returns true if dashed lines can be drawn onto the given canvas directly.
+     *
+     * @param c
+     * @return
+     */
+    protected boolean canDrawDashedLinesDirectly(Canvas c) {
+        return mDirectDrawEnabled
+                && Utils.isLinePathEffectSupported(isHardwareAccelerated(c), getSDKInt());
+    }
+
+    /**
+     * Returns true if a path with the given bounds in pixels can be drawn onto the given
+     * canvas directly.
+     *
+     * @param c
+     * @param bounds
+     * @return
+     */
+    @SuppressLint("NewApi")
+    protected boolean canDrawPathDirectly(Canvas c, RectF bounds) {
+
+        if (!mDirectDrawEnabled || c == null)
+            return false;
+
+        if (!isHardwareAccelerated(c))
+            return true;
+
+        return getSDKInt() >= 14 && Utils.isPathDrawable(bounds.width(), bounds.height(),
+                c.getMaximumBitmapWidth(), c.getMaximumBitmapHeight());
+    }
+
+    /**
+     * the prepared line segments of the DataSets that were prepared on the preparation
+     * executor before
+     */
+    private HashMap<IDataSet, PreparedLine> mPreparedLines = new HashMap<>();
+
+    private List<PreparedLine> mPrepareTasks = new ArrayList<>();
+
+    /**
+     * Prepares the line segments of all visible single-colored linear or stepped DataSets in
+     * parallel on the preparation executor, if there are at least two of them. The other
+     * DataSets are prepared while drawing.
+     *
+     * @param lineData
+     */
+    protected void prepareDataSets(LineData lineData) {
+
+        final float low = mChart.getLowestVisibleX();
+        final float high = mChart.getHighestVisibleX();
 
         for (ILineDataSet set : lineData.getDataSets()) {
 
-            if (set.isVisible())
-                drawDataSet(c, set);
+            if (!set.isVisible() || set.getEntryCount() < 1 || set.getColors().size() > 1)
+                continue;
+
+            final LineDataSet.Mode mode = set.getMode();
+
+            if (mode != LineDataSet.Mode.LINEAR && mode != LineDataSet.Mode.STEPPED)
+                continue;
+
+            if (set.isDecimationEnabled() && mode != LineDataSet.Mode.STEPPED)
+                continue;
+
+            PreparedLine prepared = mPreparedLines.get(set);
+
+            if (prepared == null) {
+                prepared = new PreparedLine();
+                mPreparedLines.put(set, prepared);
+            }
+
+            prepared.set(set, low, high);
+            mPrepareTasks.add(prepared);
         }
 
-        c.drawBitmap(drawBitmap, 0, 0, mRenderPaint);
+        if (mPrepareTasks.size() < 2) {
+            mPrepareTasks.clear();
+            return;
+        }
+
+        runPreparation(mPrepareTasks);
     }
 
     protected void drawDataSet(Canvas c, ILineDataSet dataSet) {
@@ -138,6 +315,14 @@ public class LineChartRenderer extends LineRadarRenderer {
 
         mXBounds.set(mChart, dataSet);
 
+        CubicPathCache cache = getCubicPathCache(dataSet);
+        float fillMin = getCubicFillLinePosition(dataSet);
+
+        if (cache.isValid(dataSet, mXBounds, phaseY, fillMin)) {
+            drawCubicPaths(dataSet, cache, trans);
+            return;
+        }
+
         cubicPath.reset();
 
         if (mXBounds.range >= 1) {
@@ -168,19 +353,12 @@ public class LineChartRenderer extends LineRadarRenderer {
 
             cubicFillPath.reset();
             cubicFillPath.addPath(cubicPath);
-            // create a new path, this is bad for performance
-            drawCubicFill(mBitmapCanvas, dataSet, cubicFillPath, trans, mXBounds);
+            generateCubicFillPath(dataSet, cubicFillPath, fillMin, mXBounds);
         }
 
-        mRenderPaint.setColor(dataSet.getColor());
-
-        mRenderPaint.setStyle(Paint.Style.STROKE);
-
-        trans.pathValueToPixel(cubicPath);
-
-        mBitmapCanvas.drawPath(cubicPath, mRenderPaint);
+        cache.set(cubicPath, cubicFillPath, dataSet, mXBounds, phaseY, fillMin);
 
-        mRenderPaint.setPathEffect(null);
+        drawCubicPaths(dataSet, cache, trans);
     }
 
     protected void drawCubicBezier(ILineDataSet dataSet) {
@@ -194,6 +372,14 @@ public class LineChartRenderer extends LineRadarRenderer {
 
         float intensity = dataSet.getCubicIntensity();
 
+        CubicPathCache cache = getCubicPathCache(dataSet);
+        float fillMin = getCubicFillLinePosition(dataSet);
+
+        if (cache.isValid(dataSet, mXBounds, phaseY, fillMin)) {
+            drawCubicPaths(dataSet, cache, trans);
+            return;
+        }
+
         cubicPath.reset();
 
         if (mXBounds.range >= 1) {
@@ -247,42 +433,128 @@ public class LineChartRenderer extends LineRadarRenderer {
 
             cubicFillPath.reset();
             cubicFillPath.addPath(cubicPath);
+            generateCubicFillPath(dataSet, cubicFillPath, fillMin, mXBounds);
+        }
+
+        cache.set(cubicPath, cubicFillPath, dataSet, mXBounds, phaseY, fillMin);
+
+        drawCubicPaths(dataSet, cache, trans);
+    }
+
+    /**
+     * Cached cubic paths of the DataSets, in value and pixel space.
+     */
+    private HashMap<IDataSet, CubicPathCache> mCubicPathCaches = new HashMap<>();
+
+    private CubicPathCache getCubicPathCache(ILineDataSet dataSet) {
 
-            drawCubicFill(mBitmapCanvas, dataSet, cubicFillPath, trans, mXBounds);
+        CubicPathCache cache = mCubicPathCaches.get(dataSet);
+
+        if (cache == null) {
+            cache = new CubicPathCache();
+            mCubicPathCaches.put(dataSet, cache);
         }
 
+        return cache;
+    }
+
+    /**
+     * Returns the y-position the fill of the given DataSet is drawn to, NaN if filling is disabled.
+     *
+     * @param dataSet
+     * @return
+     */
+    private float getCubicFillLinePosition(ILineDataSet dataSet) {
+
+        if (!dataSet.isDrawFilledEnabled())
+            return Float.NaN;
+
+        return dataSet.getFillFormatter().getFillLinePosition(dataSet, mChart);
+    }
+
+    /**
+     * Draws the cached paths of a cubic or horizontal bezier DataSet. The paths are only
+     * transformed to pixels again if the value-to-pixel matrix has changed since the last frame.
+     *
+     * @param dataSet
+     * @param cache
+     * @param trans
+     */
+    private void drawCubicPaths(ILineDataSet dataSet, CubicPathCache cache, Transformer trans) {
+
+        cache.transform(trans.getValueToPixelMatrix());
+
+        final Canvas canvas = canDrawPathDirectly(mDataCanvas, cache.mPixelBounds)
+                ? mDataCanvas : getBitmapCanvas();
+
+        // goes through the old hook, so that overrides of it are still called
+        if (dataSet.isDrawFilledEnabled())
+            drawCubicFill(canvas, dataSet, cache.mPixelFillPath, trans, mXBounds);
+
         mRenderPaint.setColor(dataSet.getColor());
 
         mRenderPaint.setStyle(Paint.Style.STROKE);
 
-        trans.pathValueToPixel(cubicPath);
+        canvas.drawPath(cache.mPixelPath, mRenderPaint);
 
-        mBitmapCanvas.drawPath(cubicPath, mRenderPaint);
+        if (mRenderStats != null)
+            mRenderStats.addSegmentsDrawn(cache.mRange);
 
         mRenderPaint.setPathEffect(null);
     }
 
-    protected void drawCubicFill(Canvas c, ILineDataSet dataSet, Path spline, Transformer trans, XBounds bounds) {
-
-        float fillMin = dataSet.getFillFormatter()
-                .getFillLinePosition(dataSet, mChart);
+    /**
+     * Closes the given spline (in value space) down to the fill line position.
+     *
+     * @param dataSet
+     * @param spline
+     * @param fillMin
+     * @param bounds
+     */
+    protected void generateCubicFillPath(ILineDataSet dataSet, Path spline, float fillMin, XBounds bounds) {
 
         spline.lineTo(dataSet.getEntryForIndex(bounds.min + bounds.range).getX(), fillMin);
         spline.lineTo(dataSet.getEntryForIndex(bounds.min).getX(), fillMin);
         spline.close();
+    }
 
-        trans.pathValueToPixel(spline);
+    /**
+     * Draws the fill of a cubic or horizontal bezier DataSet.
+     *
+     * @param c
+     * @param dataSet
+     * @param fillPath the closed fill path, already transformed to pixels
+     */
+    protected void drawCubicFill(Canvas c, ILineDataSet dataSet, Path fillPath) {
 
         final Drawable drawable = dataSet.getFillDrawable();
         if (drawable != null) {
 
-            drawFilledPath(c, spline, drawable);
+            drawFilledPath(c, fillPath, drawable);
         } else {
 
-            drawFilledPath(c, spline, dataSet.getFillColor(), dataSet.getFillAlpha());
+            drawFilledPath(c, fillPath, dataSet.getFillColor(), dataSet.getFillAlpha());
         }
     }
 
+    /**
+     * Draws the fill of a cubic or horizontal bezier DataSet, by calling
+     * drawCubicFill(Canvas, ILineDataSet, Path).
+     *
+     * @param c
+     * @param dataSet
+     * @param spline the closed fill path, already transformed to pixels
+     * @param trans
+     * @param bounds
+     * @deprecated the fill path is cached in pixels now, and no longer an open spline in value
+     * space that is closed and transformed here. Override drawCubicFill(Canvas, ILineDataSet,
+     * Path) instead.
+     */
+    @Deprecated
+    protected void drawCubicFill(Canvas c, ILineDataSet dataSet, Path spline, Transformer trans, XBounds bounds) {
+        drawCubicFill(c, dataSet, spline);
+    }
+
     private float[] mLineBuffer = new float[4];
 
     /**
@@ -306,13 +578,16 @@ public class LineChartRenderer extends LineRadarRenderer {
 
         Canvas canvas = null;
 
-        // if the data-set is dashed, draw on bitmap-canvas
-        if (dataSet.isDashedLineEnabled()) {
-            canvas = mBitmapCanvas;
+        // if the data-set is dashed, draw on bitmap-canvas, unless the canvas can draw dashes
+        if (dataSet.isDashedLineEnabled() && !canDrawDashedLinesDirectly(c)) {
+            canvas = getBitmapCanvas();
         } else {
             canvas = c;
         }
 
+        // datasets with primitive columns are read without creating Entry objects
+        final IColumnDataSet columns = dataSet instanceof IColumnDataSet ? (IColumnDataSet) dataSet : null;
+
         mXBounds.set(mChart, dataSet);
 
         // if drawing filled is enabled
@@ -320,6 +595,9 @@ public class LineChartRenderer extends LineRadarRenderer {
             drawLinearFill(c, dataSet, trans, mXBounds);
         }
 
+        // when zoomed out far enough, draw the buckets of the LodPyramid instead of the entries
+        final int lodLevel = isDrawSteppedEnabled ? -1 : getLodLevel(dataSet, mViewPortHandler.contentWidth());
+
         // more than 1 color
         if (dataSet.getColors().size() > 1) {
 
@@ -328,28 +606,43 @@ public class LineChartRenderer extends LineRadarRenderer {
 
             for (int j = mXBounds.min; j <= mXBounds.range + mXBounds.min; j++) {
 
-                Entry e = dataSet.getEntryForIndex(j);
-                if (e == null) continue;
+                if (columns != null) {
+                    mLineBuffer[0] = columns.getX(j);
+                    mLineBuffer[1] = columns.getY(j) * phaseY;
+                } else {
+                    Entry e = dataSet.getEntryForIndex(j);
+                    if (e == null) continue;
 
-                mLineBuffer[0] = e.getX();
-                mLineBuffer[1] = e.getY() * phaseY;
+                    mLineBuffer[0] = e.getX();
+                    mLineBuffer[1] = e.getY() * phaseY;
+                }
 
                 if (j < mXBounds.max) {
 
-                    e = dataSet.getEntryForIndex(j + 1);
+                    float x2, y2;
 
-                    if (e == null) break;
+                    if (columns != null) {
+                        x2 = columns.getX(j + 1);
+                        y2 = columns.getY(j + 1);
+                    } else {
+                        Entry e = dataSet.getEntryForIndex(j + 1);
+
+                        if (e == null) break;
+
+                        x2 = e.getX();
+                        y2 = e.getY();
+                    }
 
                     if (isDrawSteppedEnabled) {
-                        mLineBuffer[2] = e.getX();
+                        mLineBuffer[2] = x2;
                         mLineBuffer[3] = mLineBuffer[1];
                         mLineBuffer[4] = mLineBuffer[2];
                         mLineBuffer[5] = mLineBuffer[3];
-                        mLineBuffer[6] = e.getX();
-                        mLineBuffer[7] = e.getY() * phaseY;
+                        mLineBuffer[6] = x2;
+                        mLineBuffer[7] = y2 * phaseY;
                     } else {
-                        mLineBuffer[2] = e.getX();
-                        mLineBuffer[3] = e.getY() * phaseY;
+                        mLineBuffer[2] = x2;
+                        mLineBuffer[3] = y2 * phaseY;
                     }
 
                 } else {
@@ -373,49 +666,44 @@ public class LineChartRenderer extends LineRadarRenderer {
                 mRenderPaint.setColor(dataSet.getColor(j));
 
                 canvas.drawLines(mLineBuffer, 0, pointsPerEntryPair * 2, mRenderPaint);
+
+                if (mRenderStats != null)
+                    mRenderStats.addSegmentsDrawn(pointsPerEntryPair / 2);
             }
 
-        } else { // only one color per dataset
+        } else if (dataSet.getDownsampler() != null && !isDrawSteppedEnabled) {
 
-            if (mLineBuffer.length < Math.max((entryCount) * pointsPerEntryPair, pointsPerEntryPair) * 2)
-                mLineBuffer = new float[Math.max((entryCount) * pointsPerEntryPair, pointsPerEntryPair) * 4];
+            drawLinearDownsampled(canvas, dataSet, trans, phaseY);
 
-            Entry e1, e2;
+        } else if (lodLevel >= 0) {
 
-            e1 = dataSet.getEntryForIndex(mXBounds.min);
+            drawLinearLod(canvas, dataSet, trans, phaseY, lodLevel);
 
-            if (e1 != null) {
+        } else if (dataSet.isDecimationEnabled() && !isDrawSteppedEnabled) {
 
-                int j = 0;
-                for (int x = mXBounds.min; x <= mXBounds.range + mXBounds.min; x++) {
+            drawLinearDecimated(canvas, dataSet, trans, phaseY);
 
-                    e1 = dataSet.getEntryForIndex(x == 0 ? 0 : (x - 1));
-                    e2 = dataSet.getEntryForIndex(x);
+        } else { // only one color per dataset
 
-                    if (e1 == null || e2 == null) continue;
+            final PreparedLine prepared = mPrepareTasks.isEmpty() ? null : mPreparedLines.get(dataSet);
 
-                    mLineBuffer[j++] = e1.getX();
-                    mLineBuffer[j++] = e1.getY() * phaseY;
+            if (prepared != null && prepared.mPrepared) {
 
-                    if (isDrawSteppedEnabled) {
-                        mLineBuffer[j++] = e2.getX();
-                        mLineBuffer[j++] = e1.getY() * phaseY;
-                        mLineBuffer[j++] = e2.getX();
-                        mLineBuffer[j++] = e1.getY() * phaseY;
-                    }
+                // the segments were already prepared on the preparation executor
+                if (prepared.mSize > 0)
+                    drawSegments(canvas, dataSet, prepared.mBuffer, prepared.mSize);
 
-                    mLineBuffer[j++] = e2.getX();
-                    mLineBuffer[j++] = e2.getY() * phaseY;
-                }
+            } else {
+
+                if (mLineBuffer.length < Math.max((entryCount) * pointsPerEntryPair, pointsPerEntryPair) * 2)
+                    mLineBuffer = new float[Math.max((entryCount) * pointsPerEntryPair, pointsPerEntryPair) * 4];
 
-                if (j > 0) {
+                if (generateSegments(dataSet, mXBounds, phaseY, mLineBuffer) > 0) {
                     trans.pointValuesToPixel(mLineBuffer);
 
                     final int size = Math.max((mXBounds.range + 1) * pointsPerEntryPair, pointsPerEntryPair) * 2;
 
-                    mRenderPaint.setColor(dataSet.getColor());
-
-                    canvas.drawLines(mLineBuffer, 0, size, mRenderPaint);
+                    drawSegments(canvas, dataSet, mLineBuffer, size);
                 }
             }
         }
@@ -423,6 +711,335 @@ public class LineChartRenderer extends LineRadarRenderer {
         mRenderPaint.setPathEffect(null);
     }
 
+    /**
+     * Writes the line segments between the entries within the given bounds into the given
+     * buffer as (x1, y1, x2, y2) values, stepped DataSets get two segments per entry. Returns
+     * the number of values written, 0 if the first entry does not exist.
+     *
+     * @param dataSet
+     * @param bounds
+     * @param phaseY
+     * @param buffer  must hold at least (bounds.range + 1) * 8 values (stepped) or * 4 values
+     * @return
+     */
+    protected int generateSegments(ILineDataSet dataSet, XBounds bounds, float phaseY, float[] buffer) {
+
+        final boolean isDrawSteppedEnabled = dataSet.getMode() == LineDataSet.Mode.STEPPED;
+
+        // datasets with primitive columns are read without creating Entry objects
+        final IColumnDataSet columns = dataSet instanceof IColumnDataSet ? (IColumnDataSet) dataSet : null;
+
+        if (columns == null && dataSet.getEntryForIndex(bounds.min) == null)
+            return 0;
+
+        Entry e1, e2;
+        float x1, y1, x2, y2;
+
+        int j = 0;
+        for (int x = bounds.min; x <= bounds.range + bounds.min; x++) {
+
+            final int prev = x == 0 ? 0 : (x - 1);
+
+            if (columns != null) {
+                x1 = columns.getX(prev);
+                y1 = columns.getY(prev);
+                x2 = columns.getX(x);
+                y2 = columns.getY(x);
+            } else {
+                e1 = dataSet.getEntryForIndex(prev);
+                e2 = dataSet.getEntryForIndex(x);
+
+                if (e1 == null || e2 == null) continue;
+
+                x1 = e1.getX();
+                y1 = e1.getY();
+                x2 = e2.getX();
+                y2 = e2.getY();
+            }
+
+            buffer[j++] = x1;
+            buffer[j++] = y1 * phaseY;
+
+            if (isDrawSteppedEnabled) {
+                buffer[j++] = x2;
+                buffer[j++] = y1 * phaseY;
+                buffer[j++] = x2;
+                buffer[j++] = y1 * phaseY;
+            }
+
+            buffer[j++] = x2;
+            buffer[j++] = y2 * phaseY;
+        }
+
+        return j;
+    }
+
+    /**
+     * Draws the first size values of the given buffer of pixel positions as line segments in
+     * the color of the DataSet.
+     */
+    private void drawSegments(Canvas canvas, ILineDataSet dataSet, float[] buffer, int size) {
+
+        mRenderPaint.setColor(dataSet.getColor());
+
+        canvas.drawLines(buffer, 0, size, mRenderPaint);
+
+        if (mRenderStats != null)
+            mRenderStats.addSegmentsDrawn(size / 4);
+    }
+
+    /**
+     * The line segments of one single-colored DataSet in pixels, prepared on the preparation
+     * executor. Every DataSet has its own bounds and buffer, so DataSets can be prepared in
+     * parallel.
+     */
+    private class PreparedLine implements Callable<Void> {
+
+        private final XBounds mBounds = new XBounds();
+
+        private float[] mBuffer = new float[0];
+        private int mSize;
+
+        /**
+         * false if the DataSet is downsampled or drawn from its LodPyramid this frame and was
+         * not prepared
+         */
+        private boolean mPrepared;
+
+        private ILineDataSet mDataSet;
+        private float mLow, mHigh;
+
+        void set(ILineDataSet dataSet, float low, float high) {
+            mDataSet = dataSet;
+            mLow = low;
+            mHigh = high;
+            mPrepared = false;
+        }
+
+        @Override
+        public Void call() {
+
+            mBounds.set(mDataSet, mLow, mHigh);
+
+            final boolean isDrawSteppedEnabled = mDataSet.getMode() == LineDataSet.Mode.STEPPED;
+
+            if (!isDrawSteppedEnabled && (mDataSet.getDownsampler() != null
+                    || getLodLevel(mDataSet, mBounds, mViewPortHandler.contentWidth()) >= 0))
+                return null;
+
+            final int pointsPerEntryPair = isDrawSteppedEnabled ? 4 : 2;
+            final int size = Math.max((mBounds.range + 1) * pointsPerEntryPair, pointsPerEntryPair) * 2;
+
+            if (mBuffer.length < size)
+                mBuffer = new float[size * 2];
+
+            if (generateSegments(mDataSet, mBounds, mAnimator.getPhaseY(), mBuffer) > 0) {
+                mChart.getTransformer(mDataSet.getAxisDependency()).pointValuesToPixel(mBuffer, size);
+                mSize = size;
+            } else {
+                mSize = 0;
+            }
+
+            mPrepared = true;
+            return null;
+        }
+    }
+
+    /**
+     * decimators (including their cached results) of all datasets that have decimation enabled
+     */
+    private HashMap<IDataSet, M4Decimator> mDecimators = new HashMap<>();
+
+    /**
+     * buffer for reading the value-to-pixel matrix
+     */
+    private float[] mMatrixValuesBuffer = new float[9];
+
+    /**
+     * Draws a single-colored linear line through the values that remain after decimating the
+     * visible range to pixel resolution.
+     *
+     * @param c
+     * @param dataSet
+     * @param trans
+     * @param phaseY
+     */
+    protected void drawLinearDecimated(Canvas c, ILineDataSet dataSet, Transformer trans, float phaseY) {
+
+        M4Decimator decimator = mDecimators.get(dataSet);
+
+        if (decimator == null) {
+            decimator = new M4Decimator();
+            mDecimators.put(dataSet, decimator);
+        }
+
+        trans.getValueToPixelMatrix().getValues(mMatrixValuesBuffer);
+
+        // start one value left of the bounds, like the undecimated line does
+        final int from = Math.max(mXBounds.min - 1, 0);
+        final int to = mXBounds.min + mXBounds.range;
+
+        final int count = decimator.decimate(dataSet, from, to,
+                mMatrixValuesBuffer[Matrix.MSCALE_X], mMatrixValuesBuffer[Matrix.MTRANS_X]);
+
+        drawLinearIndices(c, dataSet, trans, phaseY, decimator.getIndices(), count);
+    }
+
+    /**
+     * Draws a single-colored linear line through the values that the Downsampler of the
+     * DataSet keeps from the current XBounds, reduced to a number of points proportional to
+     * the width of the content rect.
+     *
+     * @param c
+     * @param dataSet
+     * @param trans
+     * @param phaseY
+     */
+    protected void drawLinearDownsampled(Canvas c, ILineDataSet dataSet, Transformer trans, float phaseY) {
+
+        final Downsampler downsampler = dataSet.getDownsampler();
+
+        trans.getValueToPixelMatrix().getValues(mMatrixValuesBuffer);
+
+        // start one value left of the bounds, like the undecimated line does
+        final int from = Math.max(mXBounds.min - 1, 0);
+        final int to = mXBounds.min + mXBounds.range;
+
+        final int count = downsampler.downsample(dataSet, from, to,
+                downsampler.getTargetCount(mViewPortHandler.contentWidth()),
+                mMatrixValuesBuffer[Matrix.MSCALE_X], mMatrixValuesBuffer[Matrix.MSCALE_Y]);
+
+        if (mRenderStats != null)
+            mRenderStats.addEntriesVisited(count);
+
+        drawLinearIndices(c, dataSet, trans, phaseY, downsampler.getIndices(), count);
+    }
+
+    /**
+     * buffer for the indices of the entries drawn from the LodPyramid
+     */
+    private int[] mLodIndices = new int[64];
+
+    /**
+     * Draws a single-colored linear line through the first, lowest, highest and last entry of
+     * every bucket of the given level of the LodPyramid within the current XBounds.
+     *
+     * @param c
+     * @param dataSet
+     * @param trans
+     * @param phaseY
+     * @param level
+     */
+    protected void drawLinearLod(Canvas c, ILineDataSet dataSet, Transformer trans, float phaseY, int level) {
+
+        final LodPyramid lod = ((ILodDataSet) dataSet).getLodPyramid();
+
+        // start one value left of the bounds, like the undecimated line does
+        final int from = Math.max(mXBounds.min - 1, 0);
+        final int to = mXBounds.min + mXBounds.range;
+
+        final int firstBucket = lod.getBucket(level, from);
+        final int lastBucket = lod.getBucket(level, to);
+
+        if (mLodIndices.length < (lastBucket - firstBucket + 1) * 4)
+            mLodIndices = new int[(lastBucket - firstBucket + 1) * 4];
+
+        int count = 0;
+
+        for (int bucket = firstBucket; bucket <= lastBucket; bucket++) {
+
+            final int first = Math.max(lod.getFirstIndex(level, bucket), from);
+            final int last = Math.min(lod.getLastIndex(level, bucket), to);
+
+            if (first > last)
+                continue;
+
+            final int min = lod.getMinIndex(level, bucket);
+            final int max = lod.getMaxIndex(level, bucket);
+
+            count = appendLodIndex(count, first);
+
+            // the extremes of a bucket are in range unless the bucket is cut off at the bounds
+            if (min >= first && max >= first && min <= last && max <= last) {
+                count = appendLodIndex(count, Math.min(min, max));
+                count = appendLodIndex(count, Math.max(min, max));
+            }
+
+            count = appendLodIndex(count, last);
+        }
+
+        if (mRenderStats != null)
+            mRenderStats.addEntriesVisited(count);
+
+        drawLinearIndices(c, dataSet, trans, phaseY, mLodIndices, count);
+    }
+
+    private int appendLodIndex(int count, int index) {
+        if (count == 0 || mLodIndices[count - 1] != index)
+            mLodIndices[count++] = index;
+        return count;
+    }
+
+    /**
+     * Draws a single-colored linear line through the entries with the given indices.
+     *
+     * @param c
+     * @param dataSet
+     * @param trans
+     * @param phaseY
+     * @param indices the indices of the entries in ascending order
+     * @param count   the number of valid indices
+     */
+    protected void drawLinearIndices(Canvas c, ILineDataSet dataSet, Transformer trans, float phaseY,
+                                     int[] indices, int count) {
+
+        if (count < 1)
+            return;
+
+        final IColumnDataSet columns = dataSet instanceof IColumnDataSet ? (IColumnDataSet) dataSet : null;
+
+        final int size = Math.max(count - 1, 1) * 4;
+
+        if (mLineBuffer.length < size)
+            mLineBuffer = new float[size];
+
+        float prevX = 0f, prevY = 0f;
+        int j = 0;
+
+        for (int i = 0; i < count; i++) {
+
+            final float x, y;
+
+            if (columns != null) {
+                x = columns.getX(indices[i]);
+                y = columns.getY(indices[i]) * phaseY;
+            } else {
+                Entry e = dataSet.getEntryForIndex(indices[i]);
+                x = e.getX();
+                y = e.getY() * phaseY;
+            }
+
+            if (i > 0 || count == 1) {
+                mLineBuffer[j++] = i > 0 ? prevX : x;
+                mLineBuffer[j++] = i > 0 ? prevY : y;
+                mLineBuffer[j++] = x;
+                mLineBuffer[j++] = y;
+            }
+
+            prevX = x;
+            prevY = y;
+        }
+
+        trans.getValueToPixelMatrix().mapPoints(mLineBuffer, 0, mLineBuffer, 0, j / 2);
+
+        mRenderPaint.setColor(dataSet.getColor());
+
+        c.drawLines(mLineBuffer, 0, j, mRenderPaint);
+
+        if (mRenderStats != null)
+            mRenderStats.addSegmentsDrawn(j / 4);
+    }
+
     protected Path mGenerateFilledPathBuffer = new Path();
 
     /**
@@ -490,6 +1107,12 @@ public class LineChartRenderer extends LineRadarRenderer {
         final Path filled = outputPath;
         filled.reset();
 
+        if (dataSet instanceof IColumnDataSet) {
+            generateFilledPath((IColumnDataSet) dataSet, startIndex, endIndex, fillMin, phaseY,
+                    isDrawSteppedEnabled, filled);
+            return;
+        }
+
         final Entry entry = dataSet.getEntryForIndex(startIndex);
 
         filled.moveTo(entry.getX(), fillMin);
@@ -519,6 +1142,33 @@ public class LineChartRenderer extends LineRadarRenderer {
         filled.close();
     }
 
+    /**
+     * Generates the filled path for a dataset with primitive columns, reading the values by index.
+     */
+    private void generateFilledPath(final IColumnDataSet columns, final int startIndex, final int endIndex,
+                                    final float fillMin, final float phaseY, final boolean isDrawSteppedEnabled,
+                                    final Path filled) {
+
+        filled.moveTo(columns.getX(startIndex), fillMin);
+        filled.lineTo(columns.getX(startIndex), columns.getY(startIndex) * phaseY);
+
+        for (int x = startIndex + 1; x <= endIndex; x++) {
+
+            if (isDrawSteppedEnabled && x > startIndex + 1) {
+                filled.lineTo(columns.getX(x), columns.getY(x - 1) * phaseY);
+            }
+
+            filled.lineTo(columns.getX(x), columns.getY(x) * phaseY);
+        }
+
+        // close up
+        if (endIndex > startIndex) {
+            filled.lineTo(columns.getX(endIndex), fillMin);
+        }
+
+        filled.close();
+    }
+
     @Override
     public void drawValues(Canvas c) {
 
@@ -656,14 +1306,21 @@ public class LineChartRenderer extends LineRadarRenderer {
 
             int boundsRangeCount = mXBounds.range + mXBounds.min;
 
+            final IColumnDataSet columns = dataSet instanceof IColumnDataSet ? (IColumnDataSet) dataSet : null;
+
             for (int j = mXBounds.min; j <= boundsRangeCount; j++) {
 
-                Entry e = dataSet.getEntryForIndex(j);
+                if (columns != null) {
+                    mCirclesBuffer[0] = columns.getX(j);
+                    mCirclesBuffer[1] = columns.getY(j) * phaseY;
+                } else {
+                    Entry e = dataSet.getEntryForIndex(j);
 
-                if (e == null) break;
+                    if (e == null) break;
 
-                mCirclesBuffer[0] = e.getX();
-                mCirclesBuffer[1] = e.getY() * phaseY;
+                    mCirclesBuffer[0] = e.getX();
+                    mCirclesBuffer[1] = e.getY() * phaseY;
+                }
 
                 trans.pointValuesToPixel(mCirclesBuffer);
 
@@ -710,6 +1367,34 @@ public class LineChartRenderer extends LineRadarRenderer {
         }
     }
 
+    /**
+     * If enabled, dashed lines and cubic / horizontal bezier lines are drawn onto the canvas
+     * of the chart directly instead of into a bitmap of the size of the chart that is drawn
+     * afterwards. The bitmap is then only created for the DataSets the canvas can not draw:
+     * dashed lines on hardware accelerated canvases before API 28, and paths larger than the
+     * maximum texture size. This saves the memory of the bitmap, and clearing and drawing it
+     * every frame. The result looks the same, except that lines are no longer drawn on top of
+     * the other DataSets but in the order of their DataSets. Default: false
+     *
+     * @param enabled
+     */
+    public void setDirectDrawEnabled(boolean enabled) {
+        mDirectDrawEnabled = enabled;
+
+        // only created again if needed as a fallback
+        if (enabled)
+            releaseBitmap();
+    }
+
+    /**
+     * Returns true if lines are drawn onto the canvas of the chart directly whenever possible.
+     *
+     * @return
+     */
+    public boolean isDirectDrawEnabled() {
+        return mDirectDrawEnabled;
+    }
+
     /**
      * Sets the Bitmap.Config to be used by this renderer.
      * Default: Bitmap.Config.ARGB_8888
@@ -749,6 +1434,114 @@ public class LineChartRenderer extends LineRadarRenderer {
         }
     }
 
+    /**
+     * The cubic path of a DataSet in value space, and its pixel space version. The value space
+     * paths are rebuilt when the data, the visible range or the animation phase changes, the
+     * pixel space paths when the value-to-pixel matrix changes (e.g. zooming and dragging).
+     * Redrawing for highlights or markers reuses both.
+     */
+    private static class CubicPathCache {
+
+        private Path mValuePath = new Path();
+        private Path mValueFillPath = new Path();
+
+        private Path mPixelPath = new Path();
+        private Path mPixelFillPath = new Path();
+
+        private Matrix mMatrix = new Matrix();
+        private boolean mPixelPathsValid = false;
+
+        /**
+         * the bounds of both pixel paths
+         */
+        private RectF mPixelBounds = new RectF();
+        private RectF mFillBounds = new RectF();
+
+        // the input the value space paths were built from
+        private boolean mValid = false;
+        private LineDataSet.Mode mMode;
+        private int mMin, mRange, mEntryCount, mVersion;
+        private float mXMin, mXMax, mYMin, mYMax;
+        private float mPhaseY, mIntensity, mFillMin;
+
+        /**
+         * Returns true if the cached value space paths were built from the same input.
+         */
+        boolean isValid(ILineDataSet set, XBounds bounds, float phaseY, float fillMin) {
+            return mValid
+                    && set.getMode() == mMode
+                    && bounds.min == mMin
+                    && bounds.range == mRange
+                    && set.getEntryCount() == mEntryCount
+                    && getVersion(set) == mVersion
+                    && set.getXMin() == mXMin
+                    && set.getXMax() == mXMax
+                    && set.getYMin() == mYMin
+                    && set.getYMax() == mYMax
+                    && phaseY == mPhaseY
+                    && set.getCubicIntensity() == mIntensity
+                    && (fillMin == mFillMin || (Float.isNaN(fillMin) && Float.isNaN(mFillMin)));
+        }
+
+        /**
+         * Stores new value space paths and the input they were built from.
+         */
+        void set(Path path, Path fillPath, ILineDataSet set, XBounds bounds, float phaseY, float fillMin) {
+
+            mValuePath.set(path);
+
+            if (Float.isNaN(fillMin))
+                mValueFillPath.reset();
+            else
+                mValueFillPath.set(fillPath);
+
+            mMode = set.getMode();
+            mMin = bounds.min;
+            mRange = bounds.range;
+            mEntryCount = set.getEntryCount();
+            mVersion = getVersion(set);
+            mXMin = set.getXMin();
+            mXMax = set.getXMax();
+            mYMin = set.getYMin();
+            mYMax = set.getYMax();
+            mPhaseY = phaseY;
+            mIntensity = set.getCubicIntensity();
+            mFillMin = fillMin;
+
+            mValid = true;
+            mPixelPathsValid = false;
+        }
+
+        /**
+         * Returns the version of the given DataSet, 0 if it does not count its changes.
+         */
+        private static int getVersion(ILineDataSet set) {
+            return set instanceof IVersionedDataSet ? ((IVersionedDataSet) set).getVersion() : 0;
+        }
+
+        /**
+         * Transforms the value space paths to pixels, unless they already are for the given matrix.
+         */
+        void transform(Matrix valueToPixel) {
+
+            if (mPixelPathsValid && mMatrix.equals(valueToPixel))
+                return;
+
+            mValuePath.transform(valueToPixel, mPixelPath);
+            mValueFillPath.transform(valueToPixel, mPixelFillPath);
+
+            mPixelPath.computeBounds(mPixelBounds, true);
+
+            if (!mPixelFillPath.isEmpty()) {
+                mPixelFillPath.computeBounds(mFillBounds, true);
+                mPixelBounds.union(mFillBounds);
+            }
+
+            mMatrix.set(valueToPixel);
+            mPixelPathsValid = true;
+        }
+    }
+
     private class DataSetImageCache {
 
         private Path mCirclePathBuffer = new Path();
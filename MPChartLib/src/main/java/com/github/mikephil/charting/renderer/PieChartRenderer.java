@@ -24,13 +24,17 @@ import com.github.mikephil.charting.data.PieDataSet;
 import com.github.mikephil.charting.data.PieEntry;
 import com.github.mikephil.charting.formatter.IValueFormatter;
 import com.github.mikephil.charting.highlight.Highlight;
+import com.github.mikephil.charting.interfaces.datasets.IDataSet;
 import com.github.mikephil.charting.interfaces.datasets.IPieDataSet;
+import com.github.mikephil.charting.interfaces.datasets.IVersionedDataSet;
 import com.github.mikephil.charting.utils.ColorTemplate;
 import com.github.mikephil.charting.utils.MPPointF;
 import com.github.mikephil.charting.utils.Utils;
 import com.github.mikephil.charting.utils.ViewPortHandler;
 
 import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
 
 public class PieChartRenderer extends DataRenderer {
@@ -117,7 +121,7 @@ public class PieChartRenderer extends DataRenderer {
 
     @Override
     public void initBuffers() {
-        // TODO Auto-generated method stub
+        mSliceGeometries.clear();
     }
 
     @Override
@@ -146,8 +150,11 @@ public class PieChartRenderer extends DataRenderer {
 
         for (IPieDataSet set : pieData.getDataSets()) {
 
-            if (set.isVisible() && set.getEntryCount() > 0)
+            if (set.isVisible() && set.getEntryCount() > 0) {
+                long start = startDataSetTiming();
                 drawDataSet(c, set);
+                endDataSetTiming(set, start);
+            }
         }
     }
 
@@ -213,35 +220,178 @@ public class PieChartRenderer extends DataRenderer {
         return sliceSpace;
     }
 
+    /**
+     * the cached slice geometry of every DataSet, see SliceGeometry
+     */
+    private HashMap<IDataSet, SliceGeometry> mSliceGeometries = new HashMap<>();
+
     protected void drawDataSet(Canvas c, IPieDataSet dataSet) {
 
-        float angle = 0;
-        float rotationAngle = mChart.getRotationAngle();
+        if (mRenderStats != null)
+            mRenderStats.addEntriesVisited(dataSet.getEntryCount());
 
-        float phaseX = mAnimator.getPhaseX();
-        float phaseY = mAnimator.getPhaseY();
+        final MPPointF center = mChart.getCenterCircleBox();
 
-        final RectF circleBox = mChart.getCircleBox();
+        final SliceGeometry geometry = getSliceGeometry(dataSet, center);
+
+        // the slices are cached without the rotation, rotating the canvas is all a rotation
+        // gesture costs
+        final float rotationAngle = mChart.getRotationAngle();
+
+        mBitmapCanvas.save();
+        mBitmapCanvas.rotate(rotationAngle, center.x, center.y);
+
+        for (int j = 0; j < geometry.count; j++) {
+
+            if (!geometry.drawn[j] || mChart.needsHighlight(j))
+                continue;
+
+            mRenderPaint.setColor(dataSet.getColor(j));
+
+            mBitmapCanvas.drawPath(geometry.paths[j], mRenderPaint);
+        }
+
+        mBitmapCanvas.restore();
+
+        MPPointF.recycleInstance(center);
+    }
+
+    /**
+     * Returns the number of slices of the given DataSet whose value is not zero.
+     *
+     * @param dataSet
+     * @return
+     */
+    protected int getVisibleAngleCount(IPieDataSet dataSet) {
+
+        SliceGeometry geometry = mSliceGeometries.get(dataSet);
+
+        if (geometry != null && isSameInput(dataSet, geometry, mChart.getDrawAngles()))
+            return geometry.visibleAngleCount;
+
+        return countVisibleAngles(dataSet);
+    }
+
+    private static int countVisibleAngles(IPieDataSet dataSet) {
+
+        int visibleAngleCount = 0;
+
+        for (int j = 0; j < dataSet.getEntryCount(); j++) {
+            // draw only if the value is greater than zero
+            if ((Math.abs(dataSet.getEntryForIndex(j).getY()) > Utils.FLOAT_EPSILON)) {
+                visibleAngleCount++;
+            }
+        }
+
+        return visibleAngleCount;
+    }
+
+    private static int getVersion(IPieDataSet dataSet) {
+        return dataSet instanceof IVersionedDataSet ? ((IVersionedDataSet) dataSet).getVersion() : -1;
+    }
+
+    /**
+     * Returns true if the given geometry was built from the current version of the DataSet and
+     * the given draw angles. An entry can be modified in place without changing the version of
+     * its DataSet, the draw angles change with it. A DataSet that does not count its changes is
+     * never the same.
+     */
+    private static boolean isSameInput(IPieDataSet dataSet, SliceGeometry geometry, float[] drawAngles) {
+
+        final int version = getVersion(dataSet);
+        final int entryCount = dataSet.getEntryCount();
+
+        return version >= 0 && version == geometry.version && entryCount == geometry.count
+                && equalAngles(drawAngles, geometry.drawAngles, entryCount);
+    }
+
+    /**
+     * Returns the slice geometry of the given DataSet, built without rotation. It is only built
+     * again if the DataSet, the draw angles, the animation phases, the radius, the hole or the
+     * slice space changed since the last call.
+     */
+    private SliceGeometry getSliceGeometry(IPieDataSet dataSet, MPPointF center) {
+
+        SliceGeometry geometry = mSliceGeometries.get(dataSet);
+
+        if (geometry == null) {
+            geometry = new SliceGeometry();
+            mSliceGeometries.put(dataSet, geometry);
+        }
 
         final int entryCount = dataSet.getEntryCount();
         final float[] drawAngles = mChart.getDrawAngles();
-        final MPPointF center = mChart.getCenterCircleBox();
         final float radius = mChart.getRadius();
         final boolean drawInnerArc = mChart.isDrawHoleEnabled() && !mChart.isDrawSlicesUnderHoleEnabled();
         final float userInnerRadius = drawInnerArc
                 ? radius * (mChart.getHoleRadius() / 100.f)
                 : 0.f;
 
-        int visibleAngleCount = 0;
-        for (int j = 0; j < entryCount; j++) {
-            // draw only if the value is greater than zero
-            if ((Math.abs(dataSet.getEntryForIndex(j).getY()) > Utils.FLOAT_EPSILON)) {
-                visibleAngleCount++;
-            }
-        }
+        final boolean sameInput = isSameInput(dataSet, geometry, drawAngles);
+
+        // counted again whenever the slices are built again
+        final int visibleAngleCount = sameInput
+                ? geometry.visibleAngleCount
+                : countVisibleAngles(dataSet);
 
         final float sliceSpace = visibleAngleCount <= 1 ? 0.f : getSliceSpace(dataSet);
 
+        final float[] params = geometry.params;
+        params[0] = mAnimator.getPhaseX();
+        params[1] = mAnimator.getPhaseY();
+        params[2] = center.x;
+        params[3] = center.y;
+        params[4] = radius;
+        params[5] = userInnerRadius;
+        params[6] = sliceSpace;
+        params[7] = drawInnerArc ? 1f : 0f;
+
+        if (sameInput && Arrays.equals(params, geometry.lastParams))
+            return geometry;
+
+        geometry.ensureCapacity(entryCount);
+        geometry.count = entryCount;
+        geometry.version = getVersion(dataSet);
+        geometry.visibleAngleCount = visibleAngleCount;
+        System.arraycopy(params, 0, geometry.lastParams, 0, params.length);
+        System.arraycopy(drawAngles, 0, geometry.drawAngles, 0, Math.min(entryCount, drawAngles.length));
+
+        buildSlicePaths(dataSet, geometry, center, radius, drawInnerArc, userInnerRadius, sliceSpace);
+
+        return geometry;
+    }
+
+    private static boolean equalAngles(float[] a, float[] b, int count) {
+
+        if (a.length < count)
+            return false;
+
+        for (int i = 0; i < count; i++) {
+            if (a[i] != b[i])
+                return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Builds the path of every slice of the given DataSet with a rotation angle of 0.
+     */
+    private void buildSlicePaths(IPieDataSet dataSet, SliceGeometry geometry, MPPointF center, float radius,
+                                 boolean drawInnerArc, float userInnerRadius, float sliceSpace) {
+
+        float angle = 0;
+        final float rotationAngle = 0f;
+
+        float phaseX = mAnimator.getPhaseX();
+        float phaseY = mAnimator.getPhaseY();
+
+        final RectF circleBox = mChart.getCircleBox();
+
+        final int entryCount = geometry.count;
+        final float[] drawAngles = geometry.drawAngles;
+        final int visibleAngleCount = geometry.visibleAngleCount;
+
         for (int j = 0; j < entryCount; j++) {
 
             float sliceAngle = drawAngles[j];
@@ -249,138 +399,176 @@ public class PieChartRenderer extends DataRenderer {
 
             Entry e = dataSet.getEntryForIndex(j);
 
+            geometry.drawn[j] = false;
+
             // draw only if the value is greater than zero
             if ((Math.abs(e.getY()) > Utils.FLOAT_EPSILON)) {
 
-                if (!mChart.needsHighlight(j)) {
+                final Path path = geometry.paths[j];
+
+                final boolean accountForSliceSpacing = sliceSpace > 0.f && sliceAngle <= 180.f;
+
+                final float sliceSpaceAngleOuter = visibleAngleCount == 1 ?
+                        0.f :
+                        sliceSpace / (Utils.FDEG2RAD * radius);
+                final float startAngleOuter = rotationAngle + (angle + sliceSpaceAngleOuter / 2.f) * phaseY;
+                float sweepAngleOuter = (sliceAngle - sliceSpaceAngleOuter) * phaseY;
+                if (sweepAngleOuter < 0.f) {
+                    sweepAngleOuter = 0.f;
+                }
 
-                    final boolean accountForSliceSpacing = sliceSpace > 0.f && sliceAngle <= 180.f;
+                path.reset();
 
-                    mRenderPaint.setColor(dataSet.getColor(j));
+                float arcStartPointX = center.x + radius * (float) Math.cos(startAngleOuter * Utils.FDEG2RAD);
+                float arcStartPointY = center.y + radius * (float) Math.sin(startAngleOuter * Utils.FDEG2RAD);
 
-                    final float sliceSpaceAngleOuter = visibleAngleCount == 1 ?
-                            0.f :
-                            sliceSpace / (Utils.FDEG2RAD * radius);
-                    final float startAngleOuter = rotationAngle + (angle + sliceSpaceAngleOuter / 2.f) * phaseY;
-                    float sweepAngleOuter = (sliceAngle - sliceSpaceAngleOuter) * phaseY;
-                    if (sweepAngleOuter < 0.f) {
-                        sweepAngleOuter = 0.f;
-                    }
+                if (sweepAngleOuter >= 360.f && sweepAngleOuter % 360f <= Utils.FLOAT_EPSILON) {
+                    // Android is doing "mod 360"
+                    path.addCircle(center.x, center.y, radius, Path.Direction.CW);
+                } else {
+
+                    path.moveTo(arcStartPointX, arcStartPointY);
 
-                    mPathBuffer.reset();
+                    path.arcTo(
+                            circleBox,
+                            startAngleOuter,
+                            sweepAngleOuter
+                    );
+                }
+
+                // API < 21 does not receive floats in addArc, but a RectF
+                mInnerRectBuffer.set(
+                        center.x - innerRadius,
+                        center.y - innerRadius,
+                        center.x + innerRadius,
+                        center.y + innerRadius);
 
-                    float arcStartPointX = center.x + radius * (float) Math.cos(startAngleOuter * Utils.FDEG2RAD);
-                    float arcStartPointY = center.y + radius * (float) Math.sin(startAngleOuter * Utils.FDEG2RAD);
+                if (drawInnerArc &&
+                        (innerRadius > 0.f || accountForSliceSpacing)) {
+
+                    if (accountForSliceSpacing) {
+                        float minSpacedRadius =
+                                calculateMinimumRadiusForSpacedSlice(
+                                        center, radius,
+                                        sliceAngle * phaseY,
+                                        arcStartPointX, arcStartPointY,
+                                        startAngleOuter,
+                                        sweepAngleOuter);
+
+                        if (minSpacedRadius < 0.f)
+                            minSpacedRadius = -minSpacedRadius;
+
+                        innerRadius = Math.max(innerRadius, minSpacedRadius);
+                    }
+
+                    final float sliceSpaceAngleInner = visibleAngleCount == 1 || innerRadius == 0.f ?
+                            0.f :
+                            sliceSpace / (Utils.FDEG2RAD * innerRadius);
+                    final float startAngleInner = rotationAngle + (angle + sliceSpaceAngleInner / 2.f) * phaseY;
+                    float sweepAngleInner = (sliceAngle - sliceSpaceAngleInner) * phaseY;
+                    if (sweepAngleInner < 0.f) {
+                        sweepAngleInner = 0.f;
+                    }
+                    final float endAngleInner = startAngleInner + sweepAngleInner;
 
                     if (sweepAngleOuter >= 360.f && sweepAngleOuter % 360f <= Utils.FLOAT_EPSILON) {
                         // Android is doing "mod 360"
-                        mPathBuffer.addCircle(center.x, center.y, radius, Path.Direction.CW);
+                        path.addCircle(center.x, center.y, innerRadius, Path.Direction.CCW);
                     } else {
 
-                        mPathBuffer.moveTo(arcStartPointX, arcStartPointY);
+                        path.lineTo(
+                                center.x + innerRadius * (float) Math.cos(endAngleInner * Utils.FDEG2RAD),
+                                center.y + innerRadius * (float) Math.sin(endAngleInner * Utils.FDEG2RAD));
 
-                        mPathBuffer.arcTo(
-                                circleBox,
-                                startAngleOuter,
-                                sweepAngleOuter
+                        path.arcTo(
+                                mInnerRectBuffer,
+                                endAngleInner,
+                                -sweepAngleInner
                         );
                     }
+                } else {
 
-                    // API < 21 does not receive floats in addArc, but a RectF
-                    mInnerRectBuffer.set(
-                            center.x - innerRadius,
-                            center.y - innerRadius,
-                            center.x + innerRadius,
-                            center.y + innerRadius);
+                    if (sweepAngleOuter % 360f > Utils.FLOAT_EPSILON) {
+                        if (accountForSliceSpacing) {
 
-                    if (drawInnerArc &&
-                            (innerRadius > 0.f || accountForSliceSpacing)) {
+                            float angleMiddle = startAngleOuter + sweepAngleOuter / 2.f;
 
-                        if (accountForSliceSpacing) {
-                            float minSpacedRadius =
+                            float sliceSpaceOffset =
                                     calculateMinimumRadiusForSpacedSlice(
-                                            center, radius,
+                                            center,
+                                            radius,
                                             sliceAngle * phaseY,
-                                            arcStartPointX, arcStartPointY,
+                                            arcStartPointX,
+                                            arcStartPointY,
                                             startAngleOuter,
                                             sweepAngleOuter);
 
-                            if (minSpacedRadius < 0.f)
-                                minSpacedRadius = -minSpacedRadius;
+                            float arcEndPointX = center.x +
+                                    sliceSpaceOffset * (float) Math.cos(angleMiddle * Utils.FDEG2RAD);
+                            float arcEndPointY = center.y +
+                                    sliceSpaceOffset * (float) Math.sin(angleMiddle * Utils.FDEG2RAD);
 
-                            innerRadius = Math.max(innerRadius, minSpacedRadius);
-                        }
+                            path.lineTo(
+                                    arcEndPointX,
+                                    arcEndPointY);
 
-                        final float sliceSpaceAngleInner = visibleAngleCount == 1 || innerRadius == 0.f ?
-                                0.f :
-                                sliceSpace / (Utils.FDEG2RAD * innerRadius);
-                        final float startAngleInner = rotationAngle + (angle + sliceSpaceAngleInner / 2.f) * phaseY;
-                        float sweepAngleInner = (sliceAngle - sliceSpaceAngleInner) * phaseY;
-                        if (sweepAngleInner < 0.f) {
-                            sweepAngleInner = 0.f;
-                        }
-                        final float endAngleInner = startAngleInner + sweepAngleInner;
-
-                        if (sweepAngleOuter >= 360.f && sweepAngleOuter % 360f <= Utils.FLOAT_EPSILON) {
-                            // Android is doing "mod 360"
-                            mPathBuffer.addCircle(center.x, center.y, innerRadius, Path.Direction.CCW);
                         } else {
-
-                            mPathBuffer.lineTo(
-                                    center.x + innerRadius * (float) Math.cos(endAngleInner * Utils.FDEG2RAD),
-                                    center.y + innerRadius * (float) Math.sin(endAngleInner * Utils.FDEG2RAD));
-
-                            mPathBuffer.arcTo(
-                                    mInnerRectBuffer,
-                                    endAngleInner,
-                                    -sweepAngleInner
-                            );
+                            path.lineTo(
+                                    center.x,
+                                    center.y);
                         }
-                    } else {
-
-                        if (sweepAngleOuter % 360f > Utils.FLOAT_EPSILON) {
-                            if (accountForSliceSpacing) {
-
-                                float angleMiddle = startAngleOuter + sweepAngleOuter / 2.f;
-
-                                float sliceSpaceOffset =
-                                        calculateMinimumRadiusForSpacedSlice(
-                                                center,
-                                                radius,
-                                                sliceAngle * phaseY,
-                                                arcStartPointX,
-                                                arcStartPointY,
-                                                startAngleOuter,
-                                                sweepAngleOuter);
-
-                                float arcEndPointX = center.x +
-                                        sliceSpaceOffset * (float) Math.cos(angleMiddle * Utils.FDEG2RAD);
-                                float arcEndPointY = center.y +
-                                        sliceSpaceOffset * (float) Math.sin(angleMiddle * Utils.FDEG2RAD);
-
-                                mPathBuffer.lineTo(
-                                        arcEndPointX,
-                                        arcEndPointY);
-
-                            } else {
-                                mPathBuffer.lineTo(
-                                        center.x,
-                                        center.y);
-                            }
-                        }
-
                     }
 
-                    mPathBuffer.close();
-
-                    mBitmapCanvas.drawPath(mPathBuffer, mRenderPaint);
                 }
+
+                path.close();
+
+                geometry.drawn[j] = true;
             }
 
             angle += sliceAngle * phaseX;
         }
+    }
 
-        MPPointF.recycleInstance(center);
+    /**
+     * Cached paths of the slices of one DataSet, built without rotation, together with the
+     * input they were built from.
+     */
+    private static class SliceGeometry {
+
+        Path[] paths = new Path[0];
+
+        /**
+         * false for slices that are not drawn because their value is zero
+         */
+        boolean[] drawn = new boolean[0];
+
+        float[] drawAngles = new float[0];
+
+        int count = -1;
+        int version = -1;
+        int visibleAngleCount;
+
+        // phases, center, radius, inner radius, slice space and hole of the current and the
+        // last build
+        final float[] params = new float[8];
+        final float[] lastParams = new float[8];
+
+        void ensureCapacity(int count) {
+
+            if (paths.length >= count)
+                return;
+
+            Path[] newPaths = new Path[count];
+            System.arraycopy(paths, 0, newPaths, 0, paths.length);
+
+            for (int i = paths.length; i < count; i++)
+                newPaths[i] = new Path();
+
+            paths = newPaths;
+            drawn = new boolean[count];
+            drawAngles = new float[count];
+        }
     }
 
     @Override
@@ -636,6 +824,9 @@ public class PieChartRenderer extends DataRenderer {
      */
     protected void drawEntryLabel(Canvas c, String label, float x, float y) {
         c.drawText(label, x, y, mEntryLabelsPaint);
+
+        if (mRenderStats != null)
+            mRenderStats.addTextDraws(1);
     }
 
     @Override
@@ -799,14 +990,7 @@ public class PieChartRenderer extends DataRenderer {
             if (set == null || !set.isHighlightEnabled())
                 continue;
 
-            final int entryCount = set.getEntryCount();
-            int visibleAngleCount = 0;
-            for (int j = 0; j < entryCount; j++) {
-                // draw only if the value is greater than zero
-                if ((Math.abs(set.getEntryForIndex(j).getY()) > Utils.FLOAT_EPSILON)) {
-                    visibleAngleCount++;
-                }
-            }
+            final int visibleAngleCount = getVisibleAngleCount(set);
 
             if (index == 0)
                 angle = 0.f;
@@ -64,7 +64,9 @@ public class RadarChartRenderer extends LineRadarRenderer {
         for (IRadarDataSet set : radarData.getDataSets()) {
 
             if (set.isVisible()) {
+                long start = startDataSetTiming();
                 drawDataSet(c, set, mostEntries);
+                endDataSetTiming(set, start);
             }
         }
     }
@@ -79,6 +81,9 @@ public class RadarChartRenderer extends LineRadarRenderer {
      */
     protected void drawDataSet(Canvas c, IRadarDataSet dataSet, int mostEntries) {
 
+        if (mRenderStats != null)
+            mRenderStats.addEntriesVisited(dataSet.getEntryCount());
+
         float phaseX = mAnimator.getPhaseX();
         float phaseY = mAnimator.getPhaseY();
 
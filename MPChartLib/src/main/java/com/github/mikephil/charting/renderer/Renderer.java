@@ -1,6 +1,7 @@
 
 package com.github.mikephil.charting.renderer;
 
+import com.github.mikephil.charting.utils.RenderStats;
 import com.github.mikephil.charting.utils.ViewPortHandler;
 
 /**
@@ -15,7 +16,21 @@ public abstract class Renderer {
      */
     protected ViewPortHandler mViewPortHandler;
 
+    /**
+     * the object to record timings and counts in, null if no one is listening
+     */
+    protected RenderStats mRenderStats = null;
+
     public Renderer(ViewPortHandler viewPortHandler) {
         this.mViewPortHandler = viewPortHandler;
     }
+
+    /**
+     * Sets the object this renderer records its timings and counts in, null to disable recording.
+     *
+     * @param stats
+     */
+    public void setRenderStats(RenderStats stats) {
+        this.mRenderStats = stats;
+    }
 }
@@ -10,7 +10,9 @@ import com.github.mikephil.charting.data.Entry;
 import com.github.mikephil.charting.data.ScatterData;
 import com.github.mikephil.charting.highlight.Highlight;
 import com.github.mikephil.charting.interfaces.dataprovider.ScatterDataProvider;
+import com.github.mikephil.charting.interfaces.datasets.IColumnDataSet;
 import com.github.mikephil.charting.interfaces.datasets.IScatterDataSet;
+import com.github.mikephil.charting.renderer.scatter.IBatchShapeRenderer;
 import com.github.mikephil.charting.renderer.scatter.IShapeRenderer;
 import com.github.mikephil.charting.utils.MPPointD;
 import com.github.mikephil.charting.utils.MPPointF;
@@ -18,6 +20,7 @@ import com.github.mikephil.charting.utils.Transformer;
 import com.github.mikephil.charting.utils.Utils;
 import com.github.mikephil.charting.utils.ViewPortHandler;
 
+import java.util.Arrays;
 import java.util.List;
 
 public class ScatterChartRenderer extends LineScatterCandleRadarRenderer {
@@ -40,15 +43,39 @@ public class ScatterChartRenderer extends LineScatterCandleRadarRenderer {
 
         for (IScatterDataSet set : scatterData.getDataSets()) {
 
-            if (set.isVisible())
+            if (set.isVisible()) {
+                long start = startDataSetTiming();
                 drawDataSet(c, set);
+                endDataSetTiming(set, start);
+            }
         }
     }
 
-    float[] mPixelBuffer = new float[2];
+    /**
+     * buffer for the pixel positions of the visible points of a DataSet
+     */
+    protected float[] mPixelBuffer = new float[2];
+
+    /**
+     * buffer for the pixel positions of the visible points, grouped by color
+     */
+    protected float[] mGroupedPixelBuffer = new float[2];
+
+    /**
+     * buffer for the color index of every visible point
+     */
+    protected int[] mColorIndexBuffer = new int[1];
+
+    /**
+     * buffer for the number of visible points per color
+     */
+    protected int[] mColorCountBuffer = new int[1];
 
     protected void drawDataSet(Canvas c, IScatterDataSet dataSet) {
 
+        if (dataSet.getEntryCount() < 1)
+            return;
+
         ViewPortHandler viewPortHandler = mViewPortHandler;
 
         Transformer trans = mChart.getTransformer(dataSet.getAxisDependency());
@@ -61,30 +88,134 @@ public class ScatterChartRenderer extends LineScatterCandleRadarRenderer {
             return;
         }
 
-        int max = (int)(Math.min(
-                Math.ceil((float)dataSet.getEntryCount() * mAnimator.getPhaseX()),
-                (float)dataSet.getEntryCount()));
+        // only the entries inside the visible x-range are looked at
+        mXBounds.set(mChart, dataSet);
+
+        final int from = mXBounds.min;
+        final int count = mXBounds.range + 1;
+
+        if (mPixelBuffer.length < count * 2) {
+            mPixelBuffer = new float[count * 2];
+            mColorIndexBuffer = new int[count];
+        }
+
+        final float[] buffer = mPixelBuffer;
+        final IColumnDataSet columns = dataSet instanceof IColumnDataSet ? (IColumnDataSet) dataSet : null;
+
+        for (int i = 0; i < count; i++) {
+
+            if (columns != null) {
+                buffer[i * 2] = columns.getX(from + i);
+                buffer[i * 2 + 1] = columns.getY(from + i) * phaseY;
+            } else {
+                Entry e = dataSet.getEntryForIndex(from + i);
+                buffer[i * 2] = e.getX();
+                buffer[i * 2 + 1] = e.getY() * phaseY;
+            }
+        }
+
+        // transform all visible points at once
+        trans.getValueToPixelMatrix().mapPoints(buffer, 0, buffer, 0, count);
 
-        for (int i = 0; i < max; i++) {
+        final int colorCount = dataSet.getColors().size();
 
-            Entry e = dataSet.getEntryForIndex(i);
+        // drop the points outside of the content rect and remember their color
+        int visible = 0;
 
-            mPixelBuffer[0] = e.getX();
-            mPixelBuffer[1] = e.getY() * phaseY;
+        for (int i = 0; i < count; i++) {
 
-            trans.pointValuesToPixel(mPixelBuffer);
+            final float x = buffer[i * 2];
+            final float y = buffer[i * 2 + 1];
 
-            if (!viewPortHandler.isInBoundsRight(mPixelBuffer[0]))
+            if (!viewPortHandler.isInBoundsRight(x))
                 break;
 
-            if (!viewPortHandler.isInBoundsLeft(mPixelBuffer[0])
-                    || !viewPortHandler.isInBoundsY(mPixelBuffer[1]))
+            if (!viewPortHandler.isInBoundsLeft(x)
+                    || !viewPortHandler.isInBoundsY(y))
                 continue;
 
-            mRenderPaint.setColor(dataSet.getColor(i / 2));
+            buffer[visible * 2] = x;
+            buffer[visible * 2 + 1] = y;
+            mColorIndexBuffer[visible] = ((from + i) / 2) % colorCount;
+            visible++;
+        }
+
+        if (visible == 0)
+            return;
+
+        if (colorCount == 1) {
+            mRenderPaint.setColor(dataSet.getColor());
+            drawShapes(c, dataSet, renderer, buffer, 0, visible * 2);
+            return;
+        }
+
+        // group the points by color, so that every color needs only one batch
+        if (mColorCountBuffer.length < colorCount + 1)
+            mColorCountBuffer = new int[colorCount + 1];
+
+        if (mGroupedPixelBuffer.length < visible * 2)
+            mGroupedPixelBuffer = new float[buffer.length];
+
+        final int[] groupStart = mColorCountBuffer;
+        final float[] grouped = mGroupedPixelBuffer;
+
+        Arrays.fill(groupStart, 0, colorCount + 1, 0);
+
+        for (int i = 0; i < visible; i++)
+            groupStart[mColorIndexBuffer[i] + 1]++;
+
+        for (int k = 0; k < colorCount; k++)
+            groupStart[k + 1] += groupStart[k];
+
+        for (int i = 0; i < visible; i++) {
+            final int target = groupStart[mColorIndexBuffer[i]]++ * 2;
+            grouped[target] = buffer[i * 2];
+            grouped[target + 1] = buffer[i * 2 + 1];
+        }
+
+        // after the scattering above, groupStart[k] holds the end of group k
+        int groupFrom = 0;
+
+        for (int k = 0; k < colorCount; k++) {
+
+            final int groupTo = groupStart[k];
+
+            if (groupTo > groupFrom) {
+                mRenderPaint.setColor(dataSet.getColor(k));
+                drawShapes(c, dataSet, renderer, grouped, groupFrom * 2, (groupTo - groupFrom) * 2);
+            }
+
+            groupFrom = groupTo;
+        }
+    }
+
+    /**
+     * Draws the shapes at the given pixel positions in the current color of the render paint,
+     * with a single batch if the IShapeRenderer supports it.
+     */
+    private void drawShapes(Canvas c, IScatterDataSet dataSet, IShapeRenderer renderer,
+                            float[] positions, int offset, int count) {
+
+        if (mRenderStats != null)
+            mRenderStats.addSegmentsDrawn(count / 2);
+
+        if (renderer instanceof IBatchShapeRenderer) {
+            ((IBatchShapeRenderer) renderer).renderShapes(
+                    c, dataSet, mViewPortHandler,
+                    positions, offset, count,
+                    mRenderPaint);
+            return;
+        }
+
+        final int color = mRenderPaint.getColor();
+
+        for (int i = offset; i < offset + count; i += 2) {
+
+            // the shape renderer might change the color (e.g. for the hole)
+            mRenderPaint.setColor(color);
             renderer.renderShape(
                     c, dataSet, mViewPortHandler,
-                    mPixelBuffer[0], mPixelBuffer[1],
+                    positions[i], positions[i + 1],
                     mRenderPaint);
         }
     }
@@ -8,6 +8,7 @@ import android.graphics.Paint.Align;
 import android.graphics.Path;
 import android.graphics.RectF;
 
+import com.github.mikephil.charting.components.AxisBase;
 import com.github.mikephil.charting.components.LimitLine;
 import com.github.mikephil.charting.components.XAxis;
 import com.github.mikephil.charting.components.XAxis.XAxisPosition;
@@ -74,6 +75,13 @@ public class XAxisRenderer extends AxisRenderer {
         computeSize();
     }
 
+    @Override
+    public void setCalculatedAxis(AxisBase axis) {
+        super.setCalculatedAxis(axis);
+
+        computeSize();
+    }
+
     protected void computeSize() {
 
         String longest = mXAxis.getLongestLabel();
@@ -229,6 +237,9 @@ public class XAxisRenderer extends AxisRenderer {
 
     protected void drawLabel(Canvas c, String formattedLabel, float x, float y, MPPointF anchor, float angleDegrees) {
         Utils.drawXAxisValue(c, formattedLabel, x, y, mAxisLabelPaint, anchor, angleDegrees);
+
+        if (mRenderStats != null)
+            mRenderStats.addTextDraws(1);
     }
     protected Path mRenderGridLinesPath = new Path();
     protected float[] mRenderGridLinesBuffer = new float[2];
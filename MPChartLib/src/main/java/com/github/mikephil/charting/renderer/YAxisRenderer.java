@@ -125,6 +125,9 @@ public class YAxisRenderer extends AxisRenderer {
             String text = mYAxis.getFormattedLabel(i);
 
             c.drawText(text, fixedPosition, positions[i * 2 + 1] + offset, mAxisLabelPaint);
+
+            if (mRenderStats != null)
+                mRenderStats.addTextDraws(1);
         }
     }
 
@@ -147,6 +147,9 @@ public class YAxisRendererHorizontalBarChart extends YAxisRenderer {
             String text = mYAxis.getFormattedLabel(i);
 
             c.drawText(text, positions[i * 2], fixedPosition - offset, mAxisLabelPaint);
+
+            if (mRenderStats != null)
+                mRenderStats.addTextDraws(1);
         }
     }
 
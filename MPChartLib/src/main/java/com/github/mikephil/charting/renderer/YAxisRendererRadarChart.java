@@ -170,6 +170,9 @@ public class YAxisRendererRadarChart extends YAxisRenderer {
             String label = mYAxis.getFormattedLabel(j);
 
             c.drawText(label, pOut.x + 10, pOut.y, mAxisLabelPaint);
+
+            if (mRenderStats != null)
+                mRenderStats.addTextDraws(1);
         }
         MPPointF.recycleInstance(center);
         MPPointF.recycleInstance(pOut);
@@ -12,7 +12,7 @@ import com.github.mikephil.charting.utils.ViewPortHandler;
  * Created by wajdic on 15/06/2016.
  * Created at Time 09:08
  */
-public class CircleShapeRenderer implements IShapeRenderer
+public class CircleShapeRenderer implements IBatchShapeRenderer
 {
 
     @Override
@@ -60,4 +60,42 @@ public class CircleShapeRenderer implements IShapeRenderer
 
     }
 
+    @Override
+    public void renderShapes(Canvas c, IScatterDataSet dataSet, ViewPortHandler viewPortHandler,
+                             float[] positions, int offset, int count, Paint renderPaint) {
+
+        final float shapeSize = dataSet.getScatterShapeSize();
+        final float shapeHoleSize = Utils.convertDpToPixel(dataSet.getScatterShapeHoleRadius()) * 2.f;
+        final int shapeHoleColor = dataSet.getScatterShapeHoleColor();
+
+        // a transparent hole cannot be drawn with points, draw the shapes one by one
+        if (shapeHoleSize > 0.f && shapeHoleColor == ColorTemplate.COLOR_NONE) {
+
+            final int color = renderPaint.getColor();
+
+            for (int i = offset; i < offset + count; i += 2) {
+                renderShape(c, dataSet, viewPortHandler, positions[i], positions[i + 1], renderPaint);
+            }
+
+            renderPaint.setColor(color);
+            return;
+        }
+
+        // a point drawn with a round cap is a filled circle with the stroke-width as its size
+        final Paint.Cap cap = renderPaint.getStrokeCap();
+
+        renderPaint.setStyle(Paint.Style.STROKE);
+        renderPaint.setStrokeCap(Paint.Cap.ROUND);
+
+        renderPaint.setStrokeWidth(shapeSize);
+        c.drawPoints(positions, offset, count, renderPaint);
+
+        if (shapeHoleSize > 0.f) {
+            renderPaint.setColor(shapeHoleColor);
+            renderPaint.setStrokeWidth(shapeHoleSize);
+            c.drawPoints(positions, offset, count, renderPaint);
+        }
+
+        renderPaint.setStrokeCap(cap);
+    }
 }
@@ -11,7 +11,7 @@ import com.github.mikephil.charting.utils.ViewPortHandler;
  * Created by wajdic on 15/06/2016.
  * Created at Time 09:08
  */
-public class CrossShapeRenderer implements IShapeRenderer
+public class CrossShapeRenderer implements IBatchShapeRenderer
 {
 
 
@@ -38,4 +38,43 @@ public class CrossShapeRenderer implements IShapeRenderer
                 renderPaint);
 
     }
+
+    /**
+     * buffer for the line segments of all shapes of a batch
+     */
+    protected float[] mLinesBuffer = new float[8];
+
+    @Override
+    public void renderShapes(Canvas c, IScatterDataSet dataSet, ViewPortHandler viewPortHandler,
+                             float[] positions, int offset, int count, Paint renderPaint) {
+
+        final float shapeHalf = dataSet.getScatterShapeSize() / 2f;
+
+        renderPaint.setStyle(Paint.Style.STROKE);
+        renderPaint.setStrokeWidth(Utils.convertDpToPixel(1f));
+
+        // two line segments (8 values) per point
+        if (mLinesBuffer.length < count * 4)
+            mLinesBuffer = new float[count * 4];
+
+        final float[] lines = mLinesBuffer;
+        int j = 0;
+
+        for (int i = offset; i < offset + count; i += 2) {
+
+            final float posX = positions[i];
+            final float posY = positions[i + 1];
+
+            lines[j++] = posX - shapeHalf;
+            lines[j++] = posY;
+            lines[j++] = posX + shapeHalf;
+            lines[j++] = posY;
+            lines[j++] = posX;
+            lines[j++] = posY - shapeHalf;
+            lines[j++] = posX;
+            lines[j++] = posY + shapeHalf;
+        }
+
+        c.drawLines(lines, 0, j, renderPaint);
+    }
 }
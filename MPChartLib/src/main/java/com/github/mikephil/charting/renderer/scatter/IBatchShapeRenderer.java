@@ -0,0 +1,30 @@
+package com.github.mikephil.charting.renderer.scatter;
+
+import android.graphics.Canvas;
+import android.graphics.Paint;
+
+import com.github.mikephil.charting.interfaces.datasets.IScatterDataSet;
+import com.github.mikephil.charting.utils.ViewPortHandler;
+
+/**
+ * IShapeRenderer that is able to draw the shapes of many points with a single draw call
+ * (e.g. drawPoints(...) or drawLines(...)). The ScatterChartRenderer groups the visible
+ * points of a DataSet by color and hands every group to this renderer at once.
+ */
+public interface IBatchShapeRenderer extends IShapeRenderer {
+
+    /**
+     * Renders the shapes for all provided positions. All shapes are drawn in the color the
+     * render paint currently has.
+     *
+     * @param c               Canvas object for drawing the shapes
+     * @param dataSet         The DataSet to be drawn
+     * @param viewPortHandler Contains information about the current state of the view
+     * @param positions       Pixel positions to draw the shapes at (x, y, x, y, ...)
+     * @param offset          Index of the first value to use in the positions array
+     * @param count           Number of values to use in the positions array (twice the number of points)
+     * @param renderPaint     Paint object used for styling and drawing
+     */
+    void renderShapes(Canvas c, IScatterDataSet dataSet, ViewPortHandler viewPortHandler,
+                      float[] positions, int offset, int count, Paint renderPaint);
+}
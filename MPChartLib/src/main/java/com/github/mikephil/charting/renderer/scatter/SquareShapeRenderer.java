@@ -12,7 +12,7 @@ import com.github.mikephil.charting.utils.ViewPortHandler;
  * Created by wajdic on 15/06/2016.
  * Created at Time 09:08
  */
-public class SquareShapeRenderer implements IShapeRenderer
+public class SquareShapeRenderer implements IBatchShapeRenderer
 {
 
 
@@ -60,4 +60,43 @@ public class SquareShapeRenderer implements IShapeRenderer
                     renderPaint);
         }
     }
+
+    @Override
+    public void renderShapes(Canvas c, IScatterDataSet dataSet, ViewPortHandler viewPortHandler,
+                             float[] positions, int offset, int count, Paint renderPaint) {
+
+        final float shapeSize = dataSet.getScatterShapeSize();
+        final float shapeHoleSize = Utils.convertDpToPixel(dataSet.getScatterShapeHoleRadius()) * 2.f;
+        final int shapeHoleColor = dataSet.getScatterShapeHoleColor();
+
+        // a transparent hole cannot be drawn with points, draw the shapes one by one
+        if (shapeHoleSize > 0.f && shapeHoleColor == ColorTemplate.COLOR_NONE) {
+
+            final int color = renderPaint.getColor();
+
+            for (int i = offset; i < offset + count; i += 2) {
+                renderShape(c, dataSet, viewPortHandler, positions[i], positions[i + 1], renderPaint);
+            }
+
+            renderPaint.setColor(color);
+            return;
+        }
+
+        // a point drawn with a square cap is a filled square with the stroke-width as its size
+        final Paint.Cap cap = renderPaint.getStrokeCap();
+
+        renderPaint.setStyle(Paint.Style.STROKE);
+        renderPaint.setStrokeCap(Paint.Cap.SQUARE);
+
+        renderPaint.setStrokeWidth(shapeSize);
+        c.drawPoints(positions, offset, count, renderPaint);
+
+        if (shapeHoleSize > 0.f) {
+            renderPaint.setColor(shapeHoleColor);
+            renderPaint.setStrokeWidth(shapeHoleSize);
+            c.drawPoints(positions, offset, count, renderPaint);
+        }
+
+        renderPaint.setStrokeCap(cap);
+    }
 }
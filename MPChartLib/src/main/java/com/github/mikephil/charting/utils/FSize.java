@@ -17,7 +17,7 @@ public final class FSize extends ObjectPool.Poolable{
     private static ObjectPool<FSize> pool;
 
     static {
-        pool = ObjectPool.create(256, new FSize(0,0));
+        pool = ObjectPool.createThreadLocal(256, new FSize(0,0));
         pool.setReplenishPercentage(0.5f);
     }
 
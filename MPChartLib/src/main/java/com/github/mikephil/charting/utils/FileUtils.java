@@ -7,6 +7,7 @@ import android.util.Log;
 
 import com.github.mikephil.charting.data.BarEntry;
 import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.data.MappedDataSet;
 
 import java.io.BufferedReader;
 import java.io.BufferedWriter;
@@ -188,6 +189,57 @@ public class FileUtils {
         // return ds;
     }
 
+    /**
+     * Converts a textfile in the format read by loadEntriesFromFile(...) into the binary file
+     * format of the MappedDataSet, line by line without loading all entries into memory. Lines
+     * with stacked values are converted to the sum of the values, like the y-value of a
+     * BarEntry. The entries in the textfile must be sorted by x-value.
+     *
+     * @param textFile   the textfile to read
+     * @param mappedFile the binary file to write
+     * @return the number of converted entries
+     * @throws IOException
+     */
+    public static int convertToMappedFile(File textFile, File mappedFile) throws IOException {
+
+        BufferedReader br = new BufferedReader(new FileReader(textFile));
+        MappedDataSet.Writer writer = new MappedDataSet.Writer(mappedFile);
+
+        try {
+            String line;
+
+            while ((line = br.readLine()) != null) {
+
+                if (line.length() == 0)
+                    continue;
+
+                int first = line.indexOf('#');
+                int last = line.lastIndexOf('#');
+
+                if (first == last) {
+                    writer.add(Float.parseFloat(line.substring(0, first)),
+                            Float.parseFloat(line.substring(first + 1)));
+                } else {
+
+                    String[] split = line.split("#");
+
+                    float sum = 0f;
+
+                    for (int i = 0; i < split.length - 1; i++) {
+                        sum += Float.parseFloat(split[i]);
+                    }
+
+                    writer.add(Float.parseFloat(split[split.length - 1]), sum);
+                }
+            }
+        } finally {
+            br.close();
+            writer.close();
+        }
+
+        return writer.getEntryCount();
+    }
+
     /**
      * Saves an Array of Entries to the specified location on the sdcard
      * 
@@ -13,7 +13,7 @@ public class MPPointD extends ObjectPool.Poolable {
     private static ObjectPool<MPPointD> pool;
 
     static {
-        pool = ObjectPool.create(64, new MPPointD(0,0));
+        pool = ObjectPool.createThreadLocal(64, new MPPointD(0,0));
         pool.setReplenishPercentage(0.5f);
     }
 
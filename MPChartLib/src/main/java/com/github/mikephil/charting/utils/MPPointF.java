@@ -16,7 +16,7 @@ public class MPPointF extends ObjectPool.Poolable {
     public float y;
 
     static {
-        pool = ObjectPool.create(32, new MPPointF(0,0));
+        pool = ObjectPool.createThreadLocal(32, new MPPointF(0,0));
         pool.setReplenishPercentage(0.5f);
     }
 
@@ -1,5 +1,8 @@
 package com.github.mikephil.charting.utils;
 
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 
 /**
@@ -13,6 +16,11 @@ import java.util.List;
  *   Benefit - The pool can grow as needed, if it is empty
  *   Cost - However, refilling the pool when it is empty might incur a time cost with sufficiently large capacity.  Set the replenishPercentage to a lower number if this is a concern.
  *
+ * A pool created with create(...) is synchronized.  A pool created with createThreadLocal(...) keeps a separate
+ * stripe of objects for every thread and never locks, so that charts that render or calculate on several threads
+ * do not contend for it.  An object may be recycled on a different thread than it was obtained on, it then moves
+ * to the stripe of the recycling thread.
+ *
  * Created by Tony Patino on 6/20/16.
  */
 public class ObjectPool<T extends ObjectPool.Poolable> {
@@ -26,6 +34,22 @@ public class ObjectPool<T extends ObjectPool.Poolable> {
     private T modelObject;
     private float replenishPercentage;
 
+    /**
+     * diagnostic counters, guarded by the lock of the pool or written only by the thread of the stripe
+     */
+    private final Counters counters = new Counters();
+
+    /**
+     * the stripe of every thread, null if the pool is synchronized
+     */
+    private ThreadLocal<ObjectPool<T>> threadPools;
+
+    /**
+     * all stripes that were created, for the counters.  The stripes of terminated threads are garbage collected,
+     * their counters are then folded into the counters of this pool.
+     */
+    private List<StripeReference<T>> stripes;
+
 
     /**
      * Returns the id of the given pool instance.
@@ -51,16 +75,70 @@ public class ObjectPool<T extends ObjectPool.Poolable> {
         return result;
     }
 
+    /**
+     * Returns an ObjectPool instance that keeps a separate stripe of the given starting capacity for every thread
+     * that uses it.  get() and recycle(...) do not lock, each thread only ever accesses its own stripe.
+     *
+     * @param withCapacity A positive integer value, the starting capacity of each stripe.
+     * @param object An instance of the object that the pool should recycle.
+     * @return
+     */
+    public static synchronized ObjectPool createThreadLocal(int withCapacity, Poolable object){
+        final ObjectPool result = new ObjectPool(withCapacity, object, false);
+        result.poolId = ids;
+        ids++;
+
+        result.stripes = new ArrayList<>();
+        result.threadPools = new ThreadLocal<ObjectPool>() {
+            @Override
+            protected ObjectPool initialValue() {
+                return result.createStripe();
+            }
+        };
+
+        return result;
+    }
+
+    private synchronized ObjectPool<T> createStripe(){
+        ObjectPool<T> stripe = new ObjectPool<>(desiredCapacity, modelObject);
+        stripe.poolId = poolId;
+        stripe.setReplenishPercentage(replenishPercentage);
+        getStripes();
+        stripes.add(new StripeReference<>(stripe));
+        return stripe;
+    }
+
+    /**
+     * Returns true if this pool keeps a separate stripe for every thread and does not lock.
+     *
+     * @return
+     */
+    public boolean isThreadLocal(){
+        return threadPools != null;
+    }
+
     private ObjectPool(int withCapacity, T object){
+        this(withCapacity, object, true);
+    }
+
+    /**
+     * @param fill false for the parent of thread-local stripes, which does not hold any objects itself
+     */
+    private ObjectPool(int withCapacity, T object, boolean fill){
         if(withCapacity <= 0){
             throw new IllegalArgumentException("Object Pool must be instantiated with a capacity greater than 0!");
         }
         this.desiredCapacity = withCapacity;
-        this.objects = new Object[this.desiredCapacity];
-        this.objectsPointer = 0;
         this.modelObject = object;
         this.replenishPercentage = 1.0f;
-        this.refillPool();
+
+        if(fill){
+            this.objects = new Object[this.desiredCapacity];
+            this.objectsPointer = 0;
+            this.refillPool();
+        }else {
+            this.objectsPointer = -1;
+        }
     }
 
     /**
@@ -77,7 +155,15 @@ public class ObjectPool<T extends ObjectPool.Poolable> {
         else if(p < 0f){
             p = 0f;
         }
-        this.replenishPercentage = p;
+        synchronized (this) {
+            this.replenishPercentage = p;
+
+            if(stripes != null){
+                for(ObjectPool<T> stripe : getStripes()){
+                    stripe.replenishPercentage = p;
+                }
+            }
+        }
     }
 
     public float getReplenishPercentage(){
@@ -101,6 +187,7 @@ public class ObjectPool<T extends ObjectPool.Poolable> {
             this.objects[i] = modelObject.instantiate();
         }
         objectsPointer = portionOfCapacity - 1;
+        counters.replenishCount++;
     }
 
     /**
@@ -110,10 +197,23 @@ public class ObjectPool<T extends ObjectPool.Poolable> {
      *
      * @return An instance of Poolable object T
      */
-    public synchronized T get(){
+    public T get(){
+        if(threadPools != null){
+            return threadPools.get().obtain();
+        }
+
+        synchronized (this) {
+            return obtain();
+        }
+    }
+
+    private T obtain(){
 
         if(this.objectsPointer == -1 && this.replenishPercentage > 0.0f){
+            counters.missCount++;
             this.refillPool();
+        } else {
+            counters.hitCount++;
         }
 
         T result = (T)objects[this.objectsPointer];
@@ -129,7 +229,18 @@ public class ObjectPool<T extends ObjectPool.Poolable> {
      *
      * @param object An object of type T to recycle
      */
-    public synchronized void recycle(T object){
+    public void recycle(T object){
+        if(threadPools != null){
+            threadPools.get().store(object);
+            return;
+        }
+
+        synchronized (this) {
+            store(object);
+        }
+    }
+
+    private void store(T object){
         if(object.currentOwnerId != Poolable.NO_OWNER){
             if(object.currentOwnerId == this.poolId){
                 throw new IllegalArgumentException("The object passed is already stored in this pool!");
@@ -154,7 +265,18 @@ public class ObjectPool<T extends ObjectPool.Poolable> {
      *
      * @param objects A list of objects of type T to recycle
      */
-    public synchronized void recycle(List<T> objects){
+    public void recycle(List<T> objects){
+        if(threadPools != null){
+            threadPools.get().storeAll(objects);
+            return;
+        }
+
+        synchronized (this) {
+            storeAll(objects);
+        }
+    }
+
+    private void storeAll(List<T> objects){
         while(objects.size() + this.objectsPointer + 1 > this.desiredCapacity){
             this.resizePool();
         }
@@ -191,21 +313,125 @@ public class ObjectPool<T extends ObjectPool.Poolable> {
      * to contain additional objects if the user tries to add more objects than the pool's
      * capacity allows, but this comes at a performance cost.
      *
+     * For a thread-local pool, the capacity of the stripe of the calling thread is returned.
+     *
      * @return The capacity of the pool.
      */
     public int getPoolCapacity(){
+        if(threadPools != null){
+            return threadPools.get().getPoolCapacity();
+        }
         return this.objects.length;
     }
 
     /**
      * Returns the number of objects remaining in the pool, for diagnostic purposes.
      *
+     * For a thread-local pool, the number of objects in the stripe of the calling thread is returned.
+     *
      * @return The number of objects remaining in the pool.
      */
     public int getPoolCount(){
+        if(threadPools != null){
+            return threadPools.get().getPoolCount();
+        }
         return this.objectsPointer + 1;
     }
 
+    /**
+     * Returns the number of get() calls that were served with an object that was in the pool, for diagnostic
+     * purposes.  For a thread-local pool, the counts of all stripes are summed up without synchronizing with the
+     * threads that use them, so the result may lag behind slightly.
+     *
+     * @return
+     */
+    public synchronized long getHitCount(){
+        long count = counters.hitCount;
+        if(stripes != null){
+            for(StripeReference<T> stripe : stripes){
+                count += stripe.counters.hitCount;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the number of get() calls that found the pool empty, for diagnostic purposes.
+     *
+     * @return
+     */
+    public synchronized long getMissCount(){
+        long count = counters.missCount;
+        if(stripes != null){
+            for(StripeReference<T> stripe : stripes){
+                count += stripe.counters.missCount;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the number of times the pool was filled with new instances, including the initial fill, for
+     * diagnostic purposes.
+     *
+     * @return
+     */
+    public synchronized long getReplenishCount(){
+        long count = counters.replenishCount;
+        if(stripes != null){
+            for(StripeReference<T> stripe : stripes){
+                count += stripe.counters.replenishCount;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the stripes that are still alive and drops the ones that were garbage collected, after adding their
+     * counts to the counters of this pool.  Must be called while holding the lock of this pool.
+     */
+    private List<ObjectPool<T>> getStripes(){
+        List<ObjectPool<T>> result = new ArrayList<>(stripes.size());
+        Iterator<StripeReference<T>> iterator = stripes.iterator();
+
+        while(iterator.hasNext()){
+            StripeReference<T> reference = iterator.next();
+            ObjectPool<T> stripe = reference.get();
+            if(stripe == null){
+                counters.hitCount += reference.counters.hitCount;
+                counters.missCount += reference.counters.missCount;
+                counters.replenishCount += reference.counters.replenishCount;
+                iterator.remove();
+            }else {
+                result.add(stripe);
+            }
+        }
+        return result;
+    }
+
+
+    /**
+     * The diagnostic counters of a pool.  Volatile, so that the counts of a stripe are visible to other threads;
+     * each instance only ever has one writer at a time.
+     */
+    private static final class Counters{
+        volatile long hitCount;
+        volatile long missCount;
+        volatile long replenishCount;
+    }
+
+    /**
+     * Weakly references a stripe, but keeps its counters after it was garbage collected.
+     */
+    private static final class StripeReference<T extends Poolable> extends WeakReference<ObjectPool<T>>{
+
+        final Counters counters;
+
+        StripeReference(ObjectPool<T> stripe){
+            super(stripe);
+            this.counters = stripe.counters;
+        }
+    }
 
     public static abstract class Poolable{
 
@@ -0,0 +1,191 @@
+package com.github.mikephil.charting.utils;
+
+import com.github.mikephil.charting.interfaces.datasets.IDataSet;
+
+/**
+ * Timings (in nanoseconds) and counts of a single drawn frame of a chart, reported to an
+ * OnRenderStatsListener. The chart and its renderers only record into this object while a
+ * listener is set, and the same object is reused for every frame.
+ */
+public class RenderStats {
+
+    /**
+     * the phases a frame is split into
+     */
+    public enum Phase {
+        AUTO_SCALE, COMPUTE_AXIS, GRID, DATA, VALUES, HIGHLIGHT, LEGEND, MARKERS
+    }
+
+    private static final Phase[] PHASES = Phase.values();
+
+    private final long[] mPhaseNanos = new long[PHASES.length];
+
+    private long mFrameNanos;
+
+    // the drawing time of every drawn DataSet, only the first mDataSetCount are valid
+    private IDataSet[] mDataSets = new IDataSet[4];
+    private long[] mDataSetNanos = new long[4];
+    private int mDataSetCount;
+
+    private int mEntriesVisited;
+    private int mSegmentsDrawn;
+    private int mTextDraws;
+
+    /**
+     * Clears all values, called by the chart at the start of every frame.
+     */
+    public void reset() {
+
+        for (int i = 0; i < mPhaseNanos.length; i++)
+            mPhaseNanos[i] = 0;
+
+        // don't keep references to removed DataSets
+        for (int i = 0; i < mDataSetCount; i++)
+            mDataSets[i] = null;
+
+        mFrameNanos = 0;
+        mDataSetCount = 0;
+        mEntriesVisited = 0;
+        mSegmentsDrawn = 0;
+        mTextDraws = 0;
+    }
+
+    public void addPhaseNanos(Phase phase, long nanos) {
+        mPhaseNanos[phase.ordinal()] += nanos;
+    }
+
+    public void setFrameNanos(long nanos) {
+        mFrameNanos = nanos;
+    }
+
+    public void addDataSetNanos(IDataSet set, long nanos) {
+
+        for (int i = 0; i < mDataSetCount; i++) {
+            if (mDataSets[i] == set) {
+                mDataSetNanos[i] += nanos;
+                return;
+            }
+        }
+
+        if (mDataSetCount == mDataSets.length) {
+            IDataSet[] sets = new IDataSet[mDataSetCount * 2];
+            long[] nanosArray = new long[mDataSetCount * 2];
+            System.arraycopy(mDataSets, 0, sets, 0, mDataSetCount);
+            System.arraycopy(mDataSetNanos, 0, nanosArray, 0, mDataSetCount);
+            mDataSets = sets;
+            mDataSetNanos = nanosArray;
+        }
+
+        mDataSets[mDataSetCount] = set;
+        mDataSetNanos[mDataSetCount] = nanos;
+        mDataSetCount++;
+    }
+
+    public void addEntriesVisited(int count) {
+        mEntriesVisited += count;
+    }
+
+    public void addSegmentsDrawn(int count) {
+        mSegmentsDrawn += count;
+    }
+
+    public void addTextDraws(int count) {
+        mTextDraws += count;
+    }
+
+    /**
+     * Returns the time spent in the given phase.
+     *
+     * @param phase
+     * @return
+     */
+    public long getPhaseNanos(Phase phase) {
+        return mPhaseNanos[phase.ordinal()];
+    }
+
+    /**
+     * Returns the time of the whole onDraw(...) call.
+     *
+     * @return
+     */
+    public long getFrameNanos() {
+        return mFrameNanos;
+    }
+
+    /**
+     * Returns the number of DataSets that were drawn in this frame.
+     *
+     * @return
+     */
+    public int getDataSetCount() {
+        return mDataSetCount;
+    }
+
+    /**
+     * Returns the DataSet at the given index (between 0 and getDataSetCount() - 1).
+     *
+     * @param index
+     * @return
+     */
+    public IDataSet getDataSet(int index) {
+        return mDataSets[index];
+    }
+
+    /**
+     * Returns the time spent drawing the data of the DataSet at the given index (between 0
+     * and getDataSetCount() - 1).
+     *
+     * @param index
+     * @return
+     */
+    public long getDataSetNanos(int index) {
+        return mDataSetNanos[index];
+    }
+
+    /**
+     * Returns the number of entries the renderers looked at (the visible range of every
+     * drawing pass, e.g. data, values and circles).
+     *
+     * @return
+     */
+    public int getEntriesVisited() {
+        return mEntriesVisited;
+    }
+
+    /**
+     * Returns the number of line segments, curves, bars, candles, bubbles and shapes drawn.
+     *
+     * @return
+     */
+    public int getSegmentsDrawn() {
+        return mSegmentsDrawn;
+    }
+
+    /**
+     * Returns the number of drawn texts (values, axis labels and legend labels).
+     *
+     * @return
+     */
+    public int getTextDraws() {
+        return mTextDraws;
+    }
+
+    @Override
+    public String toString() {
+
+        StringBuilder builder = new StringBuilder();
+        builder.append("RenderStats, frame: ").append(mFrameNanos).append(" ns");
+
+        for (Phase phase : PHASES)
+            builder.append(", ").append(phase).append(": ").append(mPhaseNanos[phase.ordinal()]).append(" ns");
+
+        for (int i = 0; i < mDataSetCount; i++)
+            builder.append(", DataSet ").append(mDataSets[i].getLabel()).append(": ").append(mDataSetNanos[i]).append(" ns");
+
+        builder.append(", entries visited: ").append(mEntriesVisited)
+                .append(", segments drawn: ").append(mSegmentsDrawn)
+                .append(", text draws: ").append(mTextDraws);
+
+        return builder.toString();
+    }
+}
@@ -0,0 +1,261 @@
+package com.github.mikephil.charting.utils;
+
+import android.graphics.Paint;
+import android.graphics.Rect;
+import android.graphics.Typeface;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bounded least-recently-used cache for the width and the bounds of texts, so that labels
+ * that are laid out again and again (axis labels, legend entries, limit line labels) are not
+ * measured with the Paint every time. The key is the text together with everything of the
+ * Paint that changes its size: typeface, text size, text scale and flags. A Paint that is
+ * changed therefore simply misses the cache, call clear() if a Typeface instance is modified.
+ * <p/>
+ * Utils.calcTextWidth(...), calcTextHeight(...) and calcTextSize(...) use one cache that is
+ * shared by all charts, see Utils.getTextMetricsCache().
+ */
+public class TextMetricsCache {
+
+    /**
+     * texts longer than this are measured, but not cached
+     */
+    public static final int MAX_CACHED_LENGTH = 64;
+
+    private final int mMaxSize;
+
+    private final LinkedHashMap<Key, Metrics> mCache;
+
+    /**
+     * key that is reused for lookups, so that a hit does not create any objects
+     */
+    private final Key mLookupKey = new Key();
+
+    private final Rect mBoundsBuffer = new Rect();
+
+    /**
+     * metrics of the last text that was too long to be cached
+     */
+    private final Metrics mUncachedMetrics = new Metrics();
+
+    private long mHitCount = 0;
+    private long mMissCount = 0;
+
+    /**
+     * @param maxSize the maximum number of texts that are cached
+     */
+    public TextMetricsCache(int maxSize) {
+
+        if (maxSize < 1)
+            throw new IllegalArgumentException("maxSize must be at least 1");
+
+        mMaxSize = maxSize;
+
+        // access order, the eldest entry is the least recently used one
+        mCache = new LinkedHashMap<Key, Metrics>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Metrics> eldest) {
+                return size() > mMaxSize;
+            }
+        };
+    }
+
+    /**
+     * Returns the width of the given text as measured by Paint.measureText(...).
+     *
+     * @param paint
+     * @param text
+     * @return
+     */
+    public synchronized float getWidth(Paint paint, String text) {
+
+        Metrics metrics = getMetrics(paint, text);
+
+        if (metrics == null)
+            return paint.measureText(text);
+
+        if (Float.isNaN(metrics.width))
+            metrics.width = paint.measureText(text);
+
+        return metrics.width;
+    }
+
+    /**
+     * Writes the width and height of the bounds of the given text, as measured by
+     * Paint.getTextBounds(...), into the given FSize.
+     *
+     * @param paint
+     * @param text
+     * @param outputFSize
+     */
+    public synchronized void getBounds(Paint paint, String text, FSize outputFSize) {
+
+        Metrics metrics = getBoundsMetrics(paint, text);
+
+        outputFSize.width = metrics.boundsWidth;
+        outputFSize.height = metrics.boundsHeight;
+    }
+
+    /**
+     * Returns the height of the bounds of the given text, as measured by
+     * Paint.getTextBounds(...).
+     *
+     * @param paint
+     * @param text
+     * @return
+     */
+    public synchronized int getBoundsHeight(Paint paint, String text) {
+        return getBoundsMetrics(paint, text).boundsHeight;
+    }
+
+    /**
+     * Returns the metrics of the given text with measured bounds. For texts that are too long
+     * to be cached, a reused Metrics object is returned.
+     */
+    private Metrics getBoundsMetrics(Paint paint, String text) {
+
+        Metrics metrics = getMetrics(paint, text);
+
+        if (metrics == null) {
+            metrics = mUncachedMetrics;
+            metrics.boundsWidth = -1;
+        }
+
+        if (metrics.boundsWidth < 0) {
+
+            Rect r = mBoundsBuffer;
+            r.set(0, 0, 0, 0);
+            paint.getTextBounds(text, 0, text.length(), r);
+
+            metrics.boundsWidth = r.width();
+            metrics.boundsHeight = r.height();
+        }
+
+        return metrics;
+    }
+
+    /**
+     * Returns the cached metrics of the given text with the given paint, creates them if they
+     * are not cached yet. Returns null if the text is too long to be cached.
+     */
+    private Metrics getMetrics(Paint paint, String text) {
+
+        if (text.length() > MAX_CACHED_LENGTH)
+            return null;
+
+        mLookupKey.set(paint, text);
+
+        Metrics metrics = mCache.get(mLookupKey);
+
+        if (metrics != null) {
+            mHitCount++;
+            return metrics;
+        }
+
+        mMissCount++;
+
+        Key key = new Key();
+        key.set(paint, text);
+
+        metrics = new Metrics();
+        mCache.put(key, metrics);
+
+        return metrics;
+    }
+
+    /**
+     * Removes all cached metrics.
+     */
+    public synchronized void clear() {
+        mCache.clear();
+    }
+
+    /**
+     * Returns the number of cached texts.
+     *
+     * @return
+     */
+    public synchronized int size() {
+        return mCache.size();
+    }
+
+    public int getMaxSize() {
+        return mMaxSize;
+    }
+
+    /**
+     * Returns the number of lookups that found the text in the cache, for diagnostic purposes.
+     *
+     * @return
+     */
+    public synchronized long getHitCount() {
+        return mHitCount;
+    }
+
+    /**
+     * Returns the number of lookups that did not find the text in the cache, for diagnostic
+     * purposes.
+     *
+     * @return
+     */
+    public synchronized long getMissCount() {
+        return mMissCount;
+    }
+
+    private static final class Key {
+
+        String text;
+        Typeface typeface;
+        float textSize;
+        float textScaleX;
+        int flags;
+
+        int hash;
+
+        void set(Paint paint, String text) {
+
+            this.text = text;
+            this.typeface = paint.getTypeface();
+            this.textSize = paint.getTextSize();
+            this.textScaleX = paint.getTextScaleX();
+            this.flags = paint.getFlags();
+
+            int h = text.hashCode();
+            h = 31 * h + (typeface == null ? 0 : typeface.hashCode());
+            h = 31 * h + Float.floatToIntBits(textSize);
+            h = 31 * h + Float.floatToIntBits(textScaleX);
+            h = 31 * h + flags;
+            hash = h;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+
+            if (!(o instanceof Key))
+                return false;
+
+            Key other = (Key) o;
+
+            return hash == other.hash
+                    && typeface == other.typeface
+                    && textSize == other.textSize
+                    && textScaleX == other.textScaleX
+                    && flags == other.flags
+                    && text.equals(other.text);
+        }
+    }
+
+    private static final class Metrics {
+
+        float width = Float.NaN;
+        int boundsWidth = -1;
+        int boundsHeight = -1;
+    }
+}
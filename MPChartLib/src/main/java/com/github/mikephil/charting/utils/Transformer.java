@@ -9,6 +9,7 @@ import com.github.mikephil.charting.data.CandleEntry;
 import com.github.mikephil.charting.data.Entry;
 import com.github.mikephil.charting.interfaces.datasets.IBubbleDataSet;
 import com.github.mikephil.charting.interfaces.datasets.ICandleDataSet;
+import com.github.mikephil.charting.interfaces.datasets.IColumnDataSet;
 import com.github.mikephil.charting.interfaces.datasets.ILineDataSet;
 import com.github.mikephil.charting.interfaces.datasets.IScatterDataSet;
 
@@ -179,6 +180,20 @@ public class Transformer {
         }
         float[] valuePoints = valuePointsForGenerateTransformedValuesLine;
 
+        if (data instanceof IColumnDataSet) {
+
+            IColumnDataSet columns = (IColumnDataSet) data;
+
+            for (int j = 0; j < count; j += 2) {
+                valuePoints[j] = columns.getX(j / 2 + min);
+                valuePoints[j + 1] = columns.getY(j / 2 + min) * phaseY;
+            }
+
+            getValueToPixelMatrix().mapPoints(valuePoints);
+
+            return valuePoints;
+        }
+
         for (int j = 0; j < count; j += 2) {
 
             Entry e = data.getEntryForIndex(j / 2 + min);
@@ -272,6 +287,22 @@ public class Transformer {
         mMatrixOffset.mapPoints(pts);
     }
 
+    /**
+     * Transforms only the first count values (count / 2 points) of the given array with all
+     * matrices.
+     *
+     * @param pts
+     * @param count
+     */
+    public void pointValuesToPixel(float[] pts, int count) {
+
+        final int pointCount = count / 2;
+
+        mMatrixValueToPx.mapPoints(pts, 0, pts, 0, pointCount);
+        mViewPortHandler.getMatrixTouch().mapPoints(pts, 0, pts, 0, pointCount);
+        mMatrixOffset.mapPoints(pts, 0, pts, 0, pointCount);
+    }
+
     /**
      * Transform a rectangle with all matrices.
      *
@@ -433,6 +464,17 @@ public class Transformer {
         return MPPointD.getInstance(xPx, yPx);
     }
 
+    public void getPixelForValues(float x, float y, MPPointD outputPoint) {
+
+        ptsBuffer[0] = x;
+        ptsBuffer[1] = y;
+
+        pointValuesToPixel(ptsBuffer);
+
+        outputPoint.x = ptsBuffer[0];
+        outputPoint.y = ptsBuffer[1];
+    }
+
     public Matrix getValueMatrix() {
         return mMatrixValueToPx;
     }
@@ -145,9 +145,43 @@ public abstract class Utils {
      * @return
      */
     public static int calcTextWidth(Paint paint, String demoText) {
+
+        if (mTextMetricsCache != null)
+            return (int) mTextMetricsCache.getWidth(paint, demoText);
+
         return (int) paint.measureText(demoText);
     }
 
+    /**
+     * cache for the metrics of texts measured with calcTextWidth(...), calcTextHeight(...) and
+     * calcTextSize(...), null if disabled
+     */
+    private static TextMetricsCache mTextMetricsCache = new TextMetricsCache(512);
+
+    /**
+     * Returns the cache that calcTextWidth(...), calcTextHeight(...) and calcTextSize(...) use
+     * to avoid measuring the same labels over and over, null if it is disabled.
+     *
+     * @return
+     */
+    public static TextMetricsCache getTextMetricsCache() {
+        return mTextMetricsCache;
+    }
+
+    /**
+     * Enables or disables the cache for text metrics that is shared by all charts. Disabling it
+     * drops all cached metrics. Default: enabled
+     *
+     * @param enabled
+     */
+    public static void setTextMetricsCacheEnabled(boolean enabled) {
+
+        if (!enabled)
+            mTextMetricsCache = null;
+        else if (mTextMetricsCache == null)
+            mTextMetricsCache = new TextMetricsCache(512);
+    }
+
     private static Rect mCalcTextHeightRect = new Rect();
     /**
      * calculates the approximate height of a text, depending on a demo text
@@ -159,6 +193,9 @@ public abstract class Utils {
      */
     public static int calcTextHeight(Paint paint, String demoText) {
 
+        if (mTextMetricsCache != null)
+            return mTextMetricsCache.getBoundsHeight(paint, demoText);
+
         Rect r = mCalcTextHeightRect;
         r.set(0,0,0,0);
         paint.getTextBounds(demoText, 0, demoText.length(), r);
@@ -212,6 +249,11 @@ public abstract class Utils {
      */
     public static void calcTextSize(Paint paint, String demoText, FSize outputFSize) {
 
+        if (mTextMetricsCache != null) {
+            mTextMetricsCache.getBounds(paint, demoText, outputFSize);
+            return;
+        }
+
         Rect r = mCalcTextSizeRect;
         r.set(0,0,0,0);
         paint.getTextBounds(demoText, 0, demoText.length(), r);
@@ -776,4 +818,31 @@ public abstract class Utils {
     public static int getSDKInt() {
         return android.os.Build.VERSION.SDK_INT;
     }
+
+    /**
+     * Returns true if Canvas.drawLines(...) applies the PathEffect of the paint (e.g. dashes)
+     * on a canvas of the given kind. Hardware accelerated canvases ignore it before API 28.
+     *
+     * @param hardwareAccelerated
+     * @param sdkInt
+     * @return
+     */
+    public static boolean isLinePathEffectSupported(boolean hardwareAccelerated, int sdkInt) {
+        return !hardwareAccelerated || sdkInt >= 28;
+    }
+
+    /**
+     * Returns true if a path of the given size in pixels can be drawn onto a hardware
+     * accelerated canvas with the given maximum bitmap size. Larger paths do not fit into a
+     * texture and are not drawn at all.
+     *
+     * @param width
+     * @param height
+     * @param maxBitmapWidth
+     * @param maxBitmapHeight
+     * @return
+     */
+    public static boolean isPathDrawable(float width, float height, int maxBitmapWidth, int maxBitmapHeight) {
+        return width <= maxBitmapWidth && height <= maxBitmapHeight;
+    }
 }
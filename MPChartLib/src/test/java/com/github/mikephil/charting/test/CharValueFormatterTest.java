@@ -0,0 +1,60 @@
+package com.github.mikephil.charting.test;
+
+import com.github.mikephil.charting.formatter.CharValueFormatter;
+import com.github.mikephil.charting.formatter.DefaultValueFormatter;
+import com.github.mikephil.charting.formatter.ValueLabelCache;
+
+import org.junit.Test;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertNull;
+
+public class CharValueFormatterTest {
+
+    @Test
+    public void testSameAsDefaultFormatter() {
+
+        float[] values = new float[]{
+                0f, 1f, -1f, 5.5f, 12.34f, -12.34f, 999.99f, 1000f, 1234567.8f, -98765.4f,
+                0.004f, -0.004f, 0.06f, 3.14159f, 123456789f, 1e20f, -1e20f,
+                Float.NaN, Float.POSITIVE_INFINITY, Float.NEGATIVE_INFINITY
+        };
+
+        for (int digits = 0; digits <= 3; digits++) {
+
+            DefaultValueFormatter expected = new DefaultValueFormatter(digits);
+            CharValueFormatter formatter = new CharValueFormatter(digits);
+
+            char[] out = new char[64];
+
+            for (float value : values) {
+                String label = expected.getFormattedValue(value, null, 0, null);
+
+                assertEquals(label, formatter.getFormattedValue(value, null, 0, null));
+
+                int length = formatter.getFormattedValue(value, null, 0, null, out);
+                assertEquals(label, new String(out, 0, length));
+            }
+        }
+    }
+
+    @Test
+    public void testValueLabelCache() {
+
+        ValueLabelCache cache = new ValueLabelCache(4);
+
+        assertNull(cache.get(1f));
+
+        cache.put(1f, "1");
+        assertEquals("1", cache.get(1f));
+        assertNull(cache.get(2f));
+
+        // -0 and 0 are different keys
+        cache.put(0f, "0");
+        assertNull(cache.get(-0f));
+
+        cache.clear();
+        assertNull(cache.get(1f));
+        assertNull(cache.get(0f));
+    }
+}
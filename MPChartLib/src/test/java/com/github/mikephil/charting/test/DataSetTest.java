@@ -2,12 +2,20 @@ package com.github.mikephil.charting.test;
 
 import com.github.mikephil.charting.data.DataSet;
 import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.data.FloatColumnDataSet;
+import com.github.mikephil.charting.data.MappedDataSet;
+import com.github.mikephil.charting.data.RingBufferDataSet;
 import com.github.mikephil.charting.data.ScatterDataSet;
+import com.github.mikephil.charting.utils.FileUtils;
 
 import org.junit.Test;
 
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
 
 import static junit.framework.Assert.assertEquals;
 import static junit.framework.Assert.assertFalse;
@@ -235,4 +243,345 @@ public class DataSetTest {
         assertEquals(1, entries.size());
         assertEquals(30, entries.get(0).getY(), 0.01f);
     }
+
+    @Test
+    public void testFloatColumnDataSet() {
+
+        FloatColumnDataSet set = new FloatColumnDataSet(2, "");
+
+        set.addEntry(10, 10);
+        set.addEntry(15, 2);
+        set.addEntry(21, 5);
+
+        assertEquals(3, set.getEntryCount());
+
+        assertEquals(10f, set.getXMin(), 0.01f);
+        assertEquals(21f, set.getXMax(), 0.01f);
+        assertEquals(2f, set.getYMin(), 0.01f);
+        assertEquals(10f, set.getYMax(), 0.01f);
+
+        set.addEntryOrdered(new Entry(5, 1));
+        set.addEntryOrdered(new Entry(15, 3));
+
+        assertEquals(5, set.getEntryCount());
+
+        assertEquals(5, set.getX(0), 0.01f);
+        assertEquals(1, set.getY(0), 0.01f);
+        assertEquals(15, set.getX(3), 0.01f);
+        assertEquals(3, set.getY(3), 0.01f);
+
+        assertEquals(1f, set.getYMin(), 0.01f);
+
+        assertEquals(2, set.getEntriesForXValue(15).size());
+        assertEquals(3, set.getEntryForXValue(15, 2.9f).getY(), 0.01f);
+        assertEquals(15, set.getEntryForXValue(17, Float.NaN, DataSet.Rounding.DOWN).getX(), 0.01f);
+        assertEquals(4, set.getEntryIndex(17, Float.NaN, DataSet.Rounding.UP));
+
+        Entry e = set.getEntryForIndex(1);
+        assertEquals(1, set.getEntryIndex(e));
+        assertTrue(set.contains(e));
+
+        assertTrue(set.removeEntry(e));
+        assertEquals(4, set.getEntryCount());
+        assertEquals(15, set.getX(1), 0.01f);
+
+        assertTrue(set.removeFirst());
+        assertEquals(2f, set.getYMin(), 0.01f);
+        assertEquals(15f, set.getXMin(), 0.01f);
+
+        FloatColumnDataSet copy = (FloatColumnDataSet) set.copy();
+        assertEquals(3, copy.getEntryCount());
+        assertEquals(21, copy.getX(2), 0.01f);
+
+        set.clear();
+        assertEquals(0, set.getEntryCount());
+        assertFalse(set.removeLast());
+    }
+
+    @Test
+    public void testCalcMinMaxYRange() {
+
+        List<Entry> entries = new ArrayList<Entry>();
+
+        for (int i = 0; i < 1000; i++)
+            entries.add(new Entry(i, (i * 37) % 101));
+
+        ScatterDataSet set = new ScatterDataSet(entries, "");
+
+        set.calcMinMaxY(10, 14);
+        assertEquals(3f, set.getYMin(), 0.01f);
+        assertEquals(77f, set.getYMax(), 0.01f);
+
+        set.calcMinMaxY(0, 999);
+        assertEquals(0f, set.getYMin(), 0.01f);
+        assertEquals(100f, set.getYMax(), 0.01f);
+
+        // removing at both ends and appending is done incrementally
+        for (int i = 0; i < 500; i++) {
+            set.removeFirst();
+            set.addEntry(new Entry(1000 + i, -i));
+        }
+
+        set.removeLast();
+
+        assertEquals(999, set.getEntryCount());
+        assertEquals(500f, set.getXMin(), 0.01f);
+        assertEquals(1498f, set.getXMax(), 0.01f);
+        assertEquals(-498f, set.getYMin(), 0.01f);
+        assertEquals(100f, set.getYMax(), 0.01f);
+
+        set.calcMinMaxY(1200, 1300);
+        assertEquals(-300f, set.getYMin(), 0.01f);
+        assertEquals(-200f, set.getYMax(), 0.01f);
+
+        set.calcMinMaxY(600, 602);
+        assertEquals(Math.min(Math.min((600 * 37) % 101, (601 * 37) % 101), (602 * 37) % 101), set.getYMin(), 0.01f);
+    }
+
+    @Test
+    public void testRingBufferDataSet() {
+
+        RingBufferDataSet set = new RingBufferDataSet(4, "");
+
+        set.addEntry(0, 5);
+        set.addEntry(1, 1);
+        set.addEntry(2, 3);
+        set.addEntry(3, 2);
+
+        assertTrue(set.isFull());
+        assertEquals(1f, set.getYMin(), 0.01f);
+        assertEquals(5f, set.getYMax(), 0.01f);
+
+        // evicts (0, 5)
+        set.addEntry(4, 4);
+
+        assertEquals(4, set.getEntryCount());
+        assertEquals(1f, set.getXMin(), 0.01f);
+        assertEquals(4f, set.getXMax(), 0.01f);
+        assertEquals(1f, set.getYMin(), 0.01f);
+        assertEquals(4f, set.getYMax(), 0.01f);
+
+        // evicts (1, 1)
+        set.addEntry(5, 6);
+
+        assertEquals(2f, set.getYMin(), 0.01f);
+        assertEquals(6f, set.getYMax(), 0.01f);
+
+        assertEquals(2f, set.getX(0), 0.01f);
+        assertEquals(5f, set.getX(3), 0.01f);
+        assertEquals(3, set.getEntryIndex(4.6f, Float.NaN, DataSet.Rounding.UP));
+        assertEquals(2, set.getEntryIndex(4.6f, Float.NaN, DataSet.Rounding.DOWN));
+        assertEquals(3f, set.getEntryForXValue(2, Float.NaN).getY(), 0.01f);
+
+        set.removeEntryByXValue(4);
+
+        assertEquals(3, set.getEntryCount());
+        assertEquals(5f, set.getX(2), 0.01f);
+        assertEquals(2f, set.getYMin(), 0.01f);
+
+        set.removeFirst();
+        set.removeFirst();
+
+        assertEquals(1, set.getEntryCount());
+        assertEquals(6f, set.getYMin(), 0.01f);
+        assertEquals(6f, set.getYMax(), 0.01f);
+
+        try {
+            set.addEntry(1, 1);
+            assertTrue(false);
+        } catch (IllegalArgumentException e) {
+            // x-values must be ascending
+        }
+    }
+
+    @Test
+    public void testMappedDataSet() throws IOException {
+
+        File text = File.createTempFile("entries", ".txt");
+        File mapped = File.createTempFile("entries", ".bin");
+
+        try {
+            FileWriter writer = new FileWriter(text);
+            writer.write("1#5\n2#-3\n2#7\n1.5#2.5#4\n10#1\n");
+            writer.close();
+
+            assertEquals(5, FileUtils.convertToMappedFile(text, mapped));
+
+            MappedDataSet set = new MappedDataSet(mapped, "");
+
+            assertEquals(5, set.getEntryCount());
+            assertEquals(1f, set.getXMin(), 0.01f);
+            assertEquals(10f, set.getXMax(), 0.01f);
+            assertEquals(-3f, set.getYMin(), 0.01f);
+            assertEquals(7f, set.getYMax(), 0.01f);
+
+            // stacked values are summed up
+            assertEquals(4f, set.getX(3), 0.01f);
+            assertEquals(4f, set.getY(3), 0.01f);
+
+            assertEquals(1, set.getEntryIndex(2f, -2f, DataSet.Rounding.CLOSEST));
+            assertEquals(2, set.getEntryIndex(2f, 6f, DataSet.Rounding.CLOSEST));
+            assertEquals(4, set.getEntryIndex(6f, Float.NaN, DataSet.Rounding.UP));
+            assertEquals(3, set.getEntryIndex(6f, Float.NaN, DataSet.Rounding.DOWN));
+
+            set.calcMinMaxY(1.5f, 4f);
+            assertEquals(-3f, set.getYMin(), 0.01f);
+            assertEquals(7f, set.getYMax(), 0.01f);
+
+            DataSet<Entry> copy = set.copy();
+            assertEquals(5, copy.getEntryCount());
+            assertEquals(1f, copy.getEntryForIndex(4).getY(), 0.01f);
+
+            try {
+                set.addEntry(11, 1);
+                assertTrue(false);
+            } catch (UnsupportedOperationException e) {
+                // read-only
+            }
+        } finally {
+            text.delete();
+            mapped.delete();
+        }
+    }
+
+    @Test
+    public void testMappedDataSetBlocks() throws IOException {
+
+        File mapped = File.createTempFile("entries", ".bin");
+
+        try {
+            MappedDataSet.Writer writer = new MappedDataSet.Writer(mapped);
+            Random random = new Random(7);
+
+            int count = 200000;
+            float[] ys = new float[count];
+
+            for (int i = 0; i < count; i++) {
+                ys[i] = random.nextFloat() * 1000f - 500f;
+                writer.add(i, ys[i]);
+            }
+
+            writer.close();
+
+            MappedDataSet set = new MappedDataSet(mapped, "");
+
+            // ranges within a block, across blocks and across super blocks
+            int[][] ranges = {{0, count - 1}, {10, 20}, {100, 1000}, {255, 65536 * 2},
+                    {1, 199998}, {131072, 199999}, {65535, 65536}};
+
+            for (int[] range : ranges) {
+
+                float min = Float.MAX_VALUE, max = -Float.MAX_VALUE;
+
+                for (int i = range[0]; i <= range[1]; i++) {
+                    min = Math.min(min, ys[i]);
+                    max = Math.max(max, ys[i]);
+                }
+
+                set.calcMinMaxY(range[0], range[1]);
+                assertEquals(min, set.getYMin(), 0f);
+                assertEquals(max, set.getYMax(), 0f);
+            }
+        } finally {
+            mapped.delete();
+        }
+    }
+
+    @Test
+    public void testVersion() {
+
+        List<Entry> entries = new ArrayList<Entry>();
+        entries.add(new Entry(1, 1));
+        entries.add(new Entry(2, 2));
+
+        ScatterDataSet set = new ScatterDataSet(entries, "");
+
+        int version = set.getVersion();
+
+        set.addEntry(new Entry(3, 3));
+        assertTrue(set.getVersion() != version);
+        version = set.getVersion();
+
+        set.removeEntry(0);
+        assertTrue(set.getVersion() != version);
+        version = set.getVersion();
+
+        // reading does not change the version
+        set.calcMinMaxY(1, 3);
+        set.getEntryForIndex(0);
+        assertEquals(version, set.getVersion());
+
+        set.getEntryForIndex(0).setY(5);
+        set.notifyDataSetChanged();
+        assertTrue(set.getVersion() != version);
+
+        RingBufferDataSet ring = new RingBufferDataSet(2, "");
+        version = ring.getVersion();
+
+        for (int i = 0; i < 3; i++) {
+            ring.addEntry(i, i);
+            assertTrue(ring.getVersion() != version);
+            version = ring.getVersion();
+        }
+    }
+
+    @Test
+    public void testAddEntries() {
+
+        List<Entry> entries = new ArrayList<Entry>();
+        entries.add(new Entry(1, 1));
+        entries.add(new Entry(3, 3));
+        entries.add(new Entry(5, 5));
+
+        ScatterDataSet set = new ScatterDataSet(entries, "");
+
+        List<Entry> appended = new ArrayList<Entry>();
+        appended.add(new Entry(6, 10));
+        appended.add(new Entry(7, -1));
+
+        set.addEntries(appended);
+
+        assertEquals(5, set.getEntryCount());
+        assertEquals(7f, set.getXMax(), 0.01f);
+        assertEquals(-1f, set.getYMin(), 0.01f);
+        assertEquals(10f, set.getYMax(), 0.01f);
+
+        List<Entry> merged = new ArrayList<Entry>();
+        merged.add(new Entry(0, 0));
+        merged.add(new Entry(3, 30));
+        merged.add(new Entry(4, 4));
+
+        set.addEntries(merged);
+
+        assertEquals(8, set.getEntryCount());
+
+        float[] expectedX = new float[]{0, 1, 3, 3, 4, 5, 6, 7};
+        for (int i = 0; i < expectedX.length; i++)
+            assertEquals(expectedX[i], set.getEntryForIndex(i).getX(), 0.01f);
+
+        // same x-values are placed behind the existing ones
+        assertEquals(30f, set.getEntryForIndex(3).getY(), 0.01f);
+        assertEquals(30f, set.getYMax(), 0.01f);
+        assertEquals(3, set.getEntryIndex(3.5f, Float.NaN, DataSet.Rounding.DOWN));
+
+        FloatColumnDataSet columns = new FloatColumnDataSet(2, "");
+        columns.addEntries(new float[]{1, 3, 5}, new float[]{1, 3, 5});
+        columns.addEntries(new float[]{2, 6}, new float[]{-2, 6});
+
+        assertEquals(5, columns.getEntryCount());
+        assertEquals(2f, columns.getX(1), 0.01f);
+        assertEquals(-2f, columns.getY(1), 0.01f);
+        assertEquals(6f, columns.getX(4), 0.01f);
+        assertEquals(-2f, columns.getYMin(), 0.01f);
+        assertEquals(6f, columns.getYMax(), 0.01f);
+
+        try {
+            columns.addEntries(new float[]{2, 1}, new float[]{0, 0});
+            assertTrue(false);
+        } catch (IllegalArgumentException e) {
+            // not sorted
+        }
+
+        assertEquals(5, columns.getEntryCount());
+    }
 }
@@ -0,0 +1,367 @@
+package com.github.mikephil.charting.test;
+
+import android.graphics.Canvas;
+import android.graphics.Path;
+import android.graphics.RectF;
+
+import com.github.mikephil.charting.animation.ChartAnimator;
+import com.github.mikephil.charting.components.YAxis;
+import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.data.LineData;
+import com.github.mikephil.charting.data.LineDataSet;
+import com.github.mikephil.charting.interfaces.dataprovider.LineDataProvider;
+import com.github.mikephil.charting.interfaces.datasets.ILineDataSet;
+import com.github.mikephil.charting.renderer.LineChartRenderer;
+import com.github.mikephil.charting.utils.Transformer;
+import com.github.mikephil.charting.utils.Utils;
+import com.github.mikephil.charting.utils.ViewPortHandler;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.RETURNS_DEFAULTS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests when LineChartRenderer can draw onto the canvas of the chart directly, and when it
+ * has to fall back to the bitmap so that the result looks the same.
+ */
+public class DirectDrawTest {
+
+    private LineDataProvider mChart;
+    private TestRenderer mRenderer;
+
+    /**
+     * the draw calls on both canvases, in order
+     */
+    private List<DrawCall> mCalls = new ArrayList<>();
+
+    private Canvas mCanvas;
+    private Canvas mBitmapCanvas;
+
+    @Before
+    public void setUp() {
+
+        ViewPortHandler viewPortHandler = new ViewPortHandler();
+        viewPortHandler.setChartDimens(1080f, 1920f);
+
+        // the methods of RectF do nothing in unit tests, only its fields can be set
+        RectF content = viewPortHandler.getContentRect();
+        content.left = 0f;
+        content.top = 0f;
+        content.right = 1080f;
+        content.bottom = 1920f;
+
+        mChart = mock(LineDataProvider.class);
+        when(mChart.getTransformer(any(YAxis.AxisDependency.class)))
+                .thenReturn(new Transformer(viewPortHandler));
+        when(mChart.getLowestVisibleX()).thenReturn(0f);
+        when(mChart.getHighestVisibleX()).thenReturn(99f);
+
+        mCanvas = mock(Canvas.class, new DrawRecorder("chart"));
+        mBitmapCanvas = mock(Canvas.class, new DrawRecorder("bitmap"));
+
+        mRenderer = new TestRenderer(mChart, new ChartAnimator(), viewPortHandler, mBitmapCanvas);
+    }
+
+    @Test
+    public void testLinePathEffects() {
+
+        // software canvases always draw dashed lines
+        assertTrue(Utils.isLinePathEffectSupported(false, 9));
+        assertTrue(Utils.isLinePathEffectSupported(false, 27));
+
+        // hardware canvases ignore the dashes of drawLines(...) before API 28
+        assertFalse(Utils.isLinePathEffectSupported(true, 14));
+        assertFalse(Utils.isLinePathEffectSupported(true, 27));
+        assertTrue(Utils.isLinePathEffectSupported(true, 28));
+    }
+
+    @Test
+    public void testPathSize() {
+
+        assertTrue(Utils.isPathDrawable(1080f, 1920f, 4096, 4096));
+        assertTrue(Utils.isPathDrawable(4096f, 4096f, 4096, 4096));
+
+        // zoomed in far, the path extends far beyond the screen
+        assertFalse(Utils.isPathDrawable(50000f, 800f, 4096, 4096));
+        assertFalse(Utils.isPathDrawable(800f, 8192f, 4096, 4096));
+    }
+
+    @Test
+    public void testSameDrawCalls() {
+
+        LineDataSet linear = createDataSet("linear", LineDataSet.Mode.LINEAR);
+        linear.setDrawFilled(true);
+
+        LineDataSet dashed = createDataSet("dashed", LineDataSet.Mode.LINEAR);
+        dashed.enableDashedLine(10f, 5f, 0f);
+
+        LineDataSet cubic = createDataSet("cubic", LineDataSet.Mode.CUBIC_BEZIER);
+        cubic.setDrawFilled(true);
+
+        LineDataSet horizontal = createDataSet("horizontal", LineDataSet.Mode.HORIZONTAL_BEZIER);
+
+        LineDataSet stepped = createDataSet("stepped", LineDataSet.Mode.STEPPED);
+        stepped.setDrawFilled(true);
+
+        setData(new LineData(linear, dashed, cubic, horizontal, stepped));
+
+        List<DrawCall> bitmap = draw(false);
+        List<DrawCall> direct = draw(true);
+
+        // the dashed line and the bezier paths need the bitmap without direct draw
+        assertTrue(countOn("bitmap", bitmap) > 0);
+        assertEquals(0, countOn("bitmap", direct));
+
+        // the same paths, lines and paints are drawn in the same order, only onto another canvas
+        assertEquals(callsOf(bitmap), callsOf(direct));
+    }
+
+    @Test
+    public void testDashedLinesBelowApi28() {
+
+        LineDataSet dashed = createDataSet("dashed", LineDataSet.Mode.LINEAR);
+        dashed.enableDashedLine(10f, 5f, 0f);
+
+        setData(new LineData(dashed));
+
+        when(mCanvas.isHardwareAccelerated()).thenReturn(true);
+
+        // hardware accelerated canvases ignore the dashes before API 28
+        mRenderer.mSDKInt = 27;
+        List<DrawCall> fallback = draw(true);
+
+        assertTrue(countOn("bitmap", fallback) > 0);
+        assertEquals(0, countOn("chart", fallback));
+
+        mRenderer.mSDKInt = 28;
+        List<DrawCall> direct = draw(true);
+
+        assertEquals(0, countOn("bitmap", direct));
+        assertEquals(callsOf(fallback), callsOf(direct));
+
+        // software canvases draw dashes on every API level
+        when(mCanvas.isHardwareAccelerated()).thenReturn(false);
+        mRenderer.mSDKInt = 27;
+
+        assertEquals(0, countOn("bitmap", draw(true)));
+    }
+
+    @Test
+    public void testOversizedPaths() {
+
+        when(mCanvas.isHardwareAccelerated()).thenReturn(true);
+        when(mCanvas.getMaximumBitmapWidth()).thenReturn(4096);
+        when(mCanvas.getMaximumBitmapHeight()).thenReturn(4096);
+
+        RectF screen = createBounds(1080f, 1920f);
+        RectF zoomed = createBounds(50000f, 800f);
+
+        mRenderer.setDirectDrawEnabled(true);
+
+        assertTrue(mRenderer.canDrawDirectly(mCanvas, screen));
+
+        // a path larger than a texture is not drawn at all by a hardware accelerated canvas
+        assertFalse(mRenderer.canDrawDirectly(mCanvas, zoomed));
+
+        // software canvases draw paths of any size
+        when(mCanvas.isHardwareAccelerated()).thenReturn(false);
+        assertTrue(mRenderer.canDrawDirectly(mCanvas, zoomed));
+
+        mRenderer.setDirectDrawEnabled(false);
+        assertFalse(mRenderer.canDrawDirectly(mCanvas, screen));
+    }
+
+    @Test
+    public void testLegacyCubicFillHook() {
+
+        LineDataSet cubic = createDataSet("cubic", LineDataSet.Mode.CUBIC_BEZIER);
+        cubic.setDrawFilled(true);
+
+        setData(new LineData(cubic));
+
+        // the deprecated hook is called for the cached path as well
+        draw(false);
+        draw(false);
+
+        assertEquals(2, mRenderer.mLegacyCubicFills);
+    }
+
+    private LineDataSet createDataSet(String label, LineDataSet.Mode mode) {
+
+        List<Entry> entries = new ArrayList<>();
+
+        for (int i = 0; i < 100; i++)
+            entries.add(new Entry(i, (float) Math.sin(i * 0.1)));
+
+        LineDataSet set = new LineDataSet(entries, label);
+        set.setMode(mode);
+
+        return set;
+    }
+
+    private RectF createBounds(float width, float height) {
+
+        RectF bounds = mock(RectF.class);
+        when(bounds.width()).thenReturn(width);
+        when(bounds.height()).thenReturn(height);
+
+        return bounds;
+    }
+
+    private void setData(LineData data) {
+        when(mChart.getLineData()).thenReturn(data);
+        mRenderer.initBuffers();
+    }
+
+    /**
+     * Renders the data and returns the draw calls made on both canvases.
+     */
+    private List<DrawCall> draw(boolean directDraw) {
+
+        mCalls.clear();
+
+        mRenderer.setDirectDrawEnabled(directDraw);
+        mRenderer.drawData(mCanvas);
+
+        return new ArrayList<>(mCalls);
+    }
+
+    private static int countOn(String canvas, List<DrawCall> calls) {
+
+        int count = 0;
+
+        for (DrawCall call : calls) {
+            if (call.canvas.equals(canvas))
+                count++;
+        }
+
+        return count;
+    }
+
+    private static List<List<Object>> callsOf(List<DrawCall> calls) {
+
+        List<List<Object>> result = new ArrayList<>();
+
+        for (DrawCall call : calls)
+            result.add(call.call);
+
+        return result;
+    }
+
+    private static class DrawCall {
+
+        final String canvas;
+
+        /**
+         * the name of the method and its arguments, the used part of arrays is copied as the
+         * buffers are reused
+         */
+        final List<Object> call;
+
+        DrawCall(String canvas, List<Object> call) {
+            this.canvas = canvas;
+            this.call = call;
+        }
+    }
+
+    /**
+     * Records every draw call on a mocked canvas.
+     */
+    private class DrawRecorder implements Answer<Object> {
+
+        private final String mCanvasName;
+
+        DrawRecorder(String canvasName) {
+            mCanvasName = canvasName;
+        }
+
+        @Override
+        public Object answer(InvocationOnMock invocation) throws Throwable {
+
+            String name = invocation.getMethod().getName();
+
+            if (name.startsWith("draw")) {
+
+                Object[] arguments = invocation.getArguments();
+
+                List<Object> call = new ArrayList<>();
+                call.add(name);
+
+                for (int i = 0; i < arguments.length; i++) {
+
+                    if (arguments[i] instanceof float[]) {
+
+                        float[] values = (float[]) arguments[i];
+
+                        // drawLines(pts, offset, count, paint), the rest of the buffer is stale
+                        if (arguments.length == 4 && arguments[1] instanceof Integer) {
+                            int offset = (Integer) arguments[1];
+                            values = Arrays.copyOfRange(values, offset, offset + (Integer) arguments[2]);
+                        }
+
+                        call.add(Arrays.toString(values));
+                    } else {
+                        call.add(arguments[i]);
+                    }
+                }
+
+                mCalls.add(new DrawCall(mCanvasName, call));
+            }
+
+            return RETURNS_DEFAULTS.answer(invocation);
+        }
+    }
+
+    /**
+     * Draws into a mocked bitmap canvas and runs on the given API level.
+     */
+    private static class TestRenderer extends LineChartRenderer {
+
+        int mSDKInt = 27;
+
+        int mLegacyCubicFills = 0;
+
+        private final Canvas mTestBitmapCanvas;
+
+        TestRenderer(LineDataProvider chart, ChartAnimator animator,
+                     ViewPortHandler viewPortHandler, Canvas bitmapCanvas) {
+            super(chart, animator, viewPortHandler);
+            mTestBitmapCanvas = bitmapCanvas;
+        }
+
+        @Override
+        protected Canvas getBitmapCanvas() {
+            return mTestBitmapCanvas;
+        }
+
+        @Override
+        protected int getSDKInt() {
+            return mSDKInt;
+        }
+
+        @Override
+        @SuppressWarnings("deprecation")
+        protected void drawCubicFill(Canvas c, ILineDataSet dataSet, Path spline, Transformer trans,
+                                     XBounds bounds) {
+            mLegacyCubicFills++;
+            super.drawCubicFill(c, dataSet, spline, trans, bounds);
+        }
+
+        boolean canDrawDirectly(Canvas c, RectF bounds) {
+            return canDrawPathDirectly(c, bounds);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.github.mikephil.charting.test;
+
+import com.github.mikephil.charting.data.FloatColumnDataSet;
+import com.github.mikephil.charting.data.filter.DouglasPeuckerDownsampler;
+import com.github.mikephil.charting.data.filter.Downsampler;
+import com.github.mikephil.charting.data.filter.LttbDownsampler;
+import com.github.mikephil.charting.data.filter.MinMaxDownsampler;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertSame;
+import static junit.framework.Assert.assertTrue;
+
+public class DownsamplerTest {
+
+    private static FloatColumnDataSet createNoise(int count) {
+
+        Random random = new Random(3);
+
+        FloatColumnDataSet set = new FloatColumnDataSet(count, "");
+
+        for (int i = 0; i < count; i++)
+            set.addEntry(i, random.nextFloat() * 100f);
+
+        // a single spike that every filter should keep
+        set.addEntry(count, 1000f);
+        set.addEntry(count + 1, 50f);
+
+        return set;
+    }
+
+    private static void assertAscending(Downsampler downsampler, int from, int to) {
+
+        int[] indices = downsampler.getIndices();
+
+        assertEquals(from, indices[0]);
+        assertEquals(to, indices[downsampler.getCount() - 1]);
+
+        for (int i = 1; i < downsampler.getCount(); i++)
+            assertTrue(indices[i] > indices[i - 1]);
+    }
+
+    private static boolean contains(Downsampler downsampler, int index) {
+
+        for (int i = 0; i < downsampler.getCount(); i++) {
+            if (downsampler.getIndices()[i] == index)
+                return true;
+        }
+
+        return false;
+    }
+
+    @Test
+    public void testLttb() {
+
+        FloatColumnDataSet set = createNoise(10000);
+        Downsampler lttb = new LttbDownsampler();
+
+        assertEquals(500, lttb.downsample(set, 0, 10001, 500, 1f, 1f));
+        assertAscending(lttb, 0, 10001);
+        assertTrue(contains(lttb, 10000));
+
+        // fewer values than the target are all kept
+        assertEquals(11, lttb.downsample(set, 100, 110, 500, 1f, 1f));
+        assertAscending(lttb, 100, 110);
+    }
+
+    @Test
+    public void testMinMax() {
+
+        FloatColumnDataSet set = createNoise(10000);
+        Downsampler minMax = new MinMaxDownsampler();
+
+        int count = minMax.downsample(set, 0, 10001, minMax.getTargetCount(200f), 1f, 1f);
+
+        assertTrue(count <= 400);
+        assertAscending(minMax, 0, 10001);
+        assertTrue(contains(minMax, 10000));
+
+        // the global extremes of the interior are always kept
+        int min = 1;
+
+        for (int i = 1; i < 10001; i++) {
+            if (set.getY(i) < set.getY(min))
+                min = i;
+        }
+
+        assertTrue(contains(minMax, min));
+    }
+
+    @Test
+    public void testDouglasPeucker() {
+
+        FloatColumnDataSet line = new FloatColumnDataSet(1000, "");
+
+        for (int i = 0; i < 1000; i++)
+            line.addEntry(i, i < 500 ? i * 2f : 1000f - (i - 500));
+
+        DouglasPeuckerDownsampler dp = new DouglasPeuckerDownsampler();
+
+        // two straight parts, only the ends and the corner are left
+        assertEquals(3, dp.downsample(line, 0, 999, 10, 1f, 1f));
+        assertAscending(dp, 0, 999);
+        assertTrue(contains(dp, 500));
+
+        // the result is cached
+        int[] indices = dp.getIndices();
+        assertEquals(3, dp.downsample(line, 0, 999, 10, 1f, 1f));
+        assertSame(indices, dp.getIndices());
+
+        FloatColumnDataSet noise = createNoise(100000);
+
+        // deep enough for a recursive implementation to overflow the stack
+        int count = dp.downsample(noise, 0, 100001, 10, 1f, 1f);
+
+        assertTrue(count > 3);
+        assertAscending(dp, 0, 100001);
+        assertTrue(contains(dp, 100000));
+    }
+}
@@ -0,0 +1,116 @@
+package com.github.mikephil.charting.test;
+
+import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.data.EntryFeed;
+import com.github.mikephil.charting.data.ScatterData;
+import com.github.mikephil.charting.data.ScatterDataSet;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertTrue;
+
+public class EntryFeedTest {
+
+    @Test
+    public void testDrain() {
+
+        ScatterData data = new ScatterData(new ScatterDataSet(new ArrayList<Entry>(), ""),
+                new ScatterDataSet(new ArrayList<Entry>(), ""));
+
+        EntryFeed feed = new EntryFeed();
+
+        final AtomicInteger notified = new AtomicInteger();
+
+        feed.setOnPublishListener(new EntryFeed.OnPublishListener() {
+            @Override
+            public void onPublish(EntryFeed feed) {
+                notified.incrementAndGet();
+            }
+        });
+
+        List<Entry> batch = new ArrayList<Entry>();
+        batch.add(new Entry(1, 1));
+        batch.add(new Entry(2, 4));
+
+        feed.publish(0, batch);
+        feed.publish(1, new Entry(1, 2));
+
+        // only the first publish before a drain notifies
+        assertEquals(1, notified.get());
+        assertTrue(feed.hasPending());
+
+        int version = data.getVersion();
+
+        assertEquals(3, feed.drainTo(data));
+        data.notifyDataChanged();
+
+        assertFalse(feed.hasPending());
+        assertEquals(2, data.getDataSetByIndex(0).getEntryCount());
+        assertEquals(1, data.getDataSetByIndex(1).getEntryCount());
+        assertEquals(4f, data.getYMax(), 0.01f);
+        assertTrue(data.getVersion() != version);
+
+        feed.publish(0, new Entry(3, 3));
+        assertEquals(2, notified.get());
+        assertEquals(1, feed.drainTo(data));
+    }
+
+    @Test
+    public void testDrainSkipsInvalidIndex() {
+
+        ScatterData data = new ScatterData(new ScatterDataSet(new ArrayList<Entry>(), ""));
+
+        EntryFeed feed = new EntryFeed();
+
+        feed.publish(0, new Entry(1, 1));
+        feed.publish(3, new Entry(2, 2));
+        feed.publish(-1, new Entry(3, 3));
+        feed.publish(0, new Entry(4, 4));
+
+        // the batches with a bad index are dropped, the others are still added
+        assertEquals(2, feed.drainTo(data));
+        assertFalse(feed.hasPending());
+        assertEquals(2, data.getDataSetByIndex(0).getEntryCount());
+    }
+
+    @Test
+    public void testConcurrentPublish() throws InterruptedException {
+
+        ScatterData data = new ScatterData(new ScatterDataSet(new ArrayList<Entry>(), ""));
+
+        final EntryFeed feed = new EntryFeed();
+        final int producers = 4, perProducer = 1000;
+
+        Thread[] threads = new Thread[producers];
+
+        for (int t = 0; t < producers; t++) {
+            threads[t] = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    for (int i = 0; i < perProducer; i++)
+                        feed.publish(0, new Entry(i, i));
+                }
+            });
+            threads[t].start();
+        }
+
+        // drain while the producers are still publishing
+        int added = 0;
+
+        for (Thread thread : threads) {
+            added += feed.drainTo(data);
+            thread.join();
+        }
+
+        added += feed.drainTo(data);
+
+        assertEquals(producers * perProducer, added);
+        assertEquals(producers * perProducer, data.getDataSetByIndex(0).getEntryCount());
+    }
+}
@@ -0,0 +1,53 @@
+package com.github.mikephil.charting.test;
+
+import com.github.mikephil.charting.charts.LineChart;
+import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.data.LineData;
+import com.github.mikephil.charting.data.LineDataSet;
+import com.github.mikephil.charting.utils.ViewPortHandler;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static junit.framework.Assert.assertEquals;
+
+/**
+ * Tests that notifyDataAppended() keeps the visible x-range limits while following the tail.
+ */
+public class FollowTailTest {
+
+    @Test
+    public void testVisibleXRangeIsKept() {
+
+        LineChart chart = new LineChart(null);
+
+        List<Entry> entries = new ArrayList<>();
+
+        for (int i = 0; i <= 100; i++)
+            entries.add(new Entry(i, i % 10));
+
+        LineDataSet set = new LineDataSet(entries, "");
+
+        chart.setData(new LineData(set));
+        chart.setFollowTailEnabled(true);
+        chart.setVisibleXRange(10f, 50f);
+
+        for (int i = 101; i <= 1000; i++)
+            set.addEntry(new Entry(i, i % 10));
+
+        chart.notifyDataAppended();
+
+        // the same limits as if the range was set after the entries were appended
+        LineChart expected = new LineChart(null);
+        expected.setData(new LineData(set));
+        expected.setVisibleXRange(10f, 50f);
+
+        ViewPortHandler handler = chart.getViewPortHandler();
+
+        assertEquals(1000f, chart.getXAxis().mAxisRange, 0.001f);
+        assertEquals(expected.getViewPortHandler().getMinScaleX(), handler.getMinScaleX(), 0.001f);
+        assertEquals(expected.getViewPortHandler().getMaxScaleX(), handler.getMaxScaleX(), 0.001f);
+    }
+}
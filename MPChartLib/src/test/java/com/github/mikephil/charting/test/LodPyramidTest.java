@@ -0,0 +1,109 @@
+package com.github.mikephil.charting.test;
+
+import com.github.mikephil.charting.data.DataSet;
+import com.github.mikephil.charting.data.FloatColumnDataSet;
+import com.github.mikephil.charting.data.LodPyramid;
+import com.github.mikephil.charting.data.RingBufferDataSet;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertNull;
+import static junit.framework.Assert.assertTrue;
+
+public class LodPyramidTest {
+
+    @Test
+    public void testBucketsMatchEntries() {
+
+        Random random = new Random(7);
+        FloatColumnDataSet set = new FloatColumnDataSet("");
+
+        assertNull(set.getLodPyramid());
+        set.setLodEnabled(true);
+
+        for (int i = 0; i < 1000; i++)
+            set.addEntry(i, random.nextFloat() * 100f - 50f);
+
+        assertBuckets(set);
+
+        // appended after the pyramid was built
+        for (int i = 1000; i < 1500; i++)
+            set.addEntry(i, random.nextFloat() * 200f - 100f);
+
+        assertBuckets(set);
+
+        set.removeLast();
+        set.removeFirst();
+        assertBuckets(set);
+
+        // inserted in between, the pyramid is rebuilt
+        set.addEntryOrdered(700.5f, 1000f);
+        assertBuckets(set);
+
+        LodPyramid lod = set.getLodPyramid();
+
+        assertEquals(-1, lod.getLevel(4f));
+        assertEquals(0, lod.getLevel(8f));
+        assertEquals(0, lod.getLevel(15f));
+        assertEquals(1, lod.getLevel(16f));
+        assertEquals(lod.getLevelCount() - 1, lod.getLevel(1e9f));
+    }
+
+    @Test
+    public void testRingBuffer() {
+
+        Random random = new Random(3);
+        RingBufferDataSet set = new RingBufferDataSet(300, "");
+        set.setLodEnabled(true);
+
+        for (int i = 0; i < 2000; i++) {
+            set.addEntry(i, random.nextFloat());
+
+            // evicting the oldest entry updates the pyramid instead of rebuilding it
+            if (i % 97 == 0)
+                assertBuckets(set);
+        }
+
+        assertBuckets(set);
+    }
+
+    private static void assertBuckets(DataSet<?> set) {
+
+        LodPyramid lod = set.getLodPyramid();
+        FloatColumnDataSet columns = (FloatColumnDataSet) set;
+
+        for (int level = 0; level < lod.getLevelCount(); level++) {
+
+            final int lastBucket = lod.getBucket(level, set.getEntryCount() - 1);
+
+            for (int bucket = lod.getBucket(level, 0); bucket <= lastBucket; bucket++) {
+
+                final int first = lod.getFirstIndex(level, bucket);
+                final int last = lod.getLastIndex(level, bucket);
+
+                assertTrue(last - first < lod.getBucketSize(level));
+
+                float min = Float.MAX_VALUE, max = -Float.MAX_VALUE;
+                double sum = 0;
+
+                for (int i = first; i <= last; i++) {
+                    min = Math.min(min, columns.getY(i));
+                    max = Math.max(max, columns.getY(i));
+                    sum += columns.getY(i);
+                }
+
+                assertEquals(min, lod.getMin(level, bucket), 0f);
+                assertEquals(max, lod.getMax(level, bucket), 0f);
+                assertEquals(min, columns.getY(lod.getMinIndex(level, bucket)), 0f);
+                assertEquals(max, columns.getY(lod.getMaxIndex(level, bucket)), 0f);
+                assertEquals(sum / (last - first + 1), lod.getAverage(level, bucket), 0.001f);
+            }
+        }
+
+        assertEquals(0, lod.getBucket(lod.getLevelCount() - 1, 0) - lod.getBucket(lod.getLevelCount() - 1,
+                set.getEntryCount() - 1));
+    }
+}
@@ -0,0 +1,200 @@
+package com.github.mikephil.charting.test;
+
+import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.data.FloatColumnDataSet;
+import com.github.mikephil.charting.data.LineDataSet;
+import com.github.mikephil.charting.data.filter.M4Decimator;
+import com.github.mikephil.charting.interfaces.datasets.IDataSet;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertSame;
+import static junit.framework.Assert.assertTrue;
+
+public class M4DecimatorTest {
+
+    @Test
+    public void testDecimationMatchesUndecimatedLine() {
+
+        Random random = new Random(42);
+
+        List<Entry> entries = new ArrayList<Entry>();
+        float y = 0f;
+
+        for (int i = 0; i < 10000; i++) {
+            y += random.nextFloat() - 0.5f;
+            entries.add(new Entry(i * 0.5f, y));
+        }
+
+        LineDataSet set = new LineDataSet(entries, "");
+
+        // 5000 x-units on 317 pixels, starting at pixel 12.25
+        float scale = 317f / 5000f;
+        float offset = 12.25f;
+
+        M4Decimator decimator = new M4Decimator();
+        int count = decimator.decimate(set, 0, entries.size() - 1, scale, offset);
+
+        assertTrue(count <= 318 * 4);
+
+        int[] indices = new int[count];
+        System.arraycopy(decimator.getIndices(), 0, indices, 0, count);
+
+        int[] all = new int[entries.size()];
+        for (int i = 0; i < all.length; i++)
+            all[i] = i;
+
+        for (int i = 1; i < count; i++)
+            assertTrue(indices[i] > indices[i - 1]);
+
+        assertColumnsEqual(set, all, indices, scale, offset);
+    }
+
+    @Test
+    public void testDecimationOfColumnDataSet() {
+
+        FloatColumnDataSet set = new FloatColumnDataSet(1000, "");
+
+        for (int i = 0; i < 1000; i++)
+            set.addEntry(i, (float) Math.sin(i / 10f) * 100f);
+
+        int[] all = new int[1000];
+        for (int i = 0; i < all.length; i++)
+            all[i] = i;
+
+        M4Decimator decimator = new M4Decimator();
+        int count = decimator.decimate(set, 100, 899, 0.1f, 0f);
+
+        int[] indices = new int[count];
+        System.arraycopy(decimator.getIndices(), 0, indices, 0, count);
+
+        assertEquals(100, indices[0]);
+        assertEquals(899, indices[count - 1]);
+
+        int[] visible = new int[800];
+        System.arraycopy(all, 100, visible, 0, 800);
+
+        assertColumnsEqual(set, visible, indices, 0.1f, 0f);
+    }
+
+    @Test
+    public void testCachedResult() {
+
+        FloatColumnDataSet set = new FloatColumnDataSet(100, "");
+
+        for (int i = 0; i < 100; i++)
+            set.addEntry(i, i % 7);
+
+        M4Decimator decimator = new M4Decimator();
+
+        int count = decimator.decimate(set, 0, 99, 0.25f, 0f);
+        int[] indices = decimator.getIndices();
+
+        assertEquals(count, decimator.decimate(set, 0, 99, 0.25f, 0f));
+        assertSame(indices, decimator.getIndices());
+
+        // more pixels per value, more values are kept
+        int zoomedCount = decimator.decimate(set, 0, 99, 0.5f, 0f);
+        assertTrue(zoomedCount > count);
+
+        // zoomed in so far that every value has its own pixel column
+        assertEquals(100, decimator.decimate(set, 0, 99, 10f, 0f));
+
+        set.addEntry(100, 3);
+        assertEquals(101, decimator.decimate(set, 0, 100, 10f, 0f));
+    }
+
+    @Test
+    public void testValueChangedInPlace() {
+
+        List<Entry> entries = new ArrayList<Entry>();
+
+        for (int i = 0; i < 100; i++)
+            entries.add(new Entry(i, i == 5 ? 10f : 0f));
+
+        LineDataSet set = new LineDataSet(entries, "");
+
+        M4Decimator decimator = new M4Decimator();
+
+        // ten values per pixel column, only the first and last of the flat columns are kept
+        assertFalse(contains(decimator, decimator.decimate(set, 0, 99, 0.1f, 0f), 55));
+
+        // a new peak that changes neither the entry count nor the min and max of the DataSet
+        set.getEntryForIndex(55).setY(7f);
+        set.notifyDataSetChanged();
+
+        assertTrue(contains(decimator, decimator.decimate(set, 0, 99, 0.1f, 0f), 55));
+    }
+
+    private static boolean contains(M4Decimator decimator, int count, int index) {
+
+        for (int i = 0; i < count; i++) {
+            if (decimator.getIndices()[i] == index)
+                return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Compares the first, last, minimum and maximum y-value of every pixel column of the line
+     * through the given indices. If they are equal, both lines cover the same pixels.
+     */
+    private void assertColumnsEqual(IDataSet set, int[] expected, int[] actual, float scale, float offset) {
+
+        float[] expectedColumns = columns(set, expected, scale, offset);
+        float[] actualColumns = columns(set, actual, scale, offset);
+
+        assertEquals(expectedColumns.length, actualColumns.length);
+
+        for (int i = 0; i < expectedColumns.length; i++)
+            assertEquals(expectedColumns[i], actualColumns[i], 0f);
+    }
+
+    private float[] columns(IDataSet set, int[] indices, float scale, float offset) {
+
+        List<Float> result = new ArrayList<Float>();
+
+        int column = Integer.MIN_VALUE;
+        float first = 0f, last = 0f, min = 0f, max = 0f;
+
+        for (int index : indices) {
+
+            Entry e = set.getEntryForIndex(index);
+            int c = (int) Math.floor(e.getX() * scale + offset);
+
+            if (c != column) {
+                if (column != Integer.MIN_VALUE) {
+                    result.add((float) column);
+                    result.add(first);
+                    result.add(last);
+                    result.add(min);
+                    result.add(max);
+                }
+                column = c;
+                first = last = min = max = e.getY();
+            } else {
+                last = e.getY();
+                min = Math.min(min, e.getY());
+                max = Math.max(max, e.getY());
+            }
+        }
+
+        result.add((float) column);
+        result.add(first);
+        result.add(last);
+        result.add(min);
+        result.add(max);
+
+        float[] array = new float[result.size()];
+        for (int i = 0; i < array.length; i++)
+            array[i] = result.get(i);
+        return array;
+    }
+}
@@ -8,6 +8,9 @@ import org.junit.Test;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Created by otheruser on 6/28/16.
@@ -237,4 +240,160 @@ public class ObjectPoolTest {
 
     }
 
+    static class StressPoolable extends ObjectPool.Poolable{
+
+        final AtomicBoolean inUse = new AtomicBoolean(false);
+
+        protected ObjectPool.Poolable instantiate(){
+            return new StressPoolable();
+        }
+    }
+
+    private static final int THREADS = 8;
+    private static final int ITERATIONS = 20000;
+
+    /**
+     * Gets and recycles objects on several threads at once, half of them on a different thread than they were
+     * obtained on, and checks that no object is ever handed out twice.
+     */
+    private void stress(final ObjectPool<StressPoolable> pool) throws InterruptedException{
+
+        final ConcurrentLinkedQueue<StressPoolable> handOff = new ConcurrentLinkedQueue<>();
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        Thread[] threads = new Thread[THREADS];
+
+        for(int t = 0 ; t < THREADS ; t++){
+            threads[t] = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        List<StressPoolable> held = new ArrayList<>();
+
+                        for(int i = 0 ; i < ITERATIONS ; i++){
+
+                            for(int j = 0 ; j < 3 ; j++){
+                                StressPoolable p = pool.get();
+                                if(!p.inUse.compareAndSet(false, true)){
+                                    throw new AssertionError("object handed out twice");
+                                }
+                                held.add(p);
+                            }
+
+                            handOff.add(held.remove(0));
+
+                            StressPoolable other = handOff.poll();
+                            if(other != null){
+                                other.inUse.set(false);
+                                pool.recycle(other);
+                            }
+
+                            for(StressPoolable p : held){
+                                p.inUse.set(false);
+                            }
+                            pool.recycle(held);
+                            held.clear();
+                        }
+                    }catch (Throwable e){
+                        failure.compareAndSet(null, e);
+                    }
+                }
+            });
+            threads[t].start();
+        }
+
+        for(Thread thread : threads){
+            thread.join();
+        }
+
+        if(failure.get() != null){
+            throw new AssertionError(failure.get());
+        }
+
+        Assert.assertEquals((long) THREADS * ITERATIONS * 3, pool.getHitCount() + pool.getMissCount());
+        Assert.assertTrue(pool.getReplenishCount() >= 1);
+    }
+
+    @Test
+    public void testSynchronizedPoolStress() throws InterruptedException{
+        ObjectPool<StressPoolable> pool = ObjectPool.create(4, new StressPoolable());
+        pool.setReplenishPercentage(0.5f);
+
+        Assert.assertFalse(pool.isThreadLocal());
+        stress(pool);
+    }
+
+    @Test
+    public void testThreadLocalPoolStress() throws InterruptedException{
+        ObjectPool<StressPoolable> pool = ObjectPool.createThreadLocal(4, new StressPoolable());
+        pool.setReplenishPercentage(0.5f);
+
+        Assert.assertTrue(pool.isThreadLocal());
+        stress(pool);
+    }
+
+    @Test
+    public void testThreadLocalPoolCounters(){
+        ObjectPool<StressPoolable> pool = ObjectPool.createThreadLocal(2, new StressPoolable());
+
+        Assert.assertEquals(0, pool.getReplenishCount());
+
+        StressPoolable a = pool.get();
+        StressPoolable b = pool.get();
+
+        // the first get() fills the stripe of this thread, both objects come from it
+        Assert.assertEquals(2, pool.getHitCount());
+        Assert.assertEquals(0, pool.getMissCount());
+        Assert.assertEquals(1, pool.getReplenishCount());
+        Assert.assertEquals(0, pool.getPoolCount());
+
+        StressPoolable c = pool.get();
+
+        Assert.assertEquals(1, pool.getMissCount());
+        Assert.assertEquals(2, pool.getReplenishCount());
+
+        pool.recycle(a);
+        pool.recycle(b);
+        pool.recycle(c);
+
+        // the one left over from the second fill and the three recycled ones
+        Assert.assertEquals(4, pool.getPoolCount());
+
+        Exception e = null;
+        try{
+            pool.recycle(a);
+        }catch (IllegalArgumentException ex){
+            e = ex;
+        }
+        Assert.assertNotNull(e);
+    }
+
+    @Test
+    public void testThreadLocalPoolCountersOfTerminatedThreads() throws InterruptedException{
+        final ObjectPool<StressPoolable> pool = ObjectPool.createThreadLocal(2, new StressPoolable());
+
+        for(int t = 0 ; t < 10 ; t++){
+            Thread thread = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    for(int i = 0 ; i < 100 ; i++){
+                        pool.recycle(pool.get());
+                    }
+                }
+            });
+            thread.start();
+            thread.join();
+
+            // the stripes of the terminated threads may be collected at any time, their counts must not get lost
+            System.gc();
+
+            Assert.assertEquals((t + 1) * 100, pool.getHitCount() + pool.getMissCount());
+            Assert.assertEquals(t + 1, pool.getReplenishCount());
+        }
+
+        pool.get();
+
+        Assert.assertEquals(1001, pool.getHitCount() + pool.getMissCount());
+        Assert.assertEquals(11, pool.getReplenishCount());
+    }
 }
@@ -0,0 +1,311 @@
+package com.github.mikephil.charting.test;
+
+import android.graphics.Color;
+import android.os.Handler;
+
+import com.github.mikephil.charting.charts.LineChart;
+import com.github.mikephil.charting.charts.PieChart;
+import com.github.mikephil.charting.components.AxisBase;
+import com.github.mikephil.charting.components.LegendEntry;
+import com.github.mikephil.charting.components.YAxis;
+import com.github.mikephil.charting.data.ChartData;
+import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.data.LineData;
+import com.github.mikephil.charting.data.LineDataSet;
+import com.github.mikephil.charting.data.PieData;
+import com.github.mikephil.charting.data.PieDataSet;
+import com.github.mikephil.charting.data.PieEntry;
+import com.github.mikephil.charting.listener.OnDataPreparedListener;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertNull;
+import static junit.framework.Assert.assertSame;
+import static junit.framework.Assert.assertTrue;
+import static junit.framework.Assert.fail;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests Chart.setDataAsync(...): when prepared data is set or dropped, when the listener is
+ * called, and that the prepared axes and legend match those of setData(...).
+ */
+public class SetDataAsyncTest {
+
+    /**
+     * the tasks passed to the executor, run by the test
+     */
+    private List<Runnable> mTasks = new ArrayList<>();
+
+    /**
+     * the runnables posted to the main thread, run by the test
+     */
+    private List<Runnable> mPosted = new ArrayList<>();
+
+    /**
+     * the data the listener was called with, in order
+     */
+    private List<ChartData<?>> mPrepared = new ArrayList<>();
+
+    private Executor mExecutor = new Executor() {
+        @Override
+        public void execute(Runnable command) {
+            mTasks.add(command);
+        }
+    };
+
+    private OnDataPreparedListener mListener = new OnDataPreparedListener() {
+        @Override
+        public void onDataPrepared(ChartData<?> data) {
+            mPrepared.add(data);
+        }
+    };
+
+    private Handler mHandler;
+
+    @Before
+    public void setUp() {
+
+        mHandler = mock(Handler.class);
+
+        when(mHandler.post(any(Runnable.class))).thenAnswer(new Answer<Boolean>() {
+            @Override
+            public Boolean answer(InvocationOnMock invocation) throws Throwable {
+                mPosted.add((Runnable) invocation.getArguments()[0]);
+                return true;
+            }
+        });
+    }
+
+    @Test
+    public void testPreparedDataIsSet() {
+
+        LineChart chart = createLineChart();
+        LineData data = createLineData(0);
+
+        chart.setDataAsync(data, mExecutor, mListener);
+
+        assertEquals(1, mTasks.size());
+        assertEquals(0, mPosted.size());
+        assertNull(chart.getData());
+
+        runTasks();
+
+        // prepared, but not yet set on the main thread
+        assertEquals(1, mPosted.size());
+        assertNull(chart.getData());
+        assertEquals(0, mPrepared.size());
+
+        runPosted();
+
+        assertSame(data, chart.getData());
+        assertEquals(Arrays.<ChartData<?>>asList(data), mPrepared);
+    }
+
+    @Test
+    public void testSupersededDataIsDropped() {
+
+        LineChart chart = createLineChart();
+        LineData first = createLineData(0);
+        LineData second = createLineData(1);
+
+        chart.setDataAsync(first, mExecutor, mListener);
+        chart.setDataAsync(second, mExecutor, mListener);
+
+        runTasks();
+        runPosted();
+
+        assertSame(second, chart.getData());
+        assertEquals(Arrays.<ChartData<?>>asList(second), mPrepared);
+
+        // setData(...) supersedes data that is being prepared
+        LineData third = createLineData(2);
+        LineData fourth = createLineData(3);
+
+        chart.setDataAsync(third, mExecutor, mListener);
+        chart.setData(fourth);
+
+        runTasks();
+        runPosted();
+
+        assertSame(fourth, chart.getData());
+        assertEquals(1, mPrepared.size());
+
+        // and so does clear()
+        chart.setDataAsync(createLineData(4), mExecutor, mListener);
+        chart.clear();
+
+        runTasks();
+        runPosted();
+
+        assertNull(chart.getData());
+        assertEquals(1, mPrepared.size());
+    }
+
+    @Test
+    public void testAttachedDataIsRejected() {
+
+        LineChart chart = createLineChart();
+        LineData data = createLineData(0);
+
+        chart.setData(data);
+
+        try {
+            chart.setDataAsync(data, mExecutor, mListener);
+            fail("data that is set to the chart must be rejected");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+
+        try {
+            chart.setDataAsync(new LineData(data.getDataSetByIndex(0)), mExecutor, mListener);
+            fail("a DataSet of the data of the chart must be rejected");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+
+        assertEquals(0, mTasks.size());
+        assertSame(data, chart.getData());
+    }
+
+    @Test
+    public void testPreparedAxesAndLegend() {
+
+        LineChart async = createLineChart();
+        LineChart sync = createLineChart();
+
+        async.getAxisLeft().setLabelCount(8, true);
+        sync.getAxisLeft().setLabelCount(8, true);
+
+        async.setDataAsync(createLineData(0), mExecutor, mListener);
+        sync.setData(createLineData(0));
+
+        runTasks();
+
+        // the prepared axes are copies, the axes of the chart are untouched until it is set
+        assertEquals(0, async.getXAxis().mEntryCount);
+
+        runPosted();
+
+        assertAxisEquals(sync.getXAxis(), async.getXAxis());
+        assertAxisEquals(sync.getAxisLeft(), async.getAxisLeft());
+        assertAxisEquals(sync.getAxisRight(), async.getAxisRight());
+        assertLegendEquals(sync.getLegend().getEntries(), async.getLegend().getEntries());
+    }
+
+    @Test
+    public void testPreparedPieLegend() {
+
+        PieChart async = new PieChart(null) {
+            @Override
+            protected Handler getMainHandler() {
+                return mHandler;
+            }
+        };
+        PieChart sync = new PieChart(null);
+
+        async.setDataAsync(createPieData(), mExecutor, mListener);
+        sync.setData(createPieData());
+
+        runTasks();
+        runPosted();
+
+        // one entry per slice, and one for the label of the DataSet
+        assertEquals(101, async.getLegend().getEntries().length);
+        assertLegendEquals(sync.getLegend().getEntries(), async.getLegend().getEntries());
+    }
+
+    private void runTasks() {
+
+        List<Runnable> tasks = new ArrayList<>(mTasks);
+        mTasks.clear();
+
+        for (Runnable task : tasks)
+            task.run();
+    }
+
+    private void runPosted() {
+
+        List<Runnable> posted = new ArrayList<>(mPosted);
+        mPosted.clear();
+
+        for (Runnable r : posted)
+            r.run();
+    }
+
+    private LineChart createLineChart() {
+
+        return new LineChart(null) {
+            @Override
+            protected Handler getMainHandler() {
+                return mHandler;
+            }
+        };
+    }
+
+    private static LineData createLineData(int seed) {
+
+        List<Entry> left = new ArrayList<>();
+        List<Entry> right = new ArrayList<>();
+
+        for (int i = 0; i < 500; i++) {
+            left.add(new Entry(i, (float) Math.sin(i / 20f + seed) * 100f));
+            right.add(new Entry(i, i * (seed + 1)));
+        }
+
+        LineDataSet rightSet = new LineDataSet(right, "right");
+        rightSet.setAxisDependency(YAxis.AxisDependency.RIGHT);
+        rightSet.setColors(Color.RED, Color.GREEN, Color.BLUE);
+
+        return new LineData(new LineDataSet(left, "left"), rightSet);
+    }
+
+    private static PieData createPieData() {
+
+        List<PieEntry> entries = new ArrayList<>();
+        List<Integer> colors = new ArrayList<>();
+
+        for (int i = 0; i < 100; i++) {
+            entries.add(new PieEntry(i + 1, "slice " + i));
+            colors.add(i);
+        }
+
+        PieDataSet set = new PieDataSet(entries, "slices");
+        set.setColors(colors);
+
+        return new PieData(set);
+    }
+
+    private static void assertAxisEquals(AxisBase expected, AxisBase actual) {
+
+        assertEquals(expected.mAxisMinimum, actual.mAxisMinimum, 0f);
+        assertEquals(expected.mAxisMaximum, actual.mAxisMaximum, 0f);
+        assertEquals(expected.mDecimals, actual.mDecimals);
+        assertEquals(expected.mEntryCount, actual.mEntryCount);
+        assertTrue(actual.mEntryCount > 0);
+
+        for (int i = 0; i < actual.mEntryCount; i++)
+            assertEquals(expected.mEntries[i], actual.mEntries[i], 0f);
+    }
+
+    private static void assertLegendEquals(LegendEntry[] expected, LegendEntry[] actual) {
+
+        assertEquals(expected.length, actual.length);
+
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i].label, actual[i].label);
+            assertEquals(expected[i].form, actual[i].form);
+            assertEquals(expected[i].formColor, actual[i].formColor);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.github.mikephil.charting.test;
+
+import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.data.ScatterDataSet;
+import com.github.mikephil.charting.highlight.SpatialIndex;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertTrue;
+
+public class SpatialIndexTest {
+
+    @Test
+    public void testNearest() {
+
+        Random random = new Random(7);
+
+        List<Entry> entries = new ArrayList<Entry>();
+
+        for (int i = 0; i < 2000; i++) {
+            // clustered x-values, so that many entries share the same x-value
+            entries.add(new Entry(random.nextInt(50), random.nextFloat() * 1000f));
+        }
+
+        ScatterDataSet set = new ScatterDataSet(entries, "");
+        SpatialIndex index = new SpatialIndex(set);
+
+        assertEquals(2000, index.size());
+
+        float[][] scales = new float[][]{{1f, 1f}, {20f, 0.1f}, {-3f, 0.5f}};
+
+        for (float[] scale : scales) {
+            for (int q = 0; q < 200; q++) {
+
+                float x = random.nextFloat() * 60f - 5f;
+                float y = random.nextFloat() * 1200f - 100f;
+
+                int nearest = index.getNearest(x, y, scale[0], scale[1]);
+
+                assertEquals(bruteForce(set, x, y, scale[0], scale[1]),
+                        distance(set.getEntryForIndex(nearest), x, y, scale[0], scale[1]), 0.0001f);
+            }
+        }
+    }
+
+    @Test
+    public void testValidity() {
+
+        List<Entry> entries = new ArrayList<Entry>();
+        entries.add(new Entry(0, 0));
+        entries.add(new Entry(1, Float.NaN));
+        entries.add(new Entry(2, 5));
+
+        ScatterDataSet set = new ScatterDataSet(entries, "");
+        SpatialIndex index = new SpatialIndex(set);
+
+        // NaN values are left out
+        assertEquals(2, index.size());
+        assertEquals(2, index.getNearest(1.1f, 1000f, 1f, 1f));
+        assertTrue(index.isValid(set));
+
+        set.getEntryForIndex(0).setY(3);
+        set.notifyDataSetChanged();
+        assertFalse(index.isValid(set));
+
+        assertEquals(-1, new SpatialIndex(new ScatterDataSet(new ArrayList<Entry>(), ""))
+                .getNearest(0f, 0f, 1f, 1f));
+    }
+
+    private static float bruteForce(ScatterDataSet set, float x, float y, float scaleX, float scaleY) {
+
+        float best = Float.MAX_VALUE;
+
+        for (int i = 0; i < set.getEntryCount(); i++)
+            best = Math.min(best, distance(set.getEntryForIndex(i), x, y, scaleX, scaleY));
+
+        return best;
+    }
+
+    private static float distance(Entry e, float x, float y, float scaleX, float scaleY) {
+        float dx = (e.getX() - x) * scaleX;
+        float dy = (e.getY() - y) * scaleY;
+        return dx * dx + dy * dy;
+    }
+}
@@ -0,0 +1,76 @@
+package com.github.mikephil.charting.test;
+
+import android.graphics.Paint;
+
+import com.github.mikephil.charting.utils.TextMetricsCache;
+
+import org.junit.Test;
+
+import static junit.framework.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class TextMetricsCacheTest {
+
+    private static Paint createPaint(float textSize) {
+
+        Paint paint = mock(Paint.class);
+        when(paint.getTextSize()).thenReturn(textSize);
+        when(paint.getTextScaleX()).thenReturn(1f);
+        when(paint.measureText("12.5")).thenReturn(textSize * 2f);
+        when(paint.measureText("100")).thenReturn(textSize * 1.5f);
+
+        return paint;
+    }
+
+    @Test
+    public void testCachedWidth() {
+
+        TextMetricsCache cache = new TextMetricsCache(8);
+        Paint paint = createPaint(10f);
+
+        assertEquals(20f, cache.getWidth(paint, "12.5"));
+        assertEquals(20f, cache.getWidth(paint, "12.5"));
+        assertEquals(20f, cache.getWidth(paint, "12.5"));
+
+        verify(paint, times(1)).measureText("12.5");
+        assertEquals(2, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+
+        // a paint with a different text size is a different key
+        Paint larger = createPaint(20f);
+
+        assertEquals(40f, cache.getWidth(larger, "12.5"));
+        assertEquals(2, cache.size());
+
+        cache.clear();
+        assertEquals(0, cache.size());
+
+        assertEquals(20f, cache.getWidth(paint, "12.5"));
+        verify(paint, times(2)).measureText("12.5");
+    }
+
+    @Test
+    public void testEviction() {
+
+        TextMetricsCache cache = new TextMetricsCache(2);
+        Paint paint = createPaint(10f);
+
+        cache.getWidth(paint, "12.5");
+        cache.getWidth(paint, "100");
+
+        // "12.5" is now the most recently used one, "100" is evicted by the next text
+        cache.getWidth(paint, "12.5");
+        cache.getWidth(paint, "x");
+
+        assertEquals(2, cache.size());
+
+        cache.getWidth(paint, "12.5");
+        verify(paint, times(1)).measureText("12.5");
+
+        cache.getWidth(paint, "100");
+        verify(paint, times(2)).measureText("100");
+    }
+}